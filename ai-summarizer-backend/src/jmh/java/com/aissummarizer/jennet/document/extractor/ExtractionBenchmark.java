@@ -0,0 +1,109 @@
+package com.aissummarizer.jennet.document.extractor;
+
+import com.aissummarizer.jennet.config.PdfExtractionConfig;
+import com.aissummarizer.jennet.document.model.DocxDocumentContent;
+import com.aissummarizer.jennet.document.model.PdfDocumentContent;
+import com.aissummarizer.jennet.document.model.PptxDocumentContent;
+import com.aissummarizer.jennet.document.model.TxtDocumentContent;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the four document extractors over generated SMALL, MEDIUM and HUGE fixtures.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=ExtractionBenchmark}; the build adds the
+ * {@code gc} profiler (allocation rate) and {@code PeakHeapProfiler}. Fixtures are built once
+ * per trial and streamed from memory, as uploads reach the extractors.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExtractionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class TxtFixture {
+        @Param({"SMALL", "MEDIUM", "HUGE"})
+        public ExtractionFixtures.Size size;
+
+        final TxtDocumentExtractor extractor = new TxtDocumentExtractor();
+        byte[] bytes;
+
+        @Setup
+        public void setUp() {
+            bytes = ExtractionFixtures.txt(size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DocxFixture {
+        @Param({"SMALL", "MEDIUM", "HUGE"})
+        public ExtractionFixtures.Size size;
+
+        final DocxDocumentExtractor extractor = new DocxDocumentExtractor();
+        byte[] bytes;
+
+        @Setup
+        public void setUp() {
+            bytes = ExtractionFixtures.docx(size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PptxFixture {
+        @Param({"SMALL", "MEDIUM", "HUGE"})
+        public ExtractionFixtures.Size size;
+
+        final PptxDocumentExtractor extractor = new PptxDocumentExtractor();
+        byte[] bytes;
+
+        @Setup
+        public void setUp() {
+            bytes = ExtractionFixtures.pptx(size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PdfFixture {
+        @Param({"SMALL", "MEDIUM", "HUGE"})
+        public ExtractionFixtures.Size size;
+
+        ForkJoinPool pool;
+        PdfDocumentExtractor extractor;
+        byte[] bytes;
+
+        @Setup
+        public void setUp() {
+            // Production defaults: page rendering on, parallel extraction from 64 pages
+            pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            extractor = new PdfDocumentExtractor(new PdfExtractionConfig(), pool);
+            bytes = ExtractionFixtures.pdf(size);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public TxtDocumentContent txt(TxtFixture fixture) throws Exception {
+        return fixture.extractor.extract(new ByteArrayInputStream(fixture.bytes));
+    }
+
+    @Benchmark
+    public DocxDocumentContent docx(DocxFixture fixture) throws Exception {
+        return fixture.extractor.extract(new ByteArrayInputStream(fixture.bytes));
+    }
+
+    @Benchmark
+    public PptxDocumentContent pptx(PptxFixture fixture) throws Exception {
+        return fixture.extractor.extract(new ByteArrayInputStream(fixture.bytes));
+    }
+
+    @Benchmark
+    public PdfDocumentContent pdf(PdfFixture fixture) throws Exception {
+        return fixture.extractor.extract(new ByteArrayInputStream(fixture.bytes));
+    }
+}
@@ -0,0 +1,175 @@
+package com.aissummarizer.jennet.document.extractor;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.poi.sl.usermodel.PictureData;
+import org.apache.poi.util.Units;
+import org.apache.poi.xslf.usermodel.XMLSlideShow;
+import org.apache.poi.xslf.usermodel.XSLFPictureData;
+import org.apache.poi.xslf.usermodel.XSLFSlide;
+import org.apache.poi.xslf.usermodel.XSLFTextBox;
+import org.apache.poi.xwpf.usermodel.Document;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generates extraction fixtures in memory. Content is deterministic, so results of
+ * different runs are comparable.
+ */
+public final class ExtractionFixtures {
+
+    /**
+     * Fixture sizes. Every tenth paragraph group, slide or page carries an image.
+     */
+    public enum Size {
+        SMALL(20, 5, 5),
+        MEDIUM(500, 50, 50),
+        HUGE(10_000, 500, 1_000);
+
+        final int paragraphs;
+        final int slides;
+        final int pages;
+
+        Size(int paragraphs, int slides, int pages) {
+            this.paragraphs = paragraphs;
+            this.slides = slides;
+            this.pages = pages;
+        }
+    }
+
+    private static final String SENTENCE =
+            "Quarterly revenue grew while operating costs remained flat across all regions. ";
+    private static final byte[] CHART_PNG = chartPng();
+
+    private ExtractionFixtures() {
+    }
+
+    static byte[] txt(Size size) {
+        StringBuilder text = new StringBuilder();
+        for (int p = 0; p < size.paragraphs; p++) {
+            for (int line = 0; line < 4; line++) {
+                text.append("Paragraph ").append(p + 1).append(": ").append(SENTENCE).append('\n');
+            }
+            text.append('\n');
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] docx(Size size) {
+        try (XWPFDocument document = new XWPFDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int p = 0; p < size.paragraphs; p++) {
+                document.createParagraph().createRun()
+                        .setText("Paragraph " + (p + 1) + ": " + SENTENCE.repeat(4));
+                if (p % 50 == 0) {
+                    XWPFTable table = document.createTable(5, 4);
+                    for (int r = 0; r < 5; r++) {
+                        for (int c = 0; c < 4; c++) {
+                            table.getRow(r).getCell(c).setText("R" + r + "C" + c);
+                        }
+                    }
+                }
+                if (p % 100 == 0) {
+                    document.createParagraph().createRun().addPicture(new ByteArrayInputStream(CHART_PNG),
+                            Document.PICTURE_TYPE_PNG, "chart-" + p + ".png", Units.toEMU(200), Units.toEMU(150));
+                }
+            }
+            document.write(out);
+            return out.toByteArray();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to build DOCX fixture", e);
+        }
+    }
+
+    static byte[] pptx(Size size) {
+        try (XMLSlideShow ppt = new XMLSlideShow();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            XSLFPictureData chart = ppt.addPicture(CHART_PNG, PictureData.PictureType.PNG);
+            for (int s = 0; s < size.slides; s++) {
+                XSLFSlide slide = ppt.createSlide();
+                XSLFTextBox title = slide.createTextBox();
+                title.setAnchor(new Rectangle(50, 30, 600, 50));
+                title.setText("Slide " + (s + 1));
+                XSLFTextBox body = slide.createTextBox();
+                body.setAnchor(new Rectangle(50, 100, 600, 300));
+                body.setText(SENTENCE.repeat(6));
+                if (s % 10 == 0) {
+                    slide.createPicture(chart).setAnchor(new Rectangle(400, 300, 200, 150));
+                }
+            }
+            ppt.write(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte[] pdf(Size size) {
+        return pdf(size.pages);
+    }
+
+    static byte[] pdf(int pageCount) {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDImageXObject image = LosslessFactory.createFromImage(document, ImageIO.read(new ByteArrayInputStream(CHART_PNG)));
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+
+            for (int p = 0; p < pageCount; p++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.setLeading(12);
+                    content.newLineAtOffset(50, 740);
+                    for (int line = 0; line < 50; line++) {
+                        content.showText("Page " + (p + 1) + " line " + (line + 1) + ": " + SENTENCE.strip());
+                        content.newLine();
+                    }
+                    content.endText();
+                    if (p % 10 == 0) {
+                        content.drawImage(image, 100, 50, 200, 150);
+                    }
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] chartPng() {
+        BufferedImage chart = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = chart.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 400, 300);
+        g.setColor(Color.BLUE);
+        g.fillRect(50, 100, 60, 180);
+        g.fillRect(150, 50, 60, 230);
+        g.dispose();
+
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ImageIO.write(chart, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
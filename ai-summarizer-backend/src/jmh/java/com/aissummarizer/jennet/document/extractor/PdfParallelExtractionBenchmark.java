@@ -0,0 +1,56 @@
+package com.aissummarizer.jennet.document.extractor;
+
+import com.aissummarizer.jennet.config.PdfExtractionConfig;
+import com.aissummarizer.jennet.document.model.PdfDocumentContent;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential versus fork-join extraction of a PDF already on disk, on 50/200/1000-page
+ * fixtures where every tenth page embeds an image, so the render phase is exercised as well.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=PdfParallelExtractionBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PdfParallelExtractionBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int pages;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private ForkJoinPool pool;
+    private PdfDocumentExtractor extractor;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        PdfExtractionConfig config = new PdfExtractionConfig();
+        config.setParallelEnabled(parallel);
+        config.setParallelMinPages(1);
+        extractor = new PdfDocumentExtractor(config, pool);
+
+        file = Files.createTempFile("jennet-pdf-bench-", ".pdf");
+        Files.write(file, ExtractionFixtures.pdf(pages));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public PdfDocumentContent extract() throws Exception {
+        return extractor.extract(file);
+    }
+}
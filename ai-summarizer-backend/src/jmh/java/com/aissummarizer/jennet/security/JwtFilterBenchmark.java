@@ -0,0 +1,93 @@
+package com.aissummarizer.jennet.security;
+
+import com.aissummarizer.jennet.common.enums.Role;
+import com.aissummarizer.jennet.config.PrincipalCacheConfig;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT verification on the request path.
+ * <ul>
+ *   <li>{@code filterPath} - {@link JwtAuthFilter} end to end with a warm principal cache</li>
+ *   <li>{@code verify} - {@link JwtService#verify(String)} alone</li>
+ *   <li>{@code legacyTriplePass} - the previous filter path: three parser builds and HMAC checks,
+ *       one of them with a freshly derived key</li>
+ * </ul>
+ * Each is measured with the verified-token cache off and on.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=JwtFilterBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+    private static final String USER = "bench-user";
+
+    @Param({"false", "true"})
+    public boolean verifiedCache;
+
+    private final FilterChain chain = (request, response) -> { };
+
+    private JwtService jwtService;
+    private JwtAuthFilter filter;
+    private SecretKey legacyKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000, 604_800_000,
+                verifiedCache, 10_000, 300_000, new SimpleMeterRegistry());
+
+        // The principal is cached, so the repository is never reached
+        PrincipalCache principalCache = new PrincipalCache(new PrincipalCacheConfig(), new SimpleMeterRegistry());
+        principalCache.put(USER, "{noop}password", Role.ROLE_USER);
+        filter = new JwtAuthFilter(jwtService, new CustomUserDetailsService(null, principalCache));
+
+        legacyKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtService.generateAccessToken(USER);
+    }
+
+    @Benchmark
+    public Authentication filterPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public boolean legacyTriplePass() {
+        // JwtAuthFilter: extractUsername
+        String username = Jwts.parser().verifyWith(legacyKey).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+        // isTokenValid: extractUsername again, then isExpired with a key rebuilt by getKey()
+        boolean sameUser = username.equals(Jwts.parser().verifyWith(legacyKey).build()
+                .parseSignedClaims(token).getPayload().getSubject());
+        SecretKey rebuiltKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        boolean expired = Jwts.parser().verifyWith(rebuiltKey).build()
+                .parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return sameUser && !expired;
+    }
+}
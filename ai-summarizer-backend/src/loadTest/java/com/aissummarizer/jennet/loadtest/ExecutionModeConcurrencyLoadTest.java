@@ -0,0 +1,223 @@
+package com.aissummarizer.jennet.loadtest;
+
+import com.aissummarizer.jennet.config.ExecutorConfig;
+import com.aissummarizer.jennet.config.SummarizationJobConfig;
+import com.openai.client.OpenAIClient;
+import com.openai.client.okhttp.OpenAIOkHttpClient;
+import com.openai.models.chat.completions.ChatCompletionCreateParams;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the platform-thread and virtual-thread execution modes at the same submitted
+ * concurrency.
+ * <p>
+ * For every level in {@code loadtest.levels} both modes get a summarization executor from the
+ * real {@link ExecutorConfig#summarizationExecutor} bean method, sized to that level, and
+ * submit that many blocking OpenAI calls at once against a {@link StubOpenAiServer} with a
+ * fixed latency. Each run reports the calls the stub saw open at the same time, the platform
+ * threads started, and the peak heap and resident set size. A mode is saturated at a level
+ * once it can no longer hold every call open, fails to start a thread or misses the deadline;
+ * higher levels are skipped for that mode.
+ * <p>
+ * Keep the levels below the open-file limit: client and stub run in this JVM, so every open
+ * call costs two sockets. Tune with {@code -Dloadtest.levels} (comma separated) and
+ * {@code -Dloadtest.latencyMs}.
+ */
+class ExecutionModeConcurrencyLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionModeConcurrencyLoadTest.class);
+
+    private static final int[] LEVELS = Arrays.stream(System.getProperty("loadtest.levels", "50,100,200,400").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final long LATENCY_MS = Long.getLong("loadtest.latencyMs", 2000);
+    private static final long SAMPLE_INTERVAL_MS = 20;
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private static StubOpenAiServer stub;
+    private static OpenAIClient client;
+    private static ScheduledExecutorService sampler;
+
+    @BeforeAll
+    static void startStub() throws Exception {
+        stub = new StubOpenAiServer(LATENCY_MS).start();
+        client = OpenAIOkHttpClient.builder()
+                .apiKey("load-test")
+                .baseUrl(stub.baseUrl())
+                .maxRetries(0)
+                .timeout(Duration.ofMinutes(5))
+                .build();
+        // Its thread is started up front so it is not counted against either mode
+        sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.submit(() -> { }).get();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        sampler.shutdownNow();
+        client.close();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("both execution modes should be measured at the same submitted concurrency")
+    void executionModes_shouldBeComparedAtSameConcurrency() throws Exception {
+        // Given
+        List<RunStats> runs = new ArrayList<>();
+        boolean platformSaturated = false;
+        boolean virtualSaturated = false;
+
+        // When
+        for (int level : LEVELS) {
+            if (!platformSaturated) {
+                RunStats platform = run(false, level);
+                runs.add(platform);
+                platformSaturated = platform.saturated();
+            }
+            if (!virtualSaturated) {
+                RunStats virtual = run(true, level);
+                runs.add(virtual);
+                virtualSaturated = virtual.saturated();
+            }
+        }
+
+        // Then
+        StringBuilder report = new StringBuilder(String.format("%n%-9s %7s %7s %10s %14s %14s %11s %9s %10s%n",
+                "mode", "level", "peak", "completed", "threads(start)", "threads(peak)", "heap(MiB)", "rss(MiB)", "wall(ms)"));
+        for (RunStats run : runs) {
+            report.append(String.format("%-9s %7d %7d %10d %14d %14d %11d %9s %10d%s%n",
+                    run.virtual() ? "virtual" : "platform", run.level(), run.peakInFlight(), run.completed(),
+                    run.threadsStarted(), run.peakPlatformThreads(), run.peakHeapBytes() >> 20,
+                    run.peakRssBytes() < 0 ? "n/a" : String.valueOf(run.peakRssBytes() >> 20),
+                    run.wallMs(), run.saturated() ? "  saturated" : ""));
+        }
+        report.append(String.format("Calls held open before saturation: platform=%d, virtual=%d",
+                maxHeld(runs, false), maxHeld(runs, true)));
+        logger.info("Execution mode comparison at {} ms per call:{}", LATENCY_MS, report);
+
+        for (RunStats run : runs) {
+            if (!run.saturated()) {
+                assertEquals(run.level(), run.completed(), "every call should complete in " + run);
+            }
+        }
+    }
+
+    private RunStats run(boolean virtualThreads, int level) throws InterruptedException {
+        SummarizationJobConfig config = new SummarizationJobConfig();
+        config.setConcurrency(level);
+        config.setVirtualConcurrency(level);
+        config.setQueueCapacity(level);
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+
+        System.gc();
+        stub.resetStats();
+        THREADS.resetPeakThreadCount();
+        long startedBefore = THREADS.getTotalStartedThreadCount();
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicLong peakRss = new AtomicLong(-1);
+        ScheduledFuture<?> sampling = sampler.scheduleAtFixedRate(() -> {
+            peakHeap.accumulateAndGet(MEMORY.getHeapMemoryUsage().getUsed(), Math::max);
+            peakRss.accumulateAndGet(residentSetBytes(), Math::max);
+        }, 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        ThreadPoolTaskExecutor executor = new ExecutorConfig().summarizationExecutor(config, environment);
+        executor.afterPropertiesSet();
+
+        CountDownLatch done = new CountDownLatch(level);
+        boolean failed = false;
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < level; i++) {
+                executor.execute(() -> {
+                    try {
+                        client.chat().completions().create(ChatCompletionCreateParams.builder()
+                                .model("stub-model")
+                                .addUserMessage("Summarize this document.")
+                                .build());
+                    } catch (RuntimeException e) {
+                        logger.debug("Call failed: {}", e.getMessage());
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            failed = !done.await(LATENCY_MS * 10 + 60_000, TimeUnit.MILLISECONDS);
+        } catch (OutOfMemoryError | RuntimeException e) {
+            // Typically "unable to create native thread" or a rejected task
+            logger.warn("{} mode failed at {} concurrent calls: {}",
+                    virtualThreads ? "Virtual" : "Platform", level, e.toString());
+            failed = true;
+        } finally {
+            executor.shutdown();
+            sampling.cancel(false);
+        }
+        long wallMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        int peakInFlight = stub.getMaxInFlight();
+        boolean saturated = failed || peakInFlight < level;
+        return new RunStats(virtualThreads, level, peakInFlight, stub.getCompleted(),
+                THREADS.getTotalStartedThreadCount() - startedBefore, THREADS.getPeakThreadCount(),
+                peakHeap.get(), peakRss.get(), wallMs, saturated);
+    }
+
+    private static int maxHeld(List<RunStats> runs, boolean virtual) {
+        return runs.stream()
+                .filter(run -> run.virtual() == virtual && !run.saturated())
+                .mapToInt(RunStats::peakInFlight)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Current resident set size from {@code /proc/self/status}, or -1 where it is not available.
+     */
+    private static long residentSetBytes() {
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux
+        }
+        return -1;
+    }
+
+    private record RunStats(boolean virtual, int level, int peakInFlight, long completed, long threadsStarted,
+                            int peakPlatformThreads, long peakHeapBytes, long peakRssBytes, long wallMs,
+                            boolean saturated) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.aissummarizer.jennet.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side latency recorder for the load-test harness.
+ * <p>
+ * Latencies are counted into fixed millisecond buckets for the histogram and kept raw
+ * for exact percentiles; a run records at most a few hundred thousand samples, so the
+ * raw array stays small. Safe to record into from many threads at once.
+ */
+public class LatencyHistogram {
+
+    /** Upper bounds (inclusive, ms) of the histogram buckets; the last bucket is open-ended. */
+    private static final long[] BUCKET_BOUNDS_MS = {
+            5, 10, 25, 50, 100, 250, 500, 750, 1000, 1500, 2000, 3000, 5000, 10000, 30000
+    };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+    private final LongAdder errors = new LongAdder();
+    private long[] samplesNanos = new long[1024];
+    private int size;
+
+    public void record(long nanos) {
+        long millis = nanos / 1_000_000;
+        int bucket = Arrays.binarySearch(BUCKET_BOUNDS_MS, millis);
+        buckets.incrementAndGet(bucket >= 0 ? bucket : -bucket - 1);
+
+        synchronized (this) {
+            if (size == samplesNanos.length) {
+                samplesNanos = Arrays.copyOf(samplesNanos, size * 2);
+            }
+            samplesNanos[size++] = nanos;
+        }
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samplesNanos, size);
+        Arrays.sort(sorted);
+
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            histogram.put("<=" + BUCKET_BOUNDS_MS[i] + "ms", buckets.get(i));
+        }
+        histogram.put(">" + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1] + "ms", buckets.get(BUCKET_BOUNDS_MS.length));
+
+        double meanMs = sorted.length == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+        return new Snapshot(
+                sorted.length,
+                errors.sum(),
+                meanMs,
+                percentileMs(sorted, 0.50),
+                percentileMs(sorted, 0.90),
+                percentileMs(sorted, 0.95),
+                percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0,
+                histogram);
+    }
+
+    /** Nearest-rank percentile. */
+    private static double percentileMs(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+
+    public record Snapshot(
+            long count,
+            long errors,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            Map<String, Long> histogram
+    ) { }
+}
@@ -0,0 +1,149 @@
+package com.aissummarizer.jennet.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal stand-in for the OpenAI Chat Completions endpoint.
+ * <p>
+ * Every request is held open for a fixed latency, plus an optional uniform jitter, before a
+ * canned completion is returned, which mimics the slow, blocking upstream call the summarizer
+ * makes. Several canned completions are replayed round-robin. The server tracks how many
+ * requests are in flight so a harness can measure how many concurrent summaries a node keeps open.
+ */
+public class StubOpenAiServer implements AutoCloseable {
+
+    private static final String COMPLETION_JSON = """
+            {
+              "id": "chatcmpl-stub",
+              "object": "chat.completion",
+              "created": 1700000000,
+              "model": "stub-model",
+              "choices": [
+                {
+                  "index": 0,
+                  "finish_reason": "stop",
+                  "logprobs": null,
+                  "message": {
+                    "role": "assistant",
+                    "content": %s,
+                    "refusal": null
+                  }
+                }
+              ],
+              "usage": {
+                "prompt_tokens": 10,
+                "completion_tokens": 3,
+                "total_tokens": 13
+              }
+            }
+            """;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final List<byte[]> responses;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong served = new AtomicLong();
+
+    public StubOpenAiServer(long latencyMs) throws IOException {
+        this(latencyMs, 0, List.of("Stub summary."));
+    }
+
+    /**
+     * @param latencyMs   minimum time each request is held open
+     * @param jitterMs    up to this much extra latency, drawn uniformly per request
+     * @param completions assistant messages replayed in order, wrapping around
+     */
+    public StubOpenAiServer(long latencyMs, long jitterMs, List<String> completions) throws IOException {
+        if (completions.isEmpty()) {
+            throw new IllegalArgumentException("At least one canned completion is required");
+        }
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.responses = completions.stream().map(StubOpenAiServer::completionJson).toList();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // The stub itself must never be the bottleneck
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public StubOpenAiServer start() {
+        server.start();
+        return this;
+    }
+
+    /** Base URL to hand to the OpenAI client, e.g. {@code http://127.0.0.1:54321/v1}. */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    public int getInFlight() { return inFlight.get(); }
+    public int getMaxInFlight() { return maxInFlight.get(); }
+    public long getCompleted() { return completed.get(); }
+
+    public void resetStats() {
+        maxInFlight.set(0);
+        completed.set(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try (exchange) {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+
+            long jitter = jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0;
+            Thread.sleep(latencyMs + jitter);
+
+            byte[] response = responses.get((int) (served.getAndIncrement() % responses.size()));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+            completed.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static byte[] completionJson(String content) {
+        try {
+            return COMPLETION_JSON.formatted(MAPPER.writeValueAsString(content)).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode canned completion", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,402 @@
+package com.aissummarizer.jennet.loadtest;
+
+import com.aissummarizer.jennet.summarization.enums.SummarizationStage;
+import com.aissummarizer.jennet.summarization.service.SummarizationStageTimers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end throughput of one node: the full application on a random port, backed by H2 in
+ * PostgreSQL mode, with the OpenAI client pointed at a {@link StubOpenAiServer} that replays
+ * canned completions after a configurable latency.
+ * <p>
+ * Authenticated clients drive {@code POST /api/v1/documents/summarize} (multipart TXT upload)
+ * and {@code POST /api/v1/documents/summarize/custom-text} at a fixed concurrency. The report
+ * holds client-side latency histograms and throughput per endpoint, plus the server-side
+ * {@code summarization.stage} timers, so the time of a request can be split into extraction,
+ * prompt building, cache lookup, the model call and history recording. It is printed and
+ * written as text and JSON to {@code loadtest.reportDir}.
+ * <p>
+ * Tune with {@code -Dloadtest.concurrency}, {@code -Dloadtest.requests},
+ * {@code -Dloadtest.warmupRequests}, {@code -Dloadtest.latencyMs}, {@code -Dloadtest.jitterMs},
+ * {@code -Dloadtest.documentKb} and {@code -Dloadtest.customTextRatio}. The summary cache is
+ * disabled so every request reaches the stub.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.show-sql=false",
+                "logging.level.com.aissummarizer.jennet=WARN",
+                "jwt.secret=load-test-signing-secret-of-at-least-256-bits",
+                "ai.summarizer.api-key=load-test",
+                "ai.summarizer.provider.default-provider=openai",
+                "ai.summarizer.cache.enabled=false",
+                // The rollup SQL is PostgreSQL-only and would only add noise to the run
+                "ai.summarizer.usage-rollup.enabled=false"
+        })
+class SummarizeEndToEndLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 2000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("loadtest.warmupRequests", 100);
+    private static final long LATENCY_MS = Long.getLong("loadtest.latencyMs", 300);
+    private static final long JITTER_MS = Long.getLong("loadtest.jitterMs", 200);
+    private static final int DOCUMENT_KB = Integer.getInteger("loadtest.documentKb", 16);
+    private static final double CUSTOM_TEXT_RATIO =
+            Double.parseDouble(System.getProperty("loadtest.customTextRatio", "0.5"));
+    private static final Path REPORT_DIR = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+
+    private static final String USERNAME = "loadtest";
+    private static final String PASSWORD = "load-test-password";
+    private static final List<String> COMPLETIONS = List.of(
+            "The document describes a quarterly review of operations and lists the main risks.",
+            "Key points: revenue grew, costs were flat, and two projects were delayed to next quarter.",
+            "Summary: the text outlines a migration plan, its milestones and the owners of each step."
+    );
+    private static final String SENTENCE =
+            "The quarterly report covers revenue, operating costs, hiring and the status of open projects. ";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static StubOpenAiServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SummarizationStageTimers stageTimers;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @DynamicPropertySource
+    static void stubOpenAi(DynamicPropertyRegistry registry) throws IOException {
+        stub = new StubOpenAiServer(LATENCY_MS, JITTER_MS, COMPLETIONS).start();
+        registry.add("ai.summarizer.base-url", stub::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    @DisplayName("summarize endpoints should sustain the configured concurrency without errors")
+    void summarizeEndpoints_shouldSustainConcurrencyWithoutErrors() throws Exception {
+        // Given
+        String token = registerAndLogin();
+        String document = document(DOCUMENT_KB);
+        run(token, document, WARMUP_REQUESTS, new LatencyHistogram(), new LatencyHistogram());
+
+        Map<SummarizationStage, StageBaseline> baselines = new EnumMap<>(SummarizationStage.class);
+        for (SummarizationStage stage : SummarizationStage.values()) {
+            Timer timer = stageTimers.get(stage);
+            baselines.put(stage, new StageBaseline(timer.count(), timer.totalTime(TimeUnit.NANOSECONDS)));
+        }
+        stub.resetStats();
+
+        // When
+        LatencyHistogram upload = new LatencyHistogram();
+        LatencyHistogram customText = new LatencyHistogram();
+        long wallNanos = run(token, document, REQUESTS, upload, customText);
+
+        // Then
+        Map<String, Object> report = report(wallNanos, upload.snapshot(), customText.snapshot(), baselines);
+        writeReport(report);
+
+        assertEquals(0, upload.getErrors(), "upload requests failed");
+        assertEquals(0, customText.getErrors(), "custom-text requests failed");
+        assertEquals(REQUESTS, upload.snapshot().count() + customText.snapshot().count());
+        assertTrue(stub.getCompleted() >= REQUESTS, "every request should have reached the stub");
+    }
+
+    /**
+     * Sends {@code requests} requests from {@link #CONCURRENCY} workers and returns the wall time.
+     */
+    private long run(String token, String document, int requests,
+                     LatencyHistogram upload, LatencyHistogram customText) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < CONCURRENCY; w++) {
+                workers.execute(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        // Spreads custom-text requests evenly instead of randomly, so runs are repeatable
+                        boolean useCustomText = Math.floor((i + 1) * CUSTOM_TEXT_RATIO) > Math.floor(i * CUSTOM_TEXT_RATIO);
+                        String text = "request-" + i + " " + document;
+                        if (useCustomText) {
+                            send(customTextRequest(token, text), customText);
+                        } else {
+                            send(uploadRequest(token, "loadtest-" + i + ".txt", text), upload);
+                        }
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void send(HttpRequest request, LatencyHistogram histogram) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                histogram.record(System.nanoTime() - start);
+            } else {
+                histogram.recordError();
+            }
+        } catch (IOException e) {
+            histogram.recordError();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            histogram.recordError();
+        }
+    }
+
+    private HttpRequest uploadRequest(String token, String filename, String text) {
+        String boundary = "loadtest-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writePart(body, boundary, "userName", null, USERNAME);
+        writePart(body, boundary, "type", null, "BRIEF");
+        writePart(body, boundary, "file", filename, text);
+        body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return HttpRequest.newBuilder(uri("/api/v1/documents/summarize"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .timeout(Duration.ofMinutes(2))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private HttpRequest customTextRequest(String token, String text) {
+        String form = "userName=" + encode(USERNAME)
+                + "&type=BRIEF"
+                + "&customText=" + encode(text);
+
+        return HttpRequest.newBuilder(uri("/api/v1/documents/summarize/custom-text"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .timeout(Duration.ofMinutes(2))
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String name, String filename, String value) {
+        StringBuilder header = new StringBuilder("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append('"');
+        if (filename != null) {
+            header.append("; filename=\"").append(filename).append("\"\r\nContent-Type: text/plain");
+        }
+        header.append("\r\n\r\n");
+        body.writeBytes(header.toString().getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String registerAndLogin() throws IOException, InterruptedException {
+        String register = MAPPER.writeValueAsString(Map.of(
+                "username", USERNAME,
+                "password", PASSWORD,
+                "firstName", "Load",
+                "lastName", "Test",
+                "email", "loadtest@example.com"));
+        HttpResponse<String> registered = http.send(jsonRequest("/api/auth/register", register),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, registered.statusCode(), registered.body());
+
+        String login = MAPPER.writeValueAsString(Map.of("username", USERNAME, "password", PASSWORD));
+        HttpResponse<String> loggedIn = http.send(jsonRequest("/api/auth/login", login),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, loggedIn.statusCode(), loggedIn.body());
+
+        JsonNode data = MAPPER.readTree(loggedIn.body()).path("data");
+        return data.path("accessToken").asText();
+    }
+
+    private HttpRequest jsonRequest(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + port + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String document(int kilobytes) {
+        StringBuilder text = new StringBuilder(kilobytes * 1024);
+        int paragraph = 0;
+        while (text.length() < kilobytes * 1024) {
+            text.append("Paragraph ").append(++paragraph).append(". ");
+            text.append(SENTENCE.repeat(4)).append("\n\n");
+        }
+        return text.toString();
+    }
+
+    private Map<String, Object> report(long wallNanos, LatencyHistogram.Snapshot upload,
+                                       LatencyHistogram.Snapshot customText,
+                                       Map<SummarizationStage, StageBaseline> baselines) {
+        double wallSeconds = wallNanos / 1_000_000_000.0;
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("concurrency", CONCURRENCY);
+        config.put("requests", REQUESTS);
+        config.put("warmupRequests", WARMUP_REQUESTS);
+        config.put("stubLatencyMs", LATENCY_MS);
+        config.put("stubJitterMs", JITTER_MS);
+        config.put("documentKb", DOCUMENT_KB);
+        config.put("customTextRatio", CUSTOM_TEXT_RATIO);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        endpoints.put("/summarize", endpoint(upload, wallSeconds));
+        endpoints.put("/summarize/custom-text", endpoint(customText, wallSeconds));
+
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (SummarizationStage stage : SummarizationStage.values()) {
+            stages.put(stage.tagValue(), stage(stageTimers.get(stage), baselines.get(stage), wallSeconds));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("wallSeconds", wallSeconds);
+        report.put("throughputPerSecond", (upload.count() + customText.count()) / wallSeconds);
+        report.put("stubMaxInFlight", stub.getMaxInFlight());
+        report.put("endpoints", endpoints);
+        report.put("stages", stages);
+        return report;
+    }
+
+    private static Map<String, Object> endpoint(LatencyHistogram.Snapshot snapshot, double wallSeconds) {
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("count", snapshot.count());
+        endpoint.put("errors", snapshot.errors());
+        endpoint.put("throughputPerSecond", snapshot.count() / wallSeconds);
+        endpoint.put("meanMs", snapshot.meanMs());
+        endpoint.put("p50Ms", snapshot.p50Ms());
+        endpoint.put("p90Ms", snapshot.p90Ms());
+        endpoint.put("p95Ms", snapshot.p95Ms());
+        endpoint.put("p99Ms", snapshot.p99Ms());
+        endpoint.put("maxMs", snapshot.maxMs());
+        endpoint.put("histogram", snapshot.histogram());
+        return endpoint;
+    }
+
+    /**
+     * Count and mean cover the measured run only; percentiles and max come from the timer's
+     * decaying window, which also spans the warm-up when the run is short.
+     */
+    private static Map<String, Object> stage(Timer timer, StageBaseline baseline, double wallSeconds) {
+        long count = timer.count() - baseline.count();
+        double totalMs = (timer.totalTime(TimeUnit.NANOSECONDS) - baseline.totalNanos()) / 1_000_000.0;
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+
+        Map<String, Object> stage = new LinkedHashMap<>();
+        stage.put("count", count);
+        stage.put("throughputPerSecond", count / wallSeconds);
+        stage.put("totalMs", totalMs);
+        stage.put("meanMs", count == 0 ? 0 : totalMs / count);
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            stage.put("p" + Math.round(percentile.percentile() * 100) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+        }
+        stage.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+        return stage;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeReport(Map<String, Object> report) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("End-to-end summarize load test: %s", report.get("config")));
+        lines.add(String.format("wall %.1fs, throughput %.1f req/s, stub peak in flight %s",
+                (double) report.get("wallSeconds"), (double) report.get("throughputPerSecond"),
+                report.get("stubMaxInFlight")));
+
+        lines.add("");
+        lines.add(String.format("%-24s %8s %6s %9s %9s %9s %9s %9s %9s",
+                "endpoint", "count", "errors", "req/s", "mean", "p50", "p95", "p99", "max"));
+        Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) report.get("endpoints");
+        endpoints.forEach((name, e) -> lines.add(String.format("%-24s %8d %6d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f",
+                name, (long) e.get("count"), (long) e.get("errors"), (double) e.get("throughputPerSecond"),
+                (double) e.get("meanMs"), (double) e.get("p50Ms"), (double) e.get("p95Ms"),
+                (double) e.get("p99Ms"), (double) e.get("maxMs"))));
+
+        lines.add("");
+        lines.add(String.format("%-12s %8s %9s %11s %9s %9s %9s %9s",
+                "stage", "count", "mean", "total", "p50", "p95", "p99", "max"));
+        Map<String, Map<String, Object>> stages = (Map<String, Map<String, Object>>) report.get("stages");
+        stages.forEach((name, s) -> lines.add(String.format("%-12s %8d %9.2f %11.0f %9.2f %9.2f %9.2f %9.2f",
+                name, (long) s.get("count"), (double) s.get("meanMs"), (double) s.get("totalMs"),
+                (double) s.getOrDefault("p50Ms", 0.0), (double) s.getOrDefault("p95Ms", 0.0),
+                (double) s.getOrDefault("p99Ms", 0.0), (double) s.get("maxMs"))));
+
+        endpoints.forEach((name, e) -> {
+            lines.add("");
+            lines.add("latency histogram " + name);
+            ((Map<String, Long>) e.get("histogram")).forEach((bucket, count) ->
+                    lines.add(String.format("  %-10s %8d", bucket, count)));
+        });
+
+        String text = String.join(System.lineSeparator(), lines) + System.lineSeparator();
+        System.out.printf("%n%s%n", text);
+
+        Files.createDirectories(REPORT_DIR);
+        Files.writeString(REPORT_DIR.resolve("summarize-e2e.txt"), text);
+        MAPPER.writeValue(REPORT_DIR.resolve("summarize-e2e.json").toFile(), report);
+        System.out.printf("Report written to %s%n", REPORT_DIR.toAbsolutePath());
+    }
+
+    private record StageBaseline(long count, double totalNanos) {
+    }
+}
@@ -1,14 +1,20 @@
 package com.aissummarizer.jennet.apilog;
 
 import com.aissummarizer.jennet.apilog.dto.ApiUsageResponseDto;
+import com.aissummarizer.jennet.apilog.dto.ApiUsageRollupPage;
+import com.aissummarizer.jennet.apilog.enums.RollupGranularity;
 import com.aissummarizer.jennet.apilog.service.ApiUsageLogService;
+import com.aissummarizer.jennet.apilog.service.ApiUsageRollupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -16,11 +22,32 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ApiUsageController {
     private final ApiUsageLogService apiUsageLogService;
+    private final ApiUsageRollupService apiUsageRollupService;
 
     @GetMapping("/get-logs")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<List<ApiUsageResponseDto>> getAllLogs() {
-        List<ApiUsageResponseDto> list = apiUsageLogService.getAllLog();
+    public ResponseEntity<List<ApiUsageResponseDto>> getAllLogs(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        List<ApiUsageResponseDto> list = apiUsageLogService.getLogs(page, size);
         return ResponseEntity.ok(list);
     }
+
+    /**
+     * Aggregated usage per endpoint, method and user for dashboards.
+     * Times are ISO local date-times, e.g. {@code 2025-01-31T00:00:00}.
+     * Covers every user's traffic, so it is restricted to administrators.
+     */
+    @GetMapping("/rollups")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiUsageRollupPage> getRollups(
+            @RequestParam(value = "granularity", defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "endpoint", required = false) String endpoint,
+            @RequestParam(value = "userName", required = false) String userName,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        return ResponseEntity.ok(apiUsageRollupService.getRollups(granularity, from, to, endpoint, userName, page, size));
+    }
 }
@@ -0,0 +1,19 @@
+package com.aissummarizer.jennet.apilog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single API call waiting to be written to {@code api_usage_logs}.
+ * <p>
+ * Carries the authenticated user name only; the user row is resolved by the insert itself.
+ */
+public record ApiUsageLogEvent(
+        String userName,
+        String endpoint,
+        String httpMethod,
+        long requestSizeBytes,
+        long responseSizeBytes,
+        long processingTimeMs,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,22 @@
+package com.aissummarizer.jennet.apilog.dto;
+
+import com.aissummarizer.jennet.apilog.enums.RollupGranularity;
+
+import java.time.LocalDateTime;
+
+public record ApiUsageRollupDto(
+        RollupGranularity granularity,
+        LocalDateTime bucketStart,
+        String endpoint,
+        String httpMethod,
+        String userName,
+        long requestCount,
+        long avgProcessingMs,
+        long p50ProcessingMs,
+        long p95ProcessingMs,
+        long p99ProcessingMs,
+        long maxProcessingMs,
+        long requestBytes,
+        long responseBytes
+) {
+}
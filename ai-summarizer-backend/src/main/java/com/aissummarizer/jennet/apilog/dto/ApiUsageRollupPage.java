@@ -0,0 +1,15 @@
+package com.aissummarizer.jennet.apilog.dto;
+
+import java.util.List;
+
+/**
+ * One page of rollups together with the paging position.
+ */
+public record ApiUsageRollupPage(
+        List<ApiUsageRollupDto> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+}
@@ -13,7 +13,7 @@ import java.util.UUID;
  * Tracks user API usage for audit, analytics, or rate limiting.
  */
 @Entity
-@Table(name = "api_usage_logs")
+@Table(name = "api_usage_logs", indexes = @Index(name = "idx_api_usage_logs_created_at", columnList = "created_at"))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class ApiUsageLogEntity {
@@ -27,7 +27,7 @@ public class ApiUsageLogEntity {
         if (id == null) id = UUID.randomUUID().toString();
     }
 
-    @ManyToOne(optional = true)
+    @ManyToOne(fetch = FetchType.LAZY, optional = true)
     @JoinColumn(name = "user_id")
     private UserEntity user;
 
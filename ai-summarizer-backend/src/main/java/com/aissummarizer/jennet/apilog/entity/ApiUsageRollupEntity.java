@@ -0,0 +1,72 @@
+package com.aissummarizer.jennet.apilog.entity;
+
+import com.aissummarizer.jennet.apilog.enums.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregated API usage for one endpoint, method and user within a time bucket.
+ * <p>
+ * Rows are produced by {@code ApiUsageRollupServiceImpl} from {@code api_usage_logs};
+ * dashboards read these instead of scanning raw log rows.
+ */
+@Entity
+@Table(
+        name = "api_usage_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_api_usage_rollups_bucket",
+                columnNames = {"granularity", "bucket_start", "endpoint", "http_method", "user_name"}
+        ),
+        indexes = @Index(name = "idx_api_usage_rollups_granularity_bucket", columnList = "granularity, bucket_start")
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ApiUsageRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    /** Inclusive start of the bucket. */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false, length = 100)
+    private String endpoint;
+
+    @Column(name = "http_method", nullable = false)
+    private String httpMethod;
+
+    @Column(name = "user_name", nullable = false)
+    private String userName;
+
+    @Column(name = "request_count", nullable = false)
+    private long requestCount;
+
+    @Column(name = "total_processing_ms", nullable = false)
+    private long totalProcessingMs;
+
+    @Column(name = "p50_processing_ms", nullable = false)
+    private long p50ProcessingMs;
+
+    @Column(name = "p95_processing_ms", nullable = false)
+    private long p95ProcessingMs;
+
+    @Column(name = "p99_processing_ms", nullable = false)
+    private long p99ProcessingMs;
+
+    @Column(name = "max_processing_ms", nullable = false)
+    private long maxProcessingMs;
+
+    @Column(name = "request_bytes", nullable = false)
+    private long requestBytes;
+
+    @Column(name = "response_bytes", nullable = false)
+    private long responseBytes;
+}
@@ -0,0 +1,40 @@
+package com.aissummarizer.jennet.apilog.enums;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket size of an API usage rollup.
+ */
+public enum RollupGranularity {
+    MINUTE("minute", ChronoUnit.MINUTES),
+    HOUR("hour", ChronoUnit.HOURS),
+    DAY("day", ChronoUnit.DAYS);
+
+    private final String sqlUnit;
+    private final ChronoUnit unit;
+
+    RollupGranularity(String sqlUnit, ChronoUnit unit) {
+        this.sqlUnit = sqlUnit;
+        this.unit = unit;
+    }
+
+    /**
+     * Unit name understood by SQL {@code DATE_TRUNC}.
+     */
+    public String getSqlUnit() {
+        return sqlUnit;
+    }
+
+    public Duration getDuration() {
+        return unit.getDuration();
+    }
+
+    /**
+     * Start of the bucket containing the given time.
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
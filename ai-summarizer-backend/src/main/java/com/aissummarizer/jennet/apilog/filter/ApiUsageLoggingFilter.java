@@ -23,6 +23,7 @@ import java.io.IOException;
  * - timestamp
  * - total execution duration
  * - response status code
+ * - request and response body sizes, counted as the bytes stream through
  */
 @Component
 public class ApiUsageLoggingFilter extends OncePerRequestFilter {
@@ -41,9 +42,11 @@ public class ApiUsageLoggingFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         long start = System.currentTimeMillis();
+        RequestSizeWrapper requestSizeWrapper = new RequestSizeWrapper(request);
+        ResponseSizeWrapper responseSizeWrapper = new ResponseSizeWrapper(response);
 
         try {
-            filterChain.doFilter(request, response);
+            filterChain.doFilter(requestSizeWrapper, responseSizeWrapper);
         } finally {
             long durationMs = System.currentTimeMillis() - start;
 
@@ -58,9 +61,6 @@ public class ApiUsageLoggingFilter extends OncePerRequestFilter {
                 }
             }
 
-            RequestSizeWrapper requestSizeWrapper = new RequestSizeWrapper(request);
-            ResponseSizeWrapper responseSizeWrapper = new ResponseSizeWrapper(response);
-
             // Persist the log
             apiUsageLogService.log(
                     userName,
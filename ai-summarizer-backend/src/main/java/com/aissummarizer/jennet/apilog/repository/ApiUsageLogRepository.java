@@ -1,10 +1,18 @@
 package com.aissummarizer.jennet.apilog.repository;
 
 import com.aissummarizer.jennet.apilog.entity.ApiUsageLogEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 /**
  * Repository for API usage logging.
  */
 public interface ApiUsageLogRepository extends JpaRepository<ApiUsageLogEntity, String> {
+
+    /**
+     * Newest log rows first; returns a plain list so no count query is issued.
+     */
+    List<ApiUsageLogEntity> findAllByOrderByCreatedAtDesc(Pageable pageable);
 }
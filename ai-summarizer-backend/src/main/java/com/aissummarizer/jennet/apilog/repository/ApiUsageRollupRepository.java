@@ -0,0 +1,43 @@
+package com.aissummarizer.jennet.apilog.repository;
+
+import com.aissummarizer.jennet.apilog.entity.ApiUsageRollupEntity;
+import com.aissummarizer.jennet.apilog.enums.RollupGranularity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for aggregated API usage.
+ */
+public interface ApiUsageRollupRepository extends JpaRepository<ApiUsageRollupEntity, Long> {
+
+    /**
+     * Rollups of one granularity in {@code [from, to)}, optionally narrowed to an endpoint or user.
+     */
+    @Query("""
+            SELECT r FROM ApiUsageRollupEntity r
+            WHERE r.granularity = :granularity
+              AND r.bucketStart >= :from AND r.bucketStart < :to
+              AND (:endpoint IS NULL OR r.endpoint = :endpoint)
+              AND (:userName IS NULL OR r.userName = :userName)
+            """)
+    Page<ApiUsageRollupEntity> findRollups(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("endpoint") String endpoint,
+            @Param("userName") String userName,
+            Pageable pageable
+    );
+
+    /**
+     * Start of the newest bucket already rolled up; the incremental watermark.
+     */
+    @Query("SELECT MAX(r.bucketStart) FROM ApiUsageRollupEntity r WHERE r.granularity = :granularity")
+    Optional<LocalDateTime> findLatestBucketStart(@Param("granularity") RollupGranularity granularity);
+}
@@ -2,7 +2,6 @@ package com.aissummarizer.jennet.apilog.service;
 
 import com.aissummarizer.jennet.apilog.dto.ApiUsageResponseDto;
 import com.aissummarizer.jennet.apilog.entity.ApiUsageLogEntity;
-import com.aissummarizer.jennet.user.entity.UserEntity;
 
 import java.util.List;
 
@@ -22,6 +21,7 @@ public interface ApiUsageLogService {
 
     /**
      * A convenience method for logging API usage without manually building the entity.
+     * The entry is queued and written asynchronously in batches.
      *
      * @param userName            userName of the user (nullable)
      * @param endpoint          the HTTP endpoint accessed
@@ -39,5 +39,12 @@ public interface ApiUsageLogService {
             long processingTimeMs
     );
 
-    List<ApiUsageResponseDto> getAllLog();
+    /**
+     * Returns one page of raw log entries, newest first.
+     *
+     * @param page zero-based page index
+     * @param size page size
+     * @return log entries of the requested page
+     */
+    List<ApiUsageResponseDto> getLogs(int page, int size);
 }
\ No newline at end of file
@@ -1,18 +1,17 @@
 package com.aissummarizer.jennet.apilog.service;
 
+import com.aissummarizer.jennet.apilog.dto.ApiUsageLogEvent;
 import com.aissummarizer.jennet.apilog.dto.ApiUsageResponseDto;
 import com.aissummarizer.jennet.apilog.entity.ApiUsageLogEntity;
 import com.aissummarizer.jennet.apilog.repository.ApiUsageLogRepository;
-import com.aissummarizer.jennet.user.entity.UserEntity;
-import com.aissummarizer.jennet.user.repository.UserRepository;
-import com.aissummarizer.jennet.user.service.UserService;
+import com.aissummarizer.jennet.common.exception.BadRequestException;
 import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -22,15 +21,17 @@ import java.util.stream.Collectors;
 /**
  * Implementation of the API usage logging service.
  * <p>
- * Stores metadata of every request into the database.
+ * Stores metadata of every request into the database. Per-request logging goes through
+ * {@link ApiUsageLogWriter}, which batches inserts off the request thread.
  */
 @Service
 @AllArgsConstructor
 public class ApiUsageLogServiceImpl implements ApiUsageLogService {
 
     private static final Logger logger = LoggerFactory.getLogger(ApiUsageLogServiceImpl.class);
-    private final UserRepository userRepository;
+    private static final int MAX_PAGE_SIZE = 1000;
     private final ApiUsageLogRepository apiUsageLogRepository;
+    private final ApiUsageLogWriter apiUsageLogWriter;
 
     @Override
     public void log(ApiUsageLogEntity log) {
@@ -52,42 +53,37 @@ public class ApiUsageLogServiceImpl implements ApiUsageLogService {
             long responseSizeBytes,
             long processingTimeMs
     ) {
+        // The user row is resolved by the batched insert, not looked up here
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UserEntity user = null;
-        if (authentication != null && authentication.isAuthenticated() && authentication.getName() != null) {
-            try {
-                user = userRepository.findByUserName(authentication.getName()).orElse(null);
-            } catch (Exception e) {
-                // If user lookup fails, keep user null and continue logging
-                logger.debug("Could not resolve user for authentication name '{}': {}", authentication.getName(), e.getMessage());
-            }
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken) && authentication.getName() != null) {
+            userName = authentication.getName();
         }
 
-        ApiUsageLogEntity log = ApiUsageLogEntity.builder()
-                .user(user)
-                .userName(user == null ? "Unknown" : user.getUserName())
-                .endpoint(endpoint)
-                .httpMethod(httpMethod)
-                .requestSizeBytes(requestSizeBytes)
-                .responseSizeBytes(responseSizeBytes)
-                .processingTimeMs(processingTimeMs)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        // Delegate to main log() method
-        apiUsageLogRepository.save(log);
-        logger.debug("API log created via helper method for endpoint: {}", endpoint);
+        apiUsageLogWriter.submit(new ApiUsageLogEvent(
+                userName,
+                endpoint,
+                httpMethod,
+                requestSizeBytes,
+                responseSizeBytes,
+                processingTimeMs,
+                LocalDateTime.now()
+        ));
     }
 
     @Override
-    public List<ApiUsageResponseDto> getAllLog() {
-        List<ApiUsageLogEntity> entities = apiUsageLogRepository.findAll();
+    public List<ApiUsageResponseDto> getLogs(int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new BadRequestException("Page must be >= 0 and size must be >= 1");
+        }
+        List<ApiUsageLogEntity> entities = apiUsageLogRepository.findAllByOrderByCreatedAtDesc(
+                PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE)));
         return entities.stream()
                 .map(
                     i -> new ApiUsageResponseDto(
                             i.getEndpoint(),
                             i.getHttpMethod(),
-                            i.getUser() == null ? "Unknown" : i.getUser().getUserName(),
+                            i.getUserName() == null ? "Unknown" : i.getUserName(),
                             i.getProcessingTimeMs(),
                             i.getCreatedAt()
                     )
@@ -0,0 +1,241 @@
+package com.aissummarizer.jennet.apilog.service;
+
+import com.aissummarizer.jennet.apilog.dto.ApiUsageLogEvent;
+import com.aissummarizer.jennet.config.ApiUsageLogConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer for API usage logs.
+ * <p>
+ * Events are queued without touching the database and inserted by one writer thread
+ * using JDBC batch statements. The owning user is resolved inside the insert with a
+ * sub-select on {@code users.user_name}, so logging costs no extra round trip per request.
+ * Remaining events are flushed when the application shuts down; events submitted while
+ * or after the writer stops are written on the caller thread.
+ */
+@Component
+public class ApiUsageLogWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiUsageLogWriter.class);
+    private static final int MAX_ENDPOINT_LENGTH = 100;
+    private static final String INSERT_SQL = """
+            INSERT INTO api_usage_logs (id, user_id, user_name, endpoint, http_method,
+                request_size_bytes, response_size_bytes, processing_time_ms, response_time_ms,
+                success, timestamp, created_at)
+            VALUES (?, (SELECT u.id FROM users u WHERE u.user_name = ?), ?, ?, ?, ?, ?, ?, 0, false, ?, ?)
+            """;
+
+    private final ApiUsageLogConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ApiUsageLogEvent> queue;
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter callerRuns;
+    private final Counter written;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private volatile boolean stopping;
+    private Thread worker;
+
+    public ApiUsageLogWriter(ApiUsageLogConfig config, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+
+        this.queued = events(meterRegistry, "queued");
+        this.dropped = events(meterRegistry, "dropped");
+        this.callerRuns = events(meterRegistry, "caller_runs");
+        this.written = events(meterRegistry, "written");
+        this.failed = events(meterRegistry, "failed");
+        Gauge.builder("api.usage.log.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hand an event to the writer. Never blocks; a full queue is handled according to
+     * {@link ApiUsageLogConfig#getOverflowPolicy()}. Once the writer is stopping the event
+     * is written synchronously.
+     *
+     * @param event the usage event
+     */
+    public void submit(ApiUsageLogEvent event) {
+        if (!config.isAsyncEnabled() || stopping) {
+            write(List.of(event));
+            return;
+        }
+        if (queue.offer(event)) {
+            queued.increment();
+            if (stopping) {
+                // stop() began after the check above and may already have drained the queue
+                drainRemaining();
+            }
+            return;
+        }
+
+        if (config.getOverflowPolicy() == ApiUsageLogConfig.OverflowPolicy.CALLER_RUNS) {
+            callerRuns.increment();
+            write(List.of(event));
+        } else {
+            dropped.increment();
+            logger.debug("Usage log queue full, dropped event for endpoint: {}", event.endpoint());
+        }
+    }
+
+    @Override
+    public void start() {
+        stopping = false;
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("api-usage-log-writer")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        stopping = true;
+        running = false;
+        if (worker != null) {
+            // The loop notices the flag within one flush interval; no interrupt, so an
+            // in-flight JDBC batch is never cut off
+            try {
+                worker.join(config.getFlushIntervalMs() + TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Events queued by requests that raced with the worker's final drain
+        drainRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server so requests that are still completing can log.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void drainLoop() {
+        List<ApiUsageLogEvent> batch = new ArrayList<>(config.getMaxBatchSize());
+        try {
+            while (running) {
+                fillBatch(batch);
+                flush(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flush(batch);
+            drainRemaining();
+        }
+    }
+
+    private void drainRemaining() {
+        List<ApiUsageLogEvent> batch = new ArrayList<>(config.getMaxBatchSize());
+        while (queue.drainTo(batch, config.getMaxBatchSize()) > 0) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * Wait for the first event, then keep collecting until the batch is full or the flush
+     * interval since that first event has passed.
+     */
+    private void fillBatch(List<ApiUsageLogEvent> batch) throws InterruptedException {
+        ApiUsageLogEvent first = queue.poll(config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMs());
+        int maxBatchSize = config.getMaxBatchSize();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            ApiUsageLogEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<ApiUsageLogEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        write(batch);
+        batch.clear();
+    }
+
+    private void write(List<ApiUsageLogEvent> events) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ApiUsageLogEvent event = events.get(i);
+                    Timestamp createdAt = Timestamp.valueOf(event.createdAt());
+                    ps.setString(1, UUID.randomUUID().toString());
+                    ps.setString(2, event.userName());
+                    ps.setString(3, event.userName() == null ? "Unknown" : event.userName());
+                    ps.setString(4, truncate(event.endpoint()));
+                    ps.setString(5, event.httpMethod());
+                    ps.setLong(6, event.requestSizeBytes());
+                    ps.setLong(7, event.responseSizeBytes());
+                    ps.setLong(8, event.processingTimeMs());
+                    ps.setTimestamp(9, createdAt);
+                    ps.setTimestamp(10, createdAt);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return events.size();
+                }
+            });
+            written.increment(events.size());
+            logger.debug("Wrote {} API usage log entries", events.size());
+        } catch (Exception e) {
+            failed.increment(events.size());
+            logger.warn("Failed to write {} API usage log entries: {}", events.size(), e.getMessage());
+        }
+    }
+
+    private static String truncate(String endpoint) {
+        return endpoint.length() <= MAX_ENDPOINT_LENGTH ? endpoint : endpoint.substring(0, MAX_ENDPOINT_LENGTH);
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("api.usage.log.events")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.aissummarizer.jennet.apilog.service;
+
+import com.aissummarizer.jennet.apilog.enums.RollupGranularity;
+import com.aissummarizer.jennet.config.ApiUsageRollupConfig;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodically advances the API usage rollups and applies retention.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiUsageRollupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiUsageRollupScheduler.class);
+
+    private final ApiUsageRollupConfig config;
+    private final ApiUsageRollupService rollupService;
+
+    @Scheduled(
+            initialDelayString = "${ai.summarizer.usage-rollup.interval-ms:60000}",
+            fixedDelayString = "${ai.summarizer.usage-rollup.interval-ms:60000}"
+    )
+    public void run() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            try {
+                rollupService.rollUp(granularity, now);
+            } catch (Exception e) {
+                // Another node may have rolled up the same buckets (unique constraint); retry next run
+                logger.warn("API usage rollup failed for {}: {}", granularity, e.getMessage());
+            }
+        }
+
+        try {
+            rollupService.applyRetention(now);
+        } catch (Exception e) {
+            logger.warn("API usage retention failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.aissummarizer.jennet.apilog.service;
+
+import com.aissummarizer.jennet.apilog.dto.ApiUsageRollupPage;
+import com.aissummarizer.jennet.apilog.enums.RollupGranularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maintains and queries time-bucketed aggregates of API usage.
+ */
+public interface ApiUsageRollupService {
+
+    /**
+     * Aggregates every closed bucket of the given granularity that has not been rolled up yet.
+     *
+     * @param granularity bucket size
+     * @param now         current time; buckets ending after {@code now - lateness} stay open
+     * @return number of rollup rows written
+     */
+    int rollUp(RollupGranularity granularity, LocalDateTime now);
+
+    /**
+     * Deletes raw log rows and rollups that are past their retention.
+     * Raw rows are only deleted once they are covered by a day rollup.
+     *
+     * @param now current time
+     */
+    void applyRetention(LocalDateTime now);
+
+    /**
+     * Returns rollups of one granularity whose bucket starts in {@code [from, to)}, oldest first.
+     *
+     * @param granularity bucket size
+     * @param from        inclusive range start
+     * @param to          exclusive range end
+     * @param endpoint    endpoint filter (nullable)
+     * @param userName    user filter (nullable)
+     * @param page        zero-based page index
+     * @param size        page size, capped by configuration
+     * @return requested page
+     */
+    ApiUsageRollupPage getRollups(
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to,
+            String endpoint,
+            String userName,
+            int page,
+            int size
+    );
+}
@@ -0,0 +1,163 @@
+package com.aissummarizer.jennet.apilog.service;
+
+import com.aissummarizer.jennet.apilog.dto.ApiUsageRollupDto;
+import com.aissummarizer.jennet.apilog.dto.ApiUsageRollupPage;
+import com.aissummarizer.jennet.apilog.entity.ApiUsageRollupEntity;
+import com.aissummarizer.jennet.apilog.enums.RollupGranularity;
+import com.aissummarizer.jennet.apilog.repository.ApiUsageRollupRepository;
+import com.aissummarizer.jennet.common.exception.BadRequestException;
+import com.aissummarizer.jennet.config.ApiUsageRollupConfig;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Rolls raw {@code api_usage_logs} rows up into {@code api_usage_rollups}.
+ * <p>
+ * Each granularity is aggregated straight from raw rows with one INSERT ... SELECT, so
+ * percentiles are exact rather than merged from smaller buckets. The newest rolled-up
+ * bucket is the watermark: each run only covers buckets after it that are already closed.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApiUsageRollupServiceImpl implements ApiUsageRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiUsageRollupServiceImpl.class);
+
+    private static final String ROLLUP_SQL_TEMPLATE = """
+            INSERT INTO api_usage_rollups (granularity, bucket_start, endpoint, http_method, user_name,
+                request_count, total_processing_ms, p50_processing_ms, p95_processing_ms, p99_processing_ms,
+                max_processing_ms, request_bytes, response_bytes)
+            SELECT ?, DATE_TRUNC('%1$s', l.created_at), l.endpoint, l.http_method, COALESCE(l.user_name, 'Unknown'),
+                COUNT(*),
+                SUM(l.processing_time_ms),
+                PERCENTILE_DISC(0.5) WITHIN GROUP (ORDER BY l.processing_time_ms),
+                PERCENTILE_DISC(0.95) WITHIN GROUP (ORDER BY l.processing_time_ms),
+                PERCENTILE_DISC(0.99) WITHIN GROUP (ORDER BY l.processing_time_ms),
+                MAX(l.processing_time_ms),
+                SUM(l.request_size_bytes),
+                SUM(l.response_size_bytes)
+            FROM api_usage_logs l
+            WHERE l.created_at >= ? AND l.created_at < ?
+            GROUP BY DATE_TRUNC('%1$s', l.created_at), l.endpoint, l.http_method, COALESCE(l.user_name, 'Unknown')
+            """;
+
+    private final ApiUsageRollupConfig config;
+    private final ApiUsageRollupRepository rollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int rollUp(RollupGranularity granularity, LocalDateTime now) {
+        LocalDateTime to = granularity.truncate(now.minusNanos(config.getLatenessMs() * 1_000_000));
+        Optional<LocalDateTime> from = rollupRepository.findLatestBucketStart(granularity)
+                .map(latest -> latest.plus(granularity.getDuration()))
+                .or(this::oldestRawLog)
+                .map(granularity::truncate);
+
+        if (from.isEmpty() || !from.get().isBefore(to)) {
+            return 0;
+        }
+
+        String sql = ROLLUP_SQL_TEMPLATE.formatted(granularity.getSqlUnit());
+        int rows = jdbcTemplate.update(sql, granularity.name(), Timestamp.valueOf(from.get()), Timestamp.valueOf(to));
+        logger.debug("Rolled up {} {} buckets in [{}, {})", rows, granularity, from.get(), to);
+        return rows;
+    }
+
+    @Override
+    public void applyRetention(LocalDateTime now) {
+        deleteRollupsOlderThan(RollupGranularity.MINUTE, config.getMinuteRetentionDays(), now);
+        deleteRollupsOlderThan(RollupGranularity.HOUR, config.getHourRetentionDays(), now);
+        deleteRollupsOlderThan(RollupGranularity.DAY, config.getDayRetentionDays(), now);
+
+        // Never drop raw rows that no day rollup covers yet
+        Optional<LocalDateTime> rolledUpUntil = rollupRepository.findLatestBucketStart(RollupGranularity.DAY)
+                .map(latest -> latest.plus(RollupGranularity.DAY.getDuration()));
+        if (rolledUpUntil.isEmpty()) {
+            return;
+        }
+        LocalDateTime cutoff = now.minusDays(config.getRawRetentionDays());
+        if (rolledUpUntil.get().isBefore(cutoff)) {
+            cutoff = rolledUpUntil.get();
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM api_usage_logs WHERE created_at < ?", Timestamp.valueOf(cutoff));
+        if (deleted > 0) {
+            logger.info("Deleted {} API usage log rows older than {}", deleted, cutoff);
+        }
+    }
+
+    @Override
+    public ApiUsageRollupPage getRollups(
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to,
+            String endpoint,
+            String userName,
+            int page,
+            int size
+    ) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+        if (page < 0 || size < 1) {
+            throw new BadRequestException("Page must be >= 0 and size must be >= 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(page, Math.min(size, config.getMaxPageSize()),
+                Sort.by("bucketStart", "endpoint", "httpMethod", "userName"));
+        Page<ApiUsageRollupEntity> result = rollupRepository.findRollups(
+                granularity, from, to, blankToNull(endpoint), blankToNull(userName), pageRequest);
+
+        return new ApiUsageRollupPage(
+                result.getContent().stream().map(ApiUsageRollupServiceImpl::toDto).toList(),
+                result.getNumber(),
+                result.getSize(),
+                result.getTotalElements(),
+                result.getTotalPages()
+        );
+    }
+
+    private Optional<LocalDateTime> oldestRawLog() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM api_usage_logs", Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    private void deleteRollupsOlderThan(RollupGranularity granularity, int retentionDays, LocalDateTime now) {
+        if (retentionDays == 0) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM api_usage_rollups WHERE granularity = ? AND bucket_start < ?",
+                granularity.name(), Timestamp.valueOf(now.minusDays(retentionDays)));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static ApiUsageRollupDto toDto(ApiUsageRollupEntity r) {
+        return new ApiUsageRollupDto(
+                r.getGranularity(),
+                r.getBucketStart(),
+                r.getEndpoint(),
+                r.getHttpMethod(),
+                r.getUserName(),
+                r.getRequestCount(),
+                r.getRequestCount() == 0 ? 0 : r.getTotalProcessingMs() / r.getRequestCount(),
+                r.getP50ProcessingMs(),
+                r.getP95ProcessingMs(),
+                r.getP99ProcessingMs(),
+                r.getMaxProcessingMs(),
+                r.getRequestBytes(),
+                r.getResponseBytes()
+        );
+    }
+}
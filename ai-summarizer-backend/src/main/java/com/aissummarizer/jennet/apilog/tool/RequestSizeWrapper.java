@@ -5,35 +5,64 @@ import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
+/**
+ * Counts request body bytes as the application reads them, without buffering the body.
+ * <p>
+ * Multipart uploads are parsed by the container from the underlying request and never pass
+ * through this wrapper, so the declared Content-Length is used when it is larger.
+ */
 public class RequestSizeWrapper extends HttpServletRequestWrapper {
 
-    private byte[] cachedBody;
+    private CountingInputStream inputStream;
 
-    public RequestSizeWrapper(HttpServletRequest request) throws IOException {
+    public RequestSizeWrapper(HttpServletRequest request) {
         super(request);
-        cachedBody = request.getInputStream().readAllBytes();
-        HttpServletRequestWrapper requestWrapper = new HttpServletRequestWrapper(request);
     }
 
-    public int getRequestSize() {
-        return cachedBody.length;
+    public long getRequestSize() {
+        long counted = inputStream == null ? 0 : inputStream.count;
+        return Math.max(counted, getRequest().getContentLengthLong());
     }
 
     @Override
-    public ServletInputStream getInputStream() {
-        ByteArrayInputStream bais = new ByteArrayInputStream(cachedBody);
-        return new ServletInputStream() {
-            @Override
-            public boolean isFinished() { return bais.available() == 0; }
-            @Override
-            public boolean isReady() { return true; }
-            @Override
-            public void setReadListener(ReadListener listener) {}
-            @Override
-            public int read() { return bais.read(); }
-        };
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CountingInputStream(super.getInputStream());
+        }
+        return inputStream;
     }
-}
\ No newline at end of file
+
+    private static final class CountingInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private long count;
+
+        CountingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException { delegate.close(); }
+        @Override
+        public boolean isFinished() { return delegate.isFinished(); }
+        @Override
+        public boolean isReady() { return delegate.isReady(); }
+        @Override
+        public void setReadListener(ReadListener listener) { delegate.setReadListener(listener); }
+    }
+}
@@ -5,14 +5,24 @@ import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Counts response body bytes as they are written through to the client, without buffering.
+ * <p>
+ * Writer output goes straight to the container's writer; its size is computed from the
+ * characters written and the response encoding (exact for UTF-8 and single-byte charsets,
+ * the encoder's average otherwise).
+ */
 public class ResponseSizeWrapper extends HttpServletResponseWrapper {
 
-    private ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    private ServletOutputStream outputStream;
+    private CountingOutputStream outputStream;
+    private CountingWriter counter;
     private PrintWriter writer;
 
     public ResponseSizeWrapper(HttpServletResponse response) {
@@ -20,35 +30,126 @@ public class ResponseSizeWrapper extends HttpServletResponseWrapper {
     }
 
     @Override
-    public ServletOutputStream getOutputStream() {
+    public ServletOutputStream getOutputStream() throws IOException {
         if (outputStream == null) {
-            outputStream = new ServletOutputStream() {
-                @Override
-                public boolean isReady() { return true; }
-                @Override
-                public void setWriteListener(WriteListener writeListener) {}
-                @Override
-                public void write(int b) {
-                    baos.write(b);
-                }
-            };
+            outputStream = new CountingOutputStream(super.getOutputStream());
         }
         return outputStream;
     }
 
     @Override
-    public PrintWriter getWriter() {
+    public PrintWriter getWriter() throws IOException {
         if (writer == null) {
-            writer = new PrintWriter(new OutputStreamWriter(baos));
+            counter = new CountingWriter(super.getWriter(), Charset.forName(getCharacterEncoding()));
+            writer = new PrintWriter(counter);
         }
         return writer;
     }
 
-    public int getResponseSize() {
-        return baos.size();
+    /**
+     * Bytes written so far, or the declared Content-Length when nothing went through the wrapper.
+     */
+    public long getResponseSize() {
+        long counted = (outputStream == null ? 0 : outputStream.count) + (counter == null ? 0 : counter.count);
+        if (counted == 0) {
+            String contentLength = getHeader("Content-Length");
+            if (contentLength != null) {
+                try {
+                    return Long.parseLong(contentLength);
+                } catch (NumberFormatException ignored) {
+                    // fall through to the counted value
+                }
+            }
+        }
+        return counted;
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private long count;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException { delegate.flush(); }
+        @Override
+        public void close() throws IOException { delegate.close(); }
+        @Override
+        public boolean isReady() { return delegate.isReady(); }
+        @Override
+        public void setWriteListener(WriteListener writeListener) { delegate.setWriteListener(writeListener); }
     }
 
-    public byte[] getBody() {
-        return baos.toByteArray();
+    /**
+     * Sits below the {@link PrintWriter} handed to the application, so every character it
+     * emits, including the line separators of {@code println}, passes through these
+     * {@code write} methods.
+     */
+    private static final class CountingWriter extends Writer {
+        private final Writer delegate;
+        private final boolean utf8;
+        private final float bytesPerChar;
+        private long count;
+
+        CountingWriter(Writer delegate, Charset charset) {
+            this.delegate = delegate;
+            this.utf8 = StandardCharsets.UTF_8.equals(charset);
+            this.bytesPerChar = charset.newEncoder().averageBytesPerChar();
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            delegate.write(c);
+            count += utf8 ? utf8Length(String.valueOf((char) c), 0, 1) : Math.round(bytesPerChar);
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) throws IOException {
+            delegate.write(buf, off, len);
+            count += utf8 ? utf8Length(CharBuffer.wrap(buf), off, len) : Math.round(len * bytesPerChar);
+        }
+
+        @Override
+        public void write(String s, int off, int len) throws IOException {
+            delegate.write(s, off, len);
+            count += utf8 ? utf8Length(s, off, len) : Math.round(len * bytesPerChar);
+        }
+
+        @Override
+        public void flush() throws IOException { delegate.flush(); }
+        @Override
+        public void close() throws IOException { delegate.close(); }
+
+        private static long utf8Length(CharSequence chars, int off, int len) {
+            long bytes = 0;
+            for (int i = off; i < off + len; i++) {
+                char c = chars.charAt(i);
+                if (c < 0x80) {
+                    bytes += 1;
+                } else if (c < 0x800) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c)) {
+                    bytes += 4;
+                    i++;
+                } else {
+                    bytes += 3;
+                }
+            }
+            return bytes;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.aissummarizer.jennet.auth.entity;
+
+import com.aissummarizer.jennet.user.entity.UserEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An issued refresh token, stored as the SHA-256 hex digest of the token.
+ * <p>
+ * Rotation marks the presented token revoked and issues a new one. Revoked rows are kept
+ * until they expire so that a replayed token can be recognised; expired rows are deleted
+ * by {@code RefreshTokenCleanupScheduler}.
+ */
+@Entity
+@Table(
+        name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_tokens_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        }
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class RefreshTokenEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64, updatable = false)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    private UserEntity user;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    /** Set when the token was rotated or revoked; the token can no longer be used. */
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+}
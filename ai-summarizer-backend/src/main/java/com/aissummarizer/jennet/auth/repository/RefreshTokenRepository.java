@@ -0,0 +1,54 @@
+package com.aissummarizer.jennet.auth.repository;
+
+import com.aissummarizer.jennet.auth.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for {@link RefreshTokenEntity}. Lookups go through the unique index on the token hash.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    /**
+     * Finds a stored token by its digest, together with its user.
+     *
+     * @param tokenHash SHA-256 hex digest of the token
+     */
+    @Query("select t from RefreshTokenEntity t join fetch t.user where t.tokenHash = :tokenHash")
+    Optional<RefreshTokenEntity> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revokes a token unless it already is. Of two concurrent rotations of the same token
+     * only one sees an update count of 1.
+     *
+     * @return 1 if the token was revoked by this call, 0 if it was revoked before
+     */
+    @Modifying
+    @Query("update RefreshTokenEntity t set t.revokedAt = :now where t.id = :id and t.revokedAt is null")
+    int revokeIfActive(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Revokes every active token of a user.
+     *
+     * @return number of revoked tokens
+     */
+    @Modifying
+    @Query("update RefreshTokenEntity t set t.revokedAt = :now where t.user.id = :userId and t.revokedAt is null")
+    int revokeAllByUserId(@Param("userId") String userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes tokens that expired before {@code now}, revoked or not.
+     *
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
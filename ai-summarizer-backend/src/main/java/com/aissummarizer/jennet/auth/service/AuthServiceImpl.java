@@ -12,6 +12,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Concrete implementation of authentication operations.
  * <p>
@@ -25,6 +27,7 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * {@inheritDoc}
@@ -45,13 +48,14 @@ public class AuthServiceImpl implements AuthService {
         // Generate a signed JWT for the successfully authenticated user.
         String accessToken = jwtService.generateAccessToken(auth.getName());
 
-        // Generate a signed JWT refresh token for the successfully authenticated user.
-        String refreshToken = jwtService.generateRefreshToken(request.username());
+        // Issue and store a refresh token for the successfully authenticated user.
+        String refreshToken = refreshTokenService.issue(user);
 
+        // History is not embedded; clients page it through /api/user/history
         return new AuthResponse(
                 accessToken,
                 refreshToken,
-                UserProfileDto.from(user, userService.userSummarizationHistory(user.getId()))
+                UserProfileDto.from(user, List.of())
         );
     }
 
@@ -75,17 +79,16 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public AuthResponse refresh(String refreshToken) {
-        // Example logic: validate refresh token and issue new tokens
-        String username = jwtService.validateAndExtractUsernameFromRefreshToken(refreshToken);
-        UserEntity user = userService.getByUserName(username);
+        // One indexed lookup; the presented token is revoked and replaced
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        UserEntity user = rotation.user();
 
-        String newAccessToken = jwtService.generateAccessToken(username);
-        String newRefreshToken = jwtService.generateRefreshToken(username);
+        String newAccessToken = jwtService.generateAccessToken(user.getUserName());
 
         return new AuthResponse(
                 newAccessToken,
-                newRefreshToken,
-                UserProfileDto.from(user, userService.userSummarizationHistory(user.getId()))
+                rotation.refreshToken(),
+                UserProfileDto.from(user, List.of())
         );
     }
 }
\ No newline at end of file
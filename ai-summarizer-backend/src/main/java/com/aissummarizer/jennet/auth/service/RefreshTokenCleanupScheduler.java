@@ -0,0 +1,40 @@
+package com.aissummarizer.jennet.auth.service;
+
+import com.aissummarizer.jennet.config.RefreshTokenConfig;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodically deletes expired refresh tokens.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCleanupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenCleanupScheduler.class);
+
+    private final RefreshTokenConfig config;
+    private final RefreshTokenService refreshTokenService;
+
+    @Scheduled(
+            initialDelayString = "${ai.summarizer.refresh-tokens.cleanup-interval-ms:3600000}",
+            fixedDelayString = "${ai.summarizer.refresh-tokens.cleanup-interval-ms:3600000}"
+    )
+    public void run() {
+        if (!config.isCleanupEnabled()) {
+            return;
+        }
+
+        try {
+            int deleted = refreshTokenService.purgeExpired(LocalDateTime.now());
+            logger.debug("Deleted {} expired refresh tokens", deleted);
+        } catch (Exception e) {
+            logger.warn("Refresh token cleanup failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.aissummarizer.jennet.auth.service;
+
+import com.aissummarizer.jennet.user.entity.UserEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Issues, rotates and revokes stored refresh tokens.
+ */
+public interface RefreshTokenService {
+
+    /**
+     * A rotated refresh token and the user it belongs to.
+     */
+    record Rotation(UserEntity user, String refreshToken) { }
+
+    /**
+     * Issues and stores a new refresh token for {@code user}.
+     *
+     * @return the signed refresh token
+     */
+    String issue(UserEntity user);
+
+    /**
+     * Exchanges a refresh token for a new one. The presented token is revoked. Presenting a
+     * token that was already rotated revokes every token of its user, since either the
+     * client or an attacker holds a stolen copy.
+     *
+     * @param refreshToken token sent by the client
+     * @return the owner and the new refresh token
+     * @throws com.aissummarizer.jennet.common.exception.BadRequestException if the token is
+     *         invalid, expired, unknown or already used
+     */
+    Rotation rotate(String refreshToken);
+
+    /**
+     * Revokes all refresh tokens of a user, e.g. after a password change.
+     */
+    void revokeAll(String userId);
+
+    /**
+     * Deletes tokens that expired before {@code now}.
+     *
+     * @return number of deleted tokens
+     */
+    int purgeExpired(LocalDateTime now);
+}
@@ -0,0 +1,92 @@
+package com.aissummarizer.jennet.auth.service;
+
+import com.aissummarizer.jennet.auth.entity.RefreshTokenEntity;
+import com.aissummarizer.jennet.auth.repository.RefreshTokenRepository;
+import com.aissummarizer.jennet.common.exception.BadRequestException;
+import com.aissummarizer.jennet.security.JwtService;
+import com.aissummarizer.jennet.security.VerifiedToken;
+import com.aissummarizer.jennet.user.entity.UserEntity;
+import com.google.common.hash.Hashing;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Refresh tokens stored as SHA-256 digests in {@code refresh_tokens}.
+ * <p>
+ * The token itself stays a signed JWT, so forged or expired tokens are rejected before
+ * the database is queried; a valid one is then found with a single lookup on the unique
+ * digest index.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+
+    @Override
+    @Transactional
+    public String issue(UserEntity user) {
+        String token = jwtService.generateRefreshToken(user.getUserName());
+        VerifiedToken verified = jwtService.verifyRefreshToken(token);
+
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenHash(hash(token))
+                .user(user)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.ofInstant(verified.expiresAt(), ZoneId.systemDefault()))
+                .build());
+        return token;
+    }
+
+    @Override
+    @Transactional(noRollbackFor = BadRequestException.class)
+    public Rotation rotate(String refreshToken) {
+        try {
+            jwtService.verifyRefreshToken(refreshToken);
+        } catch (JwtException e) {
+            throw new BadRequestException("Invalid refresh token");
+        }
+
+        RefreshTokenEntity stored = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new BadRequestException("Invalid refresh token"));
+        UserEntity user = stored.getUser();
+
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.revokeIfActive(stored.getId(), now) == 0) {
+            // Kept committed by noRollbackFor: a replayed token ends every session of the user
+            int revoked = refreshTokenRepository.revokeAllByUserId(user.getId(), now);
+            logger.warn("Reuse of a rotated refresh token for user {}, revoked {} active tokens",
+                    user.getUserName(), revoked);
+            throw new BadRequestException("Refresh token was already used");
+        }
+
+        return new Rotation(user, issue(user));
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(String userId) {
+        refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(LocalDateTime now) {
+        return refreshTokenRepository.deleteExpired(now);
+    }
+
+    static String hash(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.US_ASCII).toString();
+    }
+}
@@ -8,6 +8,7 @@ public enum ErrorCode {
     MISSING_PARAMETER("ERR_005", "Missing parameter"),
     PROCESSING_ERROR("ERR_006", "Processing error"),
     AI_SERVICE_ERROR("ERR_007", "AI service error"),
+    TOO_MANY_REQUESTS("ERR_008", "Too many requests"),
     INTERNAL_ERROR("ERR_999", "Internal server error");
 
     private final String code;
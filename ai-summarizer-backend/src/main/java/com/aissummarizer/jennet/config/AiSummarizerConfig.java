@@ -10,12 +10,15 @@ import javax.validation.constraints.*;
 @Validated
 public class AiSummarizerConfig {
 
-    @NotBlank(message = "API key is required")
+    /** OpenAI API key; falls back to {@code OPENAI_API_KEY}. Not needed when another provider serves all calls. */
     private String apiKey;
 
     @NotBlank(message = "Model name is required")
     private String model = "gpt-5-mini";
 
+    /** Optional override of the OpenAI endpoint, e.g. a local stub server for load tests. */
+    private String baseUrl;
+
     @Min(value = 100, message = "Max tokens must be at least 100")
     @Max(value = 10000, message = "Max tokens cannot exceed 10000")
     private int defaultMaxTokens = 2000;
@@ -37,6 +40,9 @@ public class AiSummarizerConfig {
     public String getModel() { return model; }
     public void setModel(String model) { this.model = model; }
 
+    public String getBaseUrl() { return baseUrl; }
+    public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
     public int getDefaultMaxTokens() { return defaultMaxTokens; }
     public void setDefaultMaxTokens(int defaultMaxTokens) {
         this.defaultMaxTokens = defaultMaxTokens;
@@ -0,0 +1,62 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Settings for the API usage log pipeline.
+ * <p>
+ * Request threads push usage events onto a bounded queue; a single background writer
+ * drains it and inserts rows with JDBC batches of up to {@link #maxBatchSize}, waiting at
+ * most {@link #flushIntervalMs} for a batch to fill.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.usage-log")
+@Validated
+public class ApiUsageLogConfig {
+
+    /** When false every event is written synchronously on the request thread. */
+    private boolean asyncEnabled = true;
+
+    @Min(value = 1, message = "Queue capacity must be at least 1")
+    private int queueCapacity = 10_000;
+
+    @Min(value = 1, message = "Batch size must be at least 1")
+    private int maxBatchSize = 500;
+
+    @Min(value = 10, message = "Flush interval must be at least 10ms")
+    private long flushIntervalMs = 1000;
+
+    @NotNull
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * What to do with an event when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the event and count it in {@code api.usage.log.events{result=dropped}}. */
+        DROP,
+        /** Write the event on the request thread, slowing callers down to the writer's pace. */
+        CALLER_RUNS
+    }
+
+    // Getters and setters
+    public boolean isAsyncEnabled() { return asyncEnabled; }
+    public void setAsyncEnabled(boolean asyncEnabled) { this.asyncEnabled = asyncEnabled; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getMaxBatchSize() { return maxBatchSize; }
+    public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+
+    public long getFlushIntervalMs() { return flushIntervalMs; }
+    public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+
+    public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+}
@@ -0,0 +1,73 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for API usage rollups and log retention.
+ * <p>
+ * Every {@link #intervalMs} closed minute, hour and day buckets are aggregated from
+ * {@code api_usage_logs} into {@code api_usage_rollups}. A bucket counts as closed once
+ * {@link #latenessMs} has passed after its end, giving the async log writer time to flush.
+ * Raw rows are kept for {@link #rawRetentionDays}; day rollups are always built from raw
+ * rows, so raw retention cannot drop below two days.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.usage-rollup")
+@Validated
+public class ApiUsageRollupConfig {
+
+    private boolean enabled = true;
+
+    @Min(value = 1000, message = "Rollup interval must be at least 1 second")
+    private long intervalMs = 60_000;
+
+    @Min(value = 0, message = "Lateness cannot be negative")
+    private long latenessMs = 120_000;
+
+    @Min(value = 2, message = "Raw log retention must be at least 2 days")
+    private int rawRetentionDays = 30;
+
+    /** 0 keeps rollups of that granularity forever. */
+    @Min(value = 0, message = "Retention cannot be negative")
+    private int minuteRetentionDays = 7;
+
+    @Min(value = 0, message = "Retention cannot be negative")
+    private int hourRetentionDays = 90;
+
+    @Min(value = 0, message = "Retention cannot be negative")
+    private int dayRetentionDays = 0;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 10_000, message = "Page size cannot exceed 10000")
+    private int maxPageSize = 1000;
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getIntervalMs() { return intervalMs; }
+    public void setIntervalMs(long intervalMs) { this.intervalMs = intervalMs; }
+
+    public long getLatenessMs() { return latenessMs; }
+    public void setLatenessMs(long latenessMs) { this.latenessMs = latenessMs; }
+
+    public int getRawRetentionDays() { return rawRetentionDays; }
+    public void setRawRetentionDays(int rawRetentionDays) { this.rawRetentionDays = rawRetentionDays; }
+
+    public int getMinuteRetentionDays() { return minuteRetentionDays; }
+    public void setMinuteRetentionDays(int minuteRetentionDays) { this.minuteRetentionDays = minuteRetentionDays; }
+
+    public int getHourRetentionDays() { return hourRetentionDays; }
+    public void setHourRetentionDays(int hourRetentionDays) { this.hourRetentionDays = hourRetentionDays; }
+
+    public int getDayRetentionDays() { return dayRetentionDays; }
+    public void setDayRetentionDays(int dayRetentionDays) { this.dayRetentionDays = dayRetentionDays; }
+
+    public int getMaxPageSize() { return maxPageSize; }
+    public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+}
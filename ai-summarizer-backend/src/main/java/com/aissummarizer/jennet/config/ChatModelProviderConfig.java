@@ -0,0 +1,170 @@
+package com.aissummarizer.jennet.config;
+
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Selects the chat model provider behind summarization.
+ * <p>
+ * Every call goes to {@link #defaultProvider} unless its {@link SummaryType} is routed elsewhere,
+ * e.g. {@code ai.summarizer.provider.routes[BRIEF]=openai-compatible}. Available providers:
+ * <ul>
+ *   <li>{@code openai} - the OpenAI API, configured by {@link AiSummarizerConfig}</li>
+ *   <li>{@code openai-compatible} - any server implementing {@code /chat/completions}, e.g. vLLM or Ollama</li>
+ *   <li>{@code stub} - deterministic in-process responses with a latency profile, for offline load tests</li>
+ * </ul>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.provider")
+@Validated
+public class ChatModelProviderConfig {
+
+    @NotBlank(message = "Default provider is required")
+    private String defaultProvider = "openai";
+
+    private Map<SummaryType, String> routes = new EnumMap<>(SummaryType.class);
+
+    private Compatible compatible = new Compatible();
+
+    private Stub stub = new Stub();
+
+    /**
+     * Name of the provider serving {@code type}.
+     */
+    public String providerFor(SummaryType type) {
+        String route = type == null ? null : routes.get(type);
+        return route != null && !route.isBlank() ? route : defaultProvider;
+    }
+
+    /**
+     * Self-hosted server speaking the OpenAI chat completions protocol.
+     */
+    public static class Compatible {
+        /** Base URL including the version segment, e.g. {@code http://localhost:8000/v1}. */
+        private String baseUrl = "http://localhost:8000/v1";
+
+        /** Sent as a bearer token when set. */
+        private String apiKey;
+
+        private String model = "llama-3.1-8b-instruct";
+
+        /** Images are dropped from the request when the served model is text-only. */
+        private boolean supportsImages = false;
+
+        @Min(value = 100, message = "Connect timeout must be at least 100ms")
+        private int connectTimeoutMs = 5000;
+
+        @Min(value = 1000, message = "Request timeout must be at least 1 second")
+        private int requestTimeoutMs = 120_000;
+
+        public String getBaseUrl() { return baseUrl; }
+        public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
+        public String getApiKey() { return apiKey; }
+        public void setApiKey(String apiKey) { this.apiKey = apiKey; }
+
+        public String getModel() { return model; }
+        public void setModel(String model) { this.model = model; }
+
+        public boolean isSupportsImages() { return supportsImages; }
+        public void setSupportsImages(boolean supportsImages) { this.supportsImages = supportsImages; }
+
+        public int getConnectTimeoutMs() { return connectTimeoutMs; }
+        public void setConnectTimeoutMs(int connectTimeoutMs) { this.connectTimeoutMs = connectTimeoutMs; }
+
+        public int getRequestTimeoutMs() { return requestTimeoutMs; }
+        public void setRequestTimeoutMs(int requestTimeoutMs) { this.requestTimeoutMs = requestTimeoutMs; }
+    }
+
+    /**
+     * In-process stub. The active {@link #profile} decides how long a call takes.
+     */
+    public static class Stub {
+        private String profile = "fast";
+
+        private Map<String, StubProfile> profiles = new HashMap<>(Map.of(
+                "instant", new StubProfile(0, 0, 200, 0),
+                "fast", new StubProfile(50, 500, 200, 10),
+                "realistic", new StubProfile(800, 60, 300, 25),
+                "slow", new StubProfile(3000, 20, 300, 25)));
+
+        /**
+         * The active profile.
+         *
+         * @throws IllegalStateException if {@link #profile} is not defined
+         */
+        public StubProfile activeProfile() {
+            StubProfile active = profiles.get(profile);
+            if (active == null) {
+                throw new IllegalStateException("Unknown stub profile '" + profile + "', available: " + profiles.keySet());
+            }
+            return active;
+        }
+
+        public String getProfile() { return profile; }
+        public void setProfile(String profile) { this.profile = profile; }
+
+        public Map<String, StubProfile> getProfiles() { return profiles; }
+        public void setProfiles(Map<String, StubProfile> profiles) { this.profiles = profiles; }
+    }
+
+    /**
+     * Latency and throughput of simulated calls. Delays are varied by up to {@link #jitterPercent}
+     * using a hash of the prompt, so the same prompt always takes the same time.
+     */
+    public static class StubProfile {
+        /** Time to first token. */
+        private long firstTokenLatencyMs;
+
+        /** Generation speed after the first token; 0 generates instantly. */
+        private int tokensPerSecond;
+
+        /** Length of each response, capped by the completion budget of the call. */
+        private int completionTokens = 200;
+
+        private int jitterPercent;
+
+        public StubProfile() {
+        }
+
+        public StubProfile(long firstTokenLatencyMs, int tokensPerSecond, int completionTokens, int jitterPercent) {
+            this.firstTokenLatencyMs = firstTokenLatencyMs;
+            this.tokensPerSecond = tokensPerSecond;
+            this.completionTokens = completionTokens;
+            this.jitterPercent = jitterPercent;
+        }
+
+        public long getFirstTokenLatencyMs() { return firstTokenLatencyMs; }
+        public void setFirstTokenLatencyMs(long firstTokenLatencyMs) { this.firstTokenLatencyMs = firstTokenLatencyMs; }
+
+        public int getTokensPerSecond() { return tokensPerSecond; }
+        public void setTokensPerSecond(int tokensPerSecond) { this.tokensPerSecond = tokensPerSecond; }
+
+        public int getCompletionTokens() { return completionTokens; }
+        public void setCompletionTokens(int completionTokens) { this.completionTokens = completionTokens; }
+
+        public int getJitterPercent() { return jitterPercent; }
+        public void setJitterPercent(int jitterPercent) { this.jitterPercent = jitterPercent; }
+    }
+
+    // Getters and setters
+    public String getDefaultProvider() { return defaultProvider; }
+    public void setDefaultProvider(String defaultProvider) { this.defaultProvider = defaultProvider; }
+
+    public Map<SummaryType, String> getRoutes() { return routes; }
+    public void setRoutes(Map<SummaryType, String> routes) { this.routes = routes; }
+
+    public Compatible getCompatible() { return compatible; }
+    public void setCompatible(Compatible compatible) { this.compatible = compatible; }
+
+    public Stub getStub() { return stub; }
+    public void setStub(Stub stub) { this.stub = stub; }
+}
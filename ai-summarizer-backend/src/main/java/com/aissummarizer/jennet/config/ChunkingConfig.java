@@ -0,0 +1,107 @@
+package com.aissummarizer.jennet.config;
+
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for map-reduce summarization of documents that do not fit into one request.
+ * <p>
+ * Documents whose estimated prompt exceeds {@link #maxInputTokens} are split on their
+ * natural boundaries into chunks of at most {@code chunkTokens}, the chunks are summarized
+ * in parallel (at most {@code maxParallel} at a time per document) and the partial
+ * summaries are reduced into the final result. Chunk size and fan-out can be overridden
+ * per {@link SummaryType}, e.g. {@code ai.summarizer.chunking.types[BRIEF].chunk-tokens=24000}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.chunking")
+@Validated
+public class ChunkingConfig {
+
+    private boolean enabled = true;
+
+    @Min(value = 1000, message = "Max input tokens must be at least 1000")
+    private int maxInputTokens = 100_000;
+
+    @Min(value = 500, message = "Chunk tokens must be at least 500")
+    private int chunkTokens = 12_000;
+
+    @Min(value = 1, message = "Max parallel chunks must be at least 1")
+    private int maxParallel = 4;
+
+    /** Upper bound of partial-summary tokens fed into a single reduce call. */
+    @Min(value = 500, message = "Reduce input tokens must be at least 500")
+    private int reduceInputTokens = 12_000;
+
+    /** Completion token limit for each map (chunk) call. */
+    @Min(value = 100, message = "Chunk summary tokens must be at least 100")
+    private int chunkSummaryTokens = 1_500;
+
+    /** Size of the worker pool shared by chunk calls of all documents. */
+    @Min(value = 1, message = "Executor concurrency must be at least 1")
+    private int executorConcurrency = 16;
+
+    private Map<SummaryType, TypeSettings> types = new EnumMap<>(SummaryType.class);
+
+    /**
+     * Per-{@link SummaryType} overrides; unset values fall back to the global settings.
+     */
+    public static class TypeSettings {
+        private Integer chunkTokens;
+        private Integer maxParallel;
+
+        public Integer getChunkTokens() { return chunkTokens; }
+        public void setChunkTokens(Integer chunkTokens) { this.chunkTokens = chunkTokens; }
+
+        public Integer getMaxParallel() { return maxParallel; }
+        public void setMaxParallel(Integer maxParallel) { this.maxParallel = maxParallel; }
+    }
+
+    /**
+     * @return chunk token budget for the given summary type
+     */
+    public int chunkTokensFor(SummaryType type) {
+        TypeSettings settings = types.get(type);
+        return settings != null && settings.getChunkTokens() != null ? settings.getChunkTokens() : chunkTokens;
+    }
+
+    /**
+     * @return maximum number of chunks of one document summarized concurrently for the given type
+     */
+    public int maxParallelFor(SummaryType type) {
+        TypeSettings settings = types.get(type);
+        return settings != null && settings.getMaxParallel() != null ? settings.getMaxParallel() : maxParallel;
+    }
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxInputTokens() { return maxInputTokens; }
+    public void setMaxInputTokens(int maxInputTokens) { this.maxInputTokens = maxInputTokens; }
+
+    public int getChunkTokens() { return chunkTokens; }
+    public void setChunkTokens(int chunkTokens) { this.chunkTokens = chunkTokens; }
+
+    public int getMaxParallel() { return maxParallel; }
+    public void setMaxParallel(int maxParallel) { this.maxParallel = maxParallel; }
+
+    public int getReduceInputTokens() { return reduceInputTokens; }
+    public void setReduceInputTokens(int reduceInputTokens) { this.reduceInputTokens = reduceInputTokens; }
+
+    public int getChunkSummaryTokens() { return chunkSummaryTokens; }
+    public void setChunkSummaryTokens(int chunkSummaryTokens) { this.chunkSummaryTokens = chunkSummaryTokens; }
+
+    public int getExecutorConcurrency() { return executorConcurrency; }
+    public void setExecutorConcurrency(int executorConcurrency) {
+        this.executorConcurrency = executorConcurrency;
+    }
+
+    public Map<SummaryType, TypeSettings> getTypes() { return types; }
+    public void setTypes(Map<SummaryType, TypeSettings> types) { this.types = types; }
+}
@@ -0,0 +1,84 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Declares the executors used to run work outside of servlet request threads.
+ * <p>
+ * When {@code spring.threads.virtual.enabled=true}, Spring Boot already serves
+ * requests on virtual threads; the executors declared here follow the same switch
+ * so the blocking OpenAI and extraction calls never pin a platform thread.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Bounded pool running asynchronous summarization jobs.
+     * <p>
+     * Concurrency, queue depth and the rejection policy come from {@link SummarizationJobConfig}.
+     */
+    @Bean(name = "summarizationExecutor")
+    public ThreadPoolTaskExecutor summarizationExecutor(SummarizationJobConfig config, Environment environment) {
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        int concurrency = virtual ? config.getVirtualConcurrency() : config.getConcurrency();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(config.getQueueCapacity());
+        executor.setThreadNamePrefix("summarize-");
+        if (virtual) {
+            // Idle virtual threads are not worth keeping around
+            executor.setAllowCoreThreadTimeOut(true);
+            executor.setThreadFactory(Thread.ofVirtual().name("summarize-vt-", 0).factory());
+        }
+        executor.setRejectedExecutionHandler(switch (config.getRejectionPolicy()) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(config.getShutdownTimeoutSeconds());
+        return executor;
+    }
+
+    /**
+     * Pool running the map and reduce calls of chunked summarization.
+     * <p>
+     * Each document limits its own fan-out (see {@link ChunkingConfig#maxParallelFor}); this pool
+     * bounds the total across documents. There is no queue: when every worker is busy the
+     * submitting summarization thread runs the chunk itself, which throttles it naturally.
+     */
+    @Bean(name = "chunkSummarizationExecutor")
+    public ThreadPoolTaskExecutor chunkSummarizationExecutor(ChunkingConfig config, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(config.getExecutorConcurrency());
+        executor.setMaxPoolSize(config.getExecutorConcurrency());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("summarize-chunk-");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setAllowCoreThreadTimeOut(true);
+            executor.setThreadFactory(Thread.ofVirtual().name("summarize-chunk-vt-", 0).factory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Fork-join pool used to extract large PDFs page range by page range.
+     * Sized to the CPU count by default since extraction and rendering are CPU bound.
+     */
+    @Bean(name = "pdfExtractionPool", destroyMethod = "shutdown")
+    public ForkJoinPool pdfExtractionPool(PdfExtractionConfig config) {
+        int parallelism = config.getParallelism() > 0
+                ? config.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism);
+    }
+}
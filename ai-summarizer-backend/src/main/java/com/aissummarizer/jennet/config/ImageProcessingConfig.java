@@ -0,0 +1,66 @@
+package com.aissummarizer.jennet.config;
+
+import com.aissummarizer.jennet.document.enums.ImageFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Settings for the image stage that runs between extraction and prompting.
+ * <p>
+ * Extracted images are deduplicated by content hash, downscaled to {@link #maxEdgePx},
+ * re-encoded to {@link #format} and cut off once a document exceeds the image count
+ * or byte budget.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.images")
+@Validated
+public class ImageProcessingConfig {
+
+    private boolean enabled = true;
+
+    /** Longest edge after downscaling; the model scales larger images down anyway. */
+    @Min(value = 64, message = "Max edge must be at least 64 pixels")
+    private int maxEdgePx = 2048;
+
+    @NotNull
+    private ImageFormat format = ImageFormat.JPEG;
+
+    @DecimalMin(value = "0.1", message = "Image quality must be at least 0.1")
+    @DecimalMax(value = "1.0", message = "Image quality cannot exceed 1.0")
+    private float quality = 0.8f;
+
+    @Min(value = 0, message = "Max images cannot be negative")
+    private int maxImagesPerRequest = 20;
+
+    @Min(value = 0, message = "Max bytes cannot be negative")
+    private long maxBytesPerRequest = 20_000_000; // 20MB of encoded image data
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxEdgePx() { return maxEdgePx; }
+    public void setMaxEdgePx(int maxEdgePx) { this.maxEdgePx = maxEdgePx; }
+
+    public ImageFormat getFormat() { return format; }
+    public void setFormat(ImageFormat format) { this.format = format; }
+
+    public float getQuality() { return quality; }
+    public void setQuality(float quality) { this.quality = quality; }
+
+    public int getMaxImagesPerRequest() { return maxImagesPerRequest; }
+    public void setMaxImagesPerRequest(int maxImagesPerRequest) {
+        this.maxImagesPerRequest = maxImagesPerRequest;
+    }
+
+    public long getMaxBytesPerRequest() { return maxBytesPerRequest; }
+    public void setMaxBytesPerRequest(long maxBytesPerRequest) {
+        this.maxBytesPerRequest = maxBytesPerRequest;
+    }
+}
@@ -4,16 +4,30 @@ import com.openai.client.OpenAIClient;
 import com.openai.client.okhttp.OpenAIOkHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import java.time.Duration;
 
 @Configuration
 public class OpenAiClientConfig {
 
+    /**
+     * Created on first use, so deployments routed to other providers need no OpenAI credentials.
+     * An explicit {@code ai.summarizer.api-key} takes precedence over {@code OPENAI_API_KEY}.
+     */
     @Bean
+    @Lazy
     public OpenAIClient openAiClient(AiSummarizerConfig config) {
-        return OpenAIOkHttpClient.builder().fromEnv()
-                .timeout(Duration.ofMillis(config.getRequestTimeoutMs()))
-                .build();
+        OpenAIOkHttpClient.Builder builder = OpenAIOkHttpClient.builder().fromEnv()
+                .timeout(Duration.ofMillis(config.getRequestTimeoutMs()));
+
+        if (config.getApiKey() != null && !config.getApiKey().isBlank()) {
+            builder.apiKey(config.getApiKey());
+        }
+        if (config.getBaseUrl() != null && !config.getBaseUrl().isBlank()) {
+            builder.baseUrl(config.getBaseUrl());
+        }
+
+        return builder.build();
     }
 }
@@ -0,0 +1,100 @@
+package com.aissummarizer.jennet.config;
+
+import com.aissummarizer.jennet.document.enums.ImageFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Settings for PDF page rendering.
+ * <p>
+ * Only pages that contain image XObjects or have less than {@link #minTextChars} of
+ * extractable text (scans, charts, slides exported as PDF) are rasterized and sent to
+ * the model as images; text-only pages are represented by their text alone.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.pdf")
+@Validated
+public class PdfExtractionConfig {
+
+    private boolean renderPages = true;
+
+    @Min(value = 36, message = "Render DPI must be at least 36")
+    private int renderDpi = 144; // 2x of the 72 DPI PDF user space
+
+    @Min(value = 0, message = "Max images cannot be negative")
+    private int maxImages = 20;
+
+    /**
+     * Upper bound on the page text one upload keeps on heap, 0 = unlimited. Text beyond it is
+     * dropped; rendered pages are bounded by {@link #maxImages}.
+     */
+    @Min(value = 0, message = "Max text chars cannot be negative")
+    private int maxTextChars = 4_000_000;
+
+    /** Pages with fewer extracted characters than this are rendered even without image XObjects. */
+    @Min(value = 0, message = "Min text chars cannot be negative")
+    private int minTextChars = 200;
+
+    /** Output encoding of rendered pages. */
+    @NotNull
+    private ImageFormat imageFormat = ImageFormat.JPEG;
+
+    @DecimalMin(value = "0.1", message = "Image quality must be at least 0.1")
+    @DecimalMax(value = "1.0", message = "Image quality cannot exceed 1.0")
+    private float imageQuality = 0.8f;
+
+    /** Extract pages on the {@code pdfExtractionPool} fork-join pool for large documents. */
+    private boolean parallelEnabled = true;
+
+    /** Documents with fewer pages are extracted sequentially; opening extra parsers is not worth it. */
+    @Min(value = 1, message = "Parallel min pages must be at least 1")
+    private int parallelMinPages = 64;
+
+    /** Pages handled by one fork-join leaf; each leaf opens its own parser. */
+    @Min(value = 1, message = "Pages per task must be at least 1")
+    private int pagesPerTask = 16;
+
+    /** Size of the fork-join pool, 0 = number of available processors. */
+    @Min(value = 0, message = "Parallelism cannot be negative")
+    private int parallelism = 0;
+
+    // Getters and setters
+    public boolean isRenderPages() { return renderPages; }
+    public void setRenderPages(boolean renderPages) { this.renderPages = renderPages; }
+
+    public int getRenderDpi() { return renderDpi; }
+    public void setRenderDpi(int renderDpi) { this.renderDpi = renderDpi; }
+
+    public int getMaxImages() { return maxImages; }
+    public void setMaxImages(int maxImages) { this.maxImages = maxImages; }
+
+    public int getMaxTextChars() { return maxTextChars; }
+    public void setMaxTextChars(int maxTextChars) { this.maxTextChars = maxTextChars; }
+
+    public int getMinTextChars() { return minTextChars; }
+    public void setMinTextChars(int minTextChars) { this.minTextChars = minTextChars; }
+
+    public ImageFormat getImageFormat() { return imageFormat; }
+    public void setImageFormat(ImageFormat imageFormat) { this.imageFormat = imageFormat; }
+
+    public float getImageQuality() { return imageQuality; }
+    public void setImageQuality(float imageQuality) { this.imageQuality = imageQuality; }
+
+    public boolean isParallelEnabled() { return parallelEnabled; }
+    public void setParallelEnabled(boolean parallelEnabled) { this.parallelEnabled = parallelEnabled; }
+
+    public int getParallelMinPages() { return parallelMinPages; }
+    public void setParallelMinPages(int parallelMinPages) { this.parallelMinPages = parallelMinPages; }
+
+    public int getPagesPerTask() { return pagesPerTask; }
+    public void setPagesPerTask(int pagesPerTask) { this.pagesPerTask = pagesPerTask; }
+
+    public int getParallelism() { return parallelism; }
+    public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+}
@@ -0,0 +1,37 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for the in-memory cache of authenticated principals.
+ * <p>
+ * Entries are dropped explicitly when a user's password or profile changes on this node;
+ * the TTL bounds how long a change made on another node can go unnoticed.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.principal-cache")
+@Validated
+public class PrincipalCacheConfig {
+
+    private boolean enabled = true;
+
+    @Min(value = 1, message = "Max principals must be at least 1")
+    private long maxSize = 10_000;
+
+    @Min(value = 1000, message = "Principal cache TTL must be at least 1 second")
+    private long ttlMs = 300_000; // 5 minutes
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getMaxSize() { return maxSize; }
+    public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+
+    public long getTtlMs() { return ttlMs; }
+    public void setTtlMs(long ttlMs) { this.ttlMs = ttlMs; }
+}
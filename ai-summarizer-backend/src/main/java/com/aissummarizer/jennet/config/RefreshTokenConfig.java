@@ -0,0 +1,31 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for stored refresh tokens.
+ * <p>
+ * Token lifetime is {@code jwt.refresh-expiration-ms}. Every {@link #cleanupIntervalMs}
+ * expired rows are deleted from {@code refresh_tokens}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.refresh-tokens")
+@Validated
+public class RefreshTokenConfig {
+
+    private boolean cleanupEnabled = true;
+
+    @Min(value = 1000, message = "Cleanup interval must be at least 1 second")
+    private long cleanupIntervalMs = 3_600_000;
+
+    // Getters and setters
+    public boolean isCleanupEnabled() { return cleanupEnabled; }
+    public void setCleanupEnabled(boolean cleanupEnabled) { this.cleanupEnabled = cleanupEnabled; }
+
+    public long getCleanupIntervalMs() { return cleanupIntervalMs; }
+    public void setCleanupIntervalMs(long cleanupIntervalMs) { this.cleanupIntervalMs = cleanupIntervalMs; }
+}
@@ -0,0 +1,12 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the API usage rollup.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
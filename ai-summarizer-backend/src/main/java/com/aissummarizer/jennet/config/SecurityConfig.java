@@ -6,6 +6,7 @@ import com.aissummarizer.jennet.security.JwtAuthenticationEntryPoint;
 import com.aissummarizer.jennet.security.JwtAuthFilter;
 import com.aissummarizer.jennet.security.JwtAccessDeniedHandler;
 import com.google.common.collect.ImmutableList;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.*;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -48,7 +49,9 @@ public class SecurityConfig {
                 .sessionManagement(sm ->
                         sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth ->
-                        auth.requestMatchers("/api/auth/**").permitAll()
+                        // Async dispatches (SSE completion) were already authorized on the initial request
+                        auth.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                                .requestMatchers("/api/auth/**").permitAll()
                                 .anyRequest().authenticated()
                 )
                 .userDetailsService(userDetailsService)
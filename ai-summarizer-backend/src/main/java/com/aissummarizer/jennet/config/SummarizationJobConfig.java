@@ -0,0 +1,85 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Settings for the asynchronous summarization job mode.
+ * <p>
+ * Controls the bounded worker pool that runs summarization jobs off the
+ * servlet request threads.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.jobs")
+@Validated
+public class SummarizationJobConfig {
+
+    /**
+     * What to do with a new job when every worker is busy and the queue is full.
+     */
+    public enum RejectionPolicy {
+        /** Reject the job, the client receives HTTP 429. */
+        ABORT,
+        /** Run the job on the submitting request thread (degrades to synchronous mode). */
+        CALLER_RUNS
+    }
+
+    @Min(value = 1, message = "Concurrency must be at least 1")
+    private int concurrency = 8;
+
+    /**
+     * Concurrency used instead of {@link #concurrency} when virtual threads are enabled
+     * ({@code spring.threads.virtual.enabled=true}). Blocked virtual threads are cheap,
+     * so the limit only guards the OpenAI quota, not memory.
+     */
+    @Min(value = 1, message = "Virtual thread concurrency must be at least 1")
+    private int virtualConcurrency = 512;
+
+    @Min(value = 0, message = "Queue capacity cannot be negative")
+    private int queueCapacity = 100;
+
+    @NotNull
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+    @Min(value = 1000, message = "Result TTL must be at least 1 second")
+    private long resultTtlMs = 3_600_000; // 1 hour
+
+    @Min(value = 0, message = "Shutdown timeout cannot be negative")
+    private int shutdownTimeoutSeconds = 60;
+
+    /** How long a streaming (SSE) summarization may stay open before it is timed out. */
+    @Min(value = 1000, message = "Stream timeout must be at least 1 second")
+    private long streamTimeoutMs = 300_000; // 5 minutes
+
+    // Getters and setters
+    public int getConcurrency() { return concurrency; }
+    public void setConcurrency(int concurrency) { this.concurrency = concurrency; }
+
+    public int getVirtualConcurrency() { return virtualConcurrency; }
+    public void setVirtualConcurrency(int virtualConcurrency) {
+        this.virtualConcurrency = virtualConcurrency;
+    }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public RejectionPolicy getRejectionPolicy() { return rejectionPolicy; }
+    public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    public long getResultTtlMs() { return resultTtlMs; }
+    public void setResultTtlMs(long resultTtlMs) { this.resultTtlMs = resultTtlMs; }
+
+    public int getShutdownTimeoutSeconds() { return shutdownTimeoutSeconds; }
+    public void setShutdownTimeoutSeconds(int shutdownTimeoutSeconds) {
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+    }
+
+    public long getStreamTimeoutMs() { return streamTimeoutMs; }
+    public void setStreamTimeoutMs(long streamTimeoutMs) { this.streamTimeoutMs = streamTimeoutMs; }
+}
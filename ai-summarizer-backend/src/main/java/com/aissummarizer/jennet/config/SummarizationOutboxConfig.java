@@ -0,0 +1,60 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for the summarization history outbox.
+ * <p>
+ * Finished summaries are appended to {@code summarization_outbox} and turned into history
+ * rows by a background persister. It wakes up on every new entry and otherwise polls every
+ * {@link #pollIntervalMs}. A failed entry is retried with exponential backoff between
+ * {@link #initialBackoffMs} and {@link #maxBackoffMs}, at most {@link #maxAttempts} times.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.outbox")
+@Validated
+public class SummarizationOutboxConfig {
+
+    @Min(value = 10, message = "Poll interval must be at least 10ms")
+    private long pollIntervalMs = 1000;
+
+    @Min(value = 1, message = "Batch size must be at least 1")
+    private int batchSize = 50;
+
+    @Min(value = 1, message = "Max attempts must be at least 1")
+    private int maxAttempts = 10;
+
+    @Min(value = 1, message = "Initial backoff must be at least 1ms")
+    private long initialBackoffMs = 1000;
+
+    @Min(value = 1, message = "Max backoff must be at least 1ms")
+    private long maxBackoffMs = 300_000;
+
+    /**
+     * Delay before the next attempt after {@code attempts} failures.
+     */
+    public long backoffMs(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(maxBackoffMs, initialBackoffMs << shift);
+    }
+
+    // Getters and setters
+    public long getPollIntervalMs() { return pollIntervalMs; }
+    public void setPollIntervalMs(long pollIntervalMs) { this.pollIntervalMs = pollIntervalMs; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getMaxAttempts() { return maxAttempts; }
+    public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+    public long getInitialBackoffMs() { return initialBackoffMs; }
+    public void setInitialBackoffMs(long initialBackoffMs) { this.initialBackoffMs = initialBackoffMs; }
+
+    public long getMaxBackoffMs() { return maxBackoffMs; }
+    public void setMaxBackoffMs(long maxBackoffMs) { this.maxBackoffMs = maxBackoffMs; }
+}
@@ -0,0 +1,59 @@
+package com.aissummarizer.jennet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for the content-addressed summary cache.
+ * <p>
+ * The first tier is an in-memory cache bounded by the total number of cached summary
+ * characters; the optional second tier stores entries in the {@code summary_cache} table
+ * so they survive restarts and are shared between nodes.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.cache")
+@Validated
+public class SummaryCacheConfig {
+
+    private boolean enabled = true;
+
+    @Min(value = 1, message = "Max cached characters must be at least 1")
+    private long maxWeightChars = 20_000_000; // roughly 40MB of summary text
+
+    @Min(value = 1000, message = "Cache TTL must be at least 1 second")
+    private long ttlMs = 86_400_000; // 24 hours
+
+    private boolean persistentEnabled = false;
+
+    @Min(value = 1000, message = "Persistent cache TTL must be at least 1 second")
+    private long persistentTtlMs = 604_800_000; // 7 days
+
+    @Min(value = 1000, message = "Persistent cache cleanup interval must be at least 1 second")
+    private long persistentCleanupIntervalMs = 3_600_000; // 1 hour
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getMaxWeightChars() { return maxWeightChars; }
+    public void setMaxWeightChars(long maxWeightChars) { this.maxWeightChars = maxWeightChars; }
+
+    public long getTtlMs() { return ttlMs; }
+    public void setTtlMs(long ttlMs) { this.ttlMs = ttlMs; }
+
+    public boolean isPersistentEnabled() { return persistentEnabled; }
+    public void setPersistentEnabled(boolean persistentEnabled) {
+        this.persistentEnabled = persistentEnabled;
+    }
+
+    public long getPersistentTtlMs() { return persistentTtlMs; }
+    public void setPersistentTtlMs(long persistentTtlMs) { this.persistentTtlMs = persistentTtlMs; }
+
+    public long getPersistentCleanupIntervalMs() { return persistentCleanupIntervalMs; }
+    public void setPersistentCleanupIntervalMs(long persistentCleanupIntervalMs) {
+        this.persistentCleanupIntervalMs = persistentCleanupIntervalMs;
+    }
+}
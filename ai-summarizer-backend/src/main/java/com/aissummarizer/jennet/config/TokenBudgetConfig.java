@@ -0,0 +1,126 @@
+package com.aissummarizer.jennet.config;
+
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Token budgeting for model calls.
+ * <p>
+ * Prompts are counted locally before the call. A prompt plus its completion budget must fit
+ * into {@link #contextWindowTokens} minus {@link #reservedTokens}; the completion budget is
+ * the prompt size times the completion ratio of the summary type, clamped between
+ * {@link #minCompletionTokens} and the requested max tokens. Reasoning models (matched by
+ * {@link #reasoningModelPrefixes}) spend part of the budget on hidden reasoning before the
+ * first visible token, so they get {@link #reasoningMinCompletionTokens} even when the
+ * requested max tokens is lower. Costs are estimated from the per-million-token prices.
+ * <p>
+ * Ratios can be overridden per {@link SummaryType}, e.g. {@code ai.summarizer.tokens.types[BRIEF].completion-ratio=0.05}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.summarizer.tokens")
+@Validated
+public class TokenBudgetConfig {
+
+    @Min(value = 1000, message = "Context window must be at least 1000 tokens")
+    private int contextWindowTokens = 128_000;
+
+    /** Kept free for message framing and the error of the image estimate. */
+    @Min(value = 0, message = "Reserved tokens cannot be negative")
+    private int reservedTokens = 512;
+
+    /** Lower bound of the completion budget for models that answer directly. */
+    @Min(value = 1, message = "Min completion tokens must be at least 1")
+    private int minCompletionTokens = 1024;
+
+    /** Lower bound of the completion budget for reasoning models; also overrides a lower max tokens. */
+    @Min(value = 1, message = "Reasoning min completion tokens must be at least 1")
+    private int reasoningMinCompletionTokens = 8192;
+
+    /** Model name prefixes (case-insensitive) of reasoning models. */
+    private List<String> reasoningModelPrefixes = new ArrayList<>(List.of("gpt-5", "o1", "o3", "o4"));
+
+    @DecimalMin(value = "0.0", message = "Completion ratio cannot be negative")
+    private double completionRatio = 0.25;
+
+    @DecimalMin(value = "0.0", message = "Input price cannot be negative")
+    private double inputUsdPerMillionTokens = 0.25;
+
+    @DecimalMin(value = "0.0", message = "Output price cannot be negative")
+    private double outputUsdPerMillionTokens = 2.00;
+
+    private Map<SummaryType, TypeSettings> types = new EnumMap<>(SummaryType.class);
+
+    /**
+     * Per-{@link SummaryType} overrides; unset values fall back to the global settings.
+     */
+    public static class TypeSettings {
+        private Double completionRatio;
+
+        public Double getCompletionRatio() { return completionRatio; }
+        public void setCompletionRatio(Double completionRatio) { this.completionRatio = completionRatio; }
+    }
+
+    /**
+     * @return completion tokens per prompt token for the given summary type
+     */
+    public double completionRatioFor(SummaryType type) {
+        TypeSettings settings = types.get(type);
+        return settings != null && settings.getCompletionRatio() != null ? settings.getCompletionRatio() : completionRatio;
+    }
+
+    /**
+     * @return true if the model spends completion tokens on reasoning before answering
+     */
+    public boolean isReasoningModel(String model) {
+        if (model == null) {
+            return false;
+        }
+        String name = model.toLowerCase(Locale.ROOT);
+        return reasoningModelPrefixes.stream().anyMatch(prefix -> name.startsWith(prefix.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * @return lower bound of the completion budget for the given model
+     */
+    public int minCompletionTokensFor(String model) {
+        return isReasoningModel(model) ? reasoningMinCompletionTokens : minCompletionTokens;
+    }
+
+    // Getters and setters
+    public int getContextWindowTokens() { return contextWindowTokens; }
+    public void setContextWindowTokens(int contextWindowTokens) { this.contextWindowTokens = contextWindowTokens; }
+
+    public int getReservedTokens() { return reservedTokens; }
+    public void setReservedTokens(int reservedTokens) { this.reservedTokens = reservedTokens; }
+
+    public int getMinCompletionTokens() { return minCompletionTokens; }
+    public void setMinCompletionTokens(int minCompletionTokens) { this.minCompletionTokens = minCompletionTokens; }
+
+    public int getReasoningMinCompletionTokens() { return reasoningMinCompletionTokens; }
+    public void setReasoningMinCompletionTokens(int reasoningMinCompletionTokens) { this.reasoningMinCompletionTokens = reasoningMinCompletionTokens; }
+
+    public List<String> getReasoningModelPrefixes() { return reasoningModelPrefixes; }
+    public void setReasoningModelPrefixes(List<String> reasoningModelPrefixes) { this.reasoningModelPrefixes = reasoningModelPrefixes; }
+
+    public double getCompletionRatio() { return completionRatio; }
+    public void setCompletionRatio(double completionRatio) { this.completionRatio = completionRatio; }
+
+    public double getInputUsdPerMillionTokens() { return inputUsdPerMillionTokens; }
+    public void setInputUsdPerMillionTokens(double inputUsdPerMillionTokens) { this.inputUsdPerMillionTokens = inputUsdPerMillionTokens; }
+
+    public double getOutputUsdPerMillionTokens() { return outputUsdPerMillionTokens; }
+    public void setOutputUsdPerMillionTokens(double outputUsdPerMillionTokens) { this.outputUsdPerMillionTokens = outputUsdPerMillionTokens; }
+
+    public Map<SummaryType, TypeSettings> getTypes() { return types; }
+    public void setTypes(Map<SummaryType, TypeSettings> types) { this.types = types; }
+}
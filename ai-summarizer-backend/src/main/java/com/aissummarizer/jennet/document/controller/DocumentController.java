@@ -15,19 +15,27 @@ import com.aissummarizer.jennet.document.model.DocumentTypeInfo;
 import com.aissummarizer.jennet.common.model.HealthStatus;
 import com.aissummarizer.jennet.summarization.model.SummaryResult;
 import com.aissummarizer.jennet.document.service.DocumentSummarizerService;
+import com.aissummarizer.jennet.summarization.dto.SummarizationJobResponse;
+import com.aissummarizer.jennet.summarization.model.SummarizationJob;
+import com.aissummarizer.jennet.summarization.service.SummarizationJobService;
+import com.aissummarizer.jennet.summarization.service.SummarizationStreamService;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
 import javax.validation.constraints.*;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestController
@@ -40,16 +48,22 @@ public class DocumentController {
 
     private final DocumentSummarizerService summarizerService;
     private final DocumentUploadService documentUploadService;
+    private final SummarizationJobService summarizationJobService;
+    private final SummarizationStreamService summarizationStreamService;
 
     /**
      * Uploads a file, extracts content, summarizes it, computes metadata,
      * stores all details, and returns summary output.
+     * <p>
+     * With {@code async=true} the summarization runs as a background job:
+     * the response is HTTP 202 with a job id that can be polled via {@code GET /jobs/{id}}.
      *
      * @param file uploaded document (txt, pdf, docx, pptx)
      * @param type type of summary (BRIEF, COMPREHENSIVE, KEY_POINTS, etc.)
+     * @param async whether to run as a background job
      */
     @PostMapping(value = "/summarize", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<SummaryResult>> summarize(
+    public ResponseEntity<ApiResponse<?>> summarize(
             @RequestParam(value = "file", required = false) MultipartFile file,
             @RequestParam("userName") @NotNull String userName,
             @RequestParam(value = "type", defaultValue = "COMPREHENSIVE")
@@ -57,7 +71,10 @@ public class DocumentController {
             @RequestParam(value = "customSummary", required = false)
             String customPrompt,
             @RequestParam(value = "maxTokens", required = false)
-            @Min(100) @Max(10000) Integer maxTokens
+            @Min(100) @Max(10000) Integer maxTokens,
+            @RequestParam(value = "async", defaultValue = "false")
+            boolean async,
+            Authentication authentication
     ) throws InvalidFileException, UnsupportedDocumentTypeException {
 
         log.info("Received summarization request: file={}, type={}",
@@ -75,6 +92,11 @@ public class DocumentController {
             }
 
             SummaryOptions options = optionsBuilder.build();
+
+            if (async) {
+                return submitJob(file, options, userName, uploadEntity, authentication.getName());
+            }
+
             SummaryResult result = summarizerService.summarizeDocument(file, options, userName, uploadEntity);
 
             log.info("Successfully summarized: file={}, processingTime={}ms",
@@ -120,6 +142,82 @@ public class DocumentController {
         }
     }
 
+    /**
+     * Uploads a file and streams the summary back as Server-Sent Events while the
+     * model generates it. The summarization is stored once the stream has finished.
+     * <p>
+     * See {@link SummarizationStreamService} for the emitted events. Errors detected
+     * before streaming starts are returned as a regular JSON {@link ApiResponse}.
+     *
+     * @param file uploaded document (txt, pdf, docx, pptx)
+     * @param type type of summary (BRIEF, COMPREHENSIVE, KEY_POINTS, etc.)
+     */
+    @PostMapping(value = "/summarize/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> summarizeStream(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("userName") @NotNull String userName,
+            @RequestParam(value = "type", defaultValue = "COMPREHENSIVE")
+            @Valid SummaryType type,
+            @RequestParam(value = "customSummary", required = false)
+            String customPrompt,
+            @RequestParam(value = "maxTokens", required = false)
+            @Min(100) @Max(10000) Integer maxTokens
+    ) throws InvalidFileException, UnsupportedDocumentTypeException {
+
+        log.info("Received streaming summarization request: file={}, type={}",
+                file.getOriginalFilename(), type);
+
+        DocumentUploadEntity uploadEntity = documentUploadService.uploadDocument(file, userName);
+
+        SummaryOptions.Builder optionsBuilder = SummaryOptions.builder()
+                .type(type)
+                .customPrompt(customPrompt);
+
+        if (maxTokens != null) {
+            optionsBuilder.maxTokens(maxTokens);
+        }
+
+        try {
+            SseEmitter emitter = summarizationStreamService.stream(file, optionsBuilder.build(), userName, uploadEntity);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity
+                    .status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(ApiResponse.error(
+                            ErrorCode.TOO_MANY_REQUESTS,
+                            "Summarization queue is full, please retry later"
+                    ));
+
+        } catch (IOException e) {
+            log.error("Failed to start streaming summary: {}", file.getOriginalFilename(), e);
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(
+                            ErrorCode.PROCESSING_ERROR,
+                            "Failed to process document"
+                    ));
+        }
+    }
+
+    /**
+     * Returns the current state of an asynchronous summarization job.
+     * The summary result is included once the job has succeeded.
+     * Jobs submitted by other users are reported as not found.
+     *
+     * @param jobId id returned by {@code POST /summarize?async=true}
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<SummarizationJobResponse>> getJob(
+            @PathVariable String jobId,
+            Authentication authentication) {
+        SummarizationJob job = summarizationJobService.getJob(jobId, authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success(SummarizationJobResponse.from(job)));
+    }
+
     @PostMapping(value = "/summarize/custom-text")
     public ResponseEntity<ApiResponse<SummaryResult>> summarizeTextWithoutFile(
             @RequestParam("userName") String userName,
@@ -176,6 +274,34 @@ public class DocumentController {
         return ResponseEntity.ok(ApiResponse.success(status));
     }
 
+    private ResponseEntity<ApiResponse<?>> submitJob(
+            MultipartFile file, SummaryOptions options, String userName, DocumentUploadEntity uploadEntity, String owner) {
+
+        try {
+            SummarizationJob job = summarizationJobService.submit(file, options, userName, uploadEntity, owner);
+            return ResponseEntity
+                    .status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(SummarizationJobResponse.from(job)));
+
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity
+                    .status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(ApiResponse.error(
+                            ErrorCode.TOO_MANY_REQUESTS,
+                            "Summarization queue is full, please retry later"
+                    ));
+
+        } catch (IOException e) {
+            log.error("Failed to queue summarization job: {}", file.getOriginalFilename(), e);
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(
+                            ErrorCode.PROCESSING_ERROR,
+                            "Failed to process document"
+                    ));
+        }
+    }
+
     private ResponseEntity<ApiResponse<SummaryResult>> handleProcessingException(
             DocumentProcessingException e, String filename) {
 
@@ -1,26 +1,82 @@
 package com.aissummarizer.jennet.document.dto;
 
-import lombok.Data;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 
 /**
  * Data for a single image (reusing from PPTX extractor)
+ * <p>
+ * Holds the raw encoded bytes; base64 is produced only when the request is built.
+ * The array is shared, not copied, so callers must not modify it.
  */
-@Data
-public class ImageData {
-    private String base64Data;
-    private String format;
-    private int sizeBytes;
-
-    public ImageData(String base64Data, String format, int sizeBytes) {
-        this.base64Data = base64Data;
+public final class ImageData {
+    private final byte[] data;
+    private final String format;
+
+    public ImageData(byte[] data, String format) {
+        this.data = data;
         this.format = format;
-        this.sizeBytes = sizeBytes;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public int getSizeBytes() {
+        return data.length;
     }
 
     /**
      * Get the data URL for use in OpenAI API
+     * <p>
+     * Encodes straight into one byte buffer and builds a Latin-1 string from it, so the
+     * result is stored compactly at one byte per character without an intermediate base64 string.
      */
     public String getDataUrl() {
-        return "data:image/" + format + ";base64," + base64Data;
+        byte[] prefix = ("data:image/" + format + ";base64,").getBytes(StandardCharsets.ISO_8859_1);
+        byte[] url = new byte[prefix.length + 4 * ((data.length + 2) / 3)];
+        System.arraycopy(prefix, 0, url, 0, prefix.length);
+        try (OutputStream out = Base64.getEncoder().wrap(new ArraySink(url, prefix.length))) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // cannot happen, the sink is sized exactly
+        }
+        return new String(url, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return "ImageData[format=" + format + ", sizeBytes=" + data.length + "]";
+    }
+
+    /**
+     * Writes into a preallocated array starting at an offset.
+     */
+    private static final class ArraySink extends OutputStream {
+        private final byte[] target;
+        private int position;
+
+        ArraySink(byte[] target, int offset) {
+            this.target = target;
+            this.position = offset;
+        }
+
+        @Override
+        public void write(int b) {
+            target[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            System.arraycopy(b, off, target, position, len);
+            position += len;
+        }
     }
-}
\ No newline at end of file
+}
@@ -5,7 +5,6 @@ import com.aissummarizer.jennet.user.entity.UserEntity;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -24,9 +23,14 @@ public class DocumentUploadEntity {
     @Column(nullable = false, updatable = false)
     private String id;
 
+    /**
+     * Fills in the id and upload time when not set. An upload time supplied by the caller,
+     * such as the original request time of a replayed outbox entry, is kept.
+     */
     @PrePersist
-    public void ensureId() {
+    public void ensureDefaults() {
         if (id == null) id = UUID.randomUUID().toString();
+        if (uploadedAt == null) uploadedAt = LocalDateTime.now();
     }
 
     @ManyToOne(optional = false)
@@ -37,7 +41,6 @@ public class DocumentUploadEntity {
     @Column(nullable = false)
     private DocumentType documentType;
 
-    @CreationTimestamp
     @Column(nullable = false)
     @JsonFormat(pattern = "MMM dd, yyyy 'on' HH:mm", locale = "en")
     private LocalDateTime uploadedAt;
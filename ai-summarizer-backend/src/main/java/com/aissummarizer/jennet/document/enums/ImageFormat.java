@@ -0,0 +1,22 @@
+package com.aissummarizer.jennet.document.enums;
+
+/**
+ * Encodings used when images are (re-)encoded before being sent to the model.
+ */
+public enum ImageFormat {
+    PNG("png"),
+    JPEG("jpeg"),
+    /** Requires an ImageIO WebP writer on the classpath; callers fall back to JPEG otherwise. */
+    WEBP("webp");
+
+    private final String formatName;
+
+    ImageFormat(String formatName) {
+        this.formatName = formatName;
+    }
+
+    /** ImageIO format name, also used as the data URL subtype. */
+    public String getFormatName() {
+        return formatName;
+    }
+}
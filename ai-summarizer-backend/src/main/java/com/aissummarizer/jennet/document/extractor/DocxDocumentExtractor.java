@@ -15,8 +15,10 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -46,22 +48,44 @@ public class DocxDocumentExtractor implements DocumentExtractor<DocxDocumentCont
     }
 
     private DocxDocumentContent extractFromDocument(XWPFDocument document) {
-        List<String> paragraphs = extractParagraphs(document);
+        List<String> paragraphs = new ArrayList<>();
+        List<List<ImageData>> paragraphImages = new ArrayList<>();
+        Set<XWPFPictureData> anchored = Collections.newSetFromMap(new IdentityHashMap<>());
+        // Pictures in image-only paragraphs belong to the preceding text, or to the first one
+        List<ImageData> leading = new ArrayList<>();
+
+        for (XWPFParagraph paragraph : document.getParagraphs()) {
+            List<ImageData> images = extractImages(paragraph, anchored);
+            String text = paragraph.getText();
+            if (text != null && !text.trim().isEmpty()) {
+                paragraphs.add(text.trim());
+                List<ImageData> own = new ArrayList<>(leading);
+                own.addAll(images);
+                paragraphImages.add(own);
+                leading.clear();
+            } else if (paragraphImages.isEmpty()) {
+                leading.addAll(images);
+            } else {
+                paragraphImages.getLast().addAll(images);
+            }
+        }
+
         List<TableData> tables = extractTables(document);
-        List<ImageData> images = extractImages(document);
+        List<ImageData> unanchored = new ArrayList<>(leading);
+        for (XWPFPictureData picture : document.getAllPictures()) {
+            if (!anchored.contains(picture)) {
+                ImageData image = toImageData(picture);
+                if (image != null) {
+                    unanchored.add(image);
+                }
+            }
+        }
 
-        logger.info("Extracted {} paragraphs, {} tables, {} images from DOCX",
-                paragraphs.size(), tables.size(), images.size());
+        DocxDocumentContent content = new DocxDocumentContent(paragraphs, paragraphImages, tables, unanchored);
+        logger.info("Extracted {} paragraphs, {} tables, {} images ({} not in a paragraph) from DOCX",
+                paragraphs.size(), tables.size(), content.getImages().size(), unanchored.size());
 
-        return new DocxDocumentContent(paragraphs, tables, images);
-    }
-
-    private List<String> extractParagraphs(XWPFDocument document) {
-        return document.getParagraphs().stream()
-                .map(XWPFParagraph::getText)
-                .filter(text -> text != null && !text.trim().isEmpty())
-                .map(String::trim)
-                .collect(Collectors.toList());
+        return content;
     }
 
     private List<TableData> extractTables(XWPFDocument document) {
@@ -88,22 +112,37 @@ public class DocxDocumentExtractor implements DocumentExtractor<DocxDocumentCont
         return new TableData(tableNumber, rows);
     }
 
-    private List<ImageData> extractImages(XWPFDocument document) {
+    /**
+     * Pictures drawn in the paragraph's runs; each picture is anchored only once.
+     */
+    private List<ImageData> extractImages(XWPFParagraph paragraph, Set<XWPFPictureData> anchored) {
         List<ImageData> images = new ArrayList<>();
 
-        for (XWPFPictureData picture : document.getAllPictures()) {
-            try {
-                byte[] imageBytes = picture.getData();
-                String contentType = picture.getPackagePart().getContentType();
-                String format = ImageUtils.getFormatFromContentType(contentType);
-                String base64 = Base64.getEncoder().encodeToString(imageBytes);
-
-                images.add(new ImageData(base64, format, imageBytes.length));
-            } catch (Exception e) {
-                logger.warn("Failed to extract image: {}", e.getMessage());
+        for (XWPFRun run : paragraph.getRuns()) {
+            for (XWPFPicture picture : run.getEmbeddedPictures()) {
+                XWPFPictureData data = picture.getPictureData();
+                if (data != null && anchored.add(data)) {
+                    ImageData image = toImageData(data);
+                    if (image != null) {
+                        images.add(image);
+                    }
+                }
             }
         }
 
         return images;
     }
-}
\ No newline at end of file
+
+    private ImageData toImageData(XWPFPictureData picture) {
+        try {
+            byte[] imageBytes = picture.getData();
+            String contentType = picture.getPackagePart().getContentType();
+            String format = ImageUtils.getFormatFromContentType(contentType);
+
+            return new ImageData(imageBytes, format);
+        } catch (Exception e) {
+            logger.warn("Failed to extract image: {}", e.getMessage());
+            return null;
+        }
+    }
+}
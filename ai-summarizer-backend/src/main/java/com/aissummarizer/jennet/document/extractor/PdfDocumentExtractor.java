@@ -1,152 +1,171 @@
 package com.aissummarizer.jennet.document.extractor;
 
 import com.aissummarizer.jennet.common.exception.DocumentProcessingException;
+import com.aissummarizer.jennet.config.PdfExtractionConfig;
 import com.aissummarizer.jennet.document.service.DocumentExtractor;
-import com.aissummarizer.jennet.document.dto.ImageData;
 import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.document.enums.ImageFormat;
 import com.aissummarizer.jennet.document.model.PdfDocumentContent;
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.io.RandomAccessRead;
-import org.apache.pdfbox.io.RandomAccessReadBuffer;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.rendering.PDFRenderer;
-import org.apache.pdfbox.text.PDFTextStripper;
+import com.aissummarizer.jennet.document.model.PdfPage;
+import com.aissummarizer.jennet.document.tools.ImageUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 @Component
 public class PdfDocumentExtractor implements DocumentExtractor<PdfDocumentContent> {
 
     private static final Logger logger = LoggerFactory.getLogger(PdfDocumentExtractor.class);
-    private static final float PDF_RENDERING_SCALE = 2.0f; // Higher quality
 
-    @Override
-    public PdfDocumentContent extract(InputStream inputStream)
-            throws DocumentProcessingException {
-
-        PDDocument document = null;
-        try (RandomAccessRead rar = new RandomAccessReadBuffer(inputStream)){
-            // PDFBox 3.x - Use Loader.loadPDF() for InputStream
-            document = Loader.loadPDF(rar);
-            return extractFromDocument(document);
-        } catch (IOException e) {
-            throw new DocumentProcessingException("Failed to extract PDF content", e);
-        } finally {
-            if (document != null) {
-                try {
-                    document.close();
-                } catch (IOException e) {
-                    logger.warn("Failed to close PDF document", e);
-                }
-            }
-        }
-    }
+    private final PdfExtractionConfig config;
+    private final ForkJoinPool pool;
 
-    @Override
-    public boolean supports(String fileExtension) {
-        return "pdf".equalsIgnoreCase(fileExtension);
+    public PdfDocumentExtractor(PdfExtractionConfig config, @Qualifier("pdfExtractionPool") ForkJoinPool pool) {
+        this.config = config;
+        this.pool = pool;
     }
 
     @Override
-    public DocumentType getDocumentType() {
-        return DocumentType.PDF;
-    }
-
-    private PdfDocumentContent extractFromDocument(PDDocument document)
+    public PdfDocumentContent extract(InputStream inputStream)
             throws DocumentProcessingException {
 
+        Path file = null;
         try {
-            List<String> textPages = extractText(document);
-            List<ImageData> images = extractImages(document);
-            int totalPages = document.getNumberOfPages();
-
-            logger.info("Extracted {} pages and {} images from PDF",
-                    totalPages, images.size());
-
-            return new PdfDocumentContent(textPages, images, totalPages);
-
+            file = spool(inputStream);
+            return extract(file);
         } catch (IOException e) {
-            throw new DocumentProcessingException("Failed to process PDF document", e);
+            throw new DocumentProcessingException("Failed to extract PDF content", e);
+        } finally {
+            deleteQuietly(file);
         }
     }
 
     /**
-     * Extract text from each page
+     * Extracts a PDF that is already on disk. Large documents are extracted in parallel
+     * (see {@link PdfExtractionConfig#getParallelMinPages()}), small ones page by page.
+     * <p>
+     * The result holds the document in memory: page text up to
+     * {@link PdfExtractionConfig#getMaxTextChars()} characters and at most
+     * {@link PdfExtractionConfig#getMaxImages()} rendered pages. The file itself and PDFBox's
+     * page objects are never held on heap. Use {@link #openPages(Path, boolean)} to process
+     * pages without retaining them.
      */
-    private List<String> extractText(PDDocument document) throws IOException {
-        List<String> textPages = new ArrayList<>();
-        PDFTextStripper stripper = new PDFTextStripper();
+    public PdfDocumentContent extract(Path file) throws DocumentProcessingException {
+        try (PdfPageStream pages = openPages(file, config.isRenderPages())) {
+            int totalPages = pages.getPageCount();
+            boolean parallel = config.isParallelEnabled() && totalPages >= config.getParallelMinPages();
+
+            Iterable<PdfPage> extracted = parallel
+                    ? new PdfParallelExtractor(file, config.isRenderPages() ? renderSettings() : null,
+                            config.getPagesPerTask(), pool).extract(pages)
+                    : pages;
+
+            List<PdfPage> kept = new ArrayList<>();
+            long textBudget = config.getMaxTextChars() > 0 ? config.getMaxTextChars() : Long.MAX_VALUE;
+            boolean truncated = false;
+            for (PdfPage page : extracted) {
+                if (page.text().length() > textBudget) {
+                    if (!truncated) {
+                        logger.warn("PDF text exceeds {} characters, ignoring text from page {} on",
+                                config.getMaxTextChars(), page.pageNumber());
+                        truncated = true;
+                    }
+                    page = new PdfPage(page.pageNumber(), page.text().substring(0, (int) textBudget),
+                            page.hasImageXObjects(), page.image());
+                }
+                textBudget -= page.text().length();
+                if (page.hasText() || page.image() != null) {
+                    kept.add(page);
+                }
+            }
+            PdfDocumentContent content = new PdfDocumentContent(kept, totalPages);
 
-        // Extract text page by page
-        stripper.setStartPage(1);
-        stripper.setEndPage(document.getNumberOfPages());
+            logger.info("Extracted {} pages from PDF ({}), rendered {} as images",
+                    totalPages, parallel ? "parallel" : "sequential", content.getImages().size());
 
-        for (int i = 0; i < document.getNumberOfPages(); i++) {
-            stripper.setStartPage(i + 1);
-            stripper.setEndPage(i + 1);
+            return content;
 
-            String pageText = stripper.getText(document);
-            if (pageText != null && !pageText.trim().isEmpty()) {
-                textPages.add(pageText.trim());
-            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new DocumentProcessingException("Failed to extract PDF content", e);
         }
-
-        logger.debug("Extracted text from {} pages", textPages.size());
-        return textPages;
     }
 
     /**
-     * Extract images from PDF by rendering pages
+     * Opens the PDF for page-at-a-time extraction.
+     * <p>
+     * The stream is spooled to a temp file first (deleted when the returned
+     * {@link PdfPageStream} is closed), so the raw PDF is never held on heap.
+     *
+     * @param inputStream  the PDF
+     * @param renderImages whether image-bearing or text-poor pages should be rendered
+     * @return open page stream, the caller must close it
      */
-    private List<ImageData> extractImages(PDDocument document)
-            throws IOException {
-
-        List<ImageData> images = new ArrayList<>();
-        PDFRenderer renderer = new PDFRenderer(document);
-
-        for (int i = 0; i < document.getNumberOfPages(); i++) {
-            try {
-                // Render page to image
-                BufferedImage image = renderer.renderImage(i, PDF_RENDERING_SCALE);
+    public PdfPageStream openPages(InputStream inputStream, boolean renderImages) throws IOException {
+        return PdfPageStream.open(spool(inputStream), true, renderImages ? renderSettings() : null);
+    }
 
-                // Convert to base64
-                String base64 = convertImageToBase64(image);
-                images.add(new ImageData(base64, "png", getImageSize(image)));
+    /**
+     * Opens a PDF that is already on disk for page-at-a-time extraction.
+     * The file is left in place when the returned stream is closed.
+     */
+    public PdfPageStream openPages(Path file, boolean renderImages) throws IOException {
+        return PdfPageStream.open(file, false, renderImages ? renderSettings() : null);
+    }
 
-                logger.debug("Extracted image from page {}", i + 1);
+    private static Path spool(InputStream inputStream) throws IOException {
+        Path file = Files.createTempFile("jennet-pdf-", ".pdf");
+        try {
+            Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
 
-            } catch (Exception e) {
-                logger.warn("Failed to extract image from page {}: {}", i + 1, e.getMessage());
-            }
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete temp file {}", file, e);
         }
+    }
 
-        return images;
+    private PdfPageStream.RenderSettings renderSettings() {
+        String formatName = config.getImageFormat().getFormatName();
+        if (!ImageUtils.canWrite(formatName)) {
+            logger.warn("No ImageIO writer for {}, rendering PDF pages as JPEG", formatName);
+            formatName = ImageFormat.JPEG.getFormatName();
+        }
+        return new PdfPageStream.RenderSettings(
+                config.getRenderDpi(),
+                formatName,
+                config.getImageQuality(),
+                config.getMinTextChars(),
+                config.getMaxImages());
     }
 
-    /**
-     * Convert BufferedImage to base64 PNG
-     */
-    private String convertImageToBase64(BufferedImage image) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(image, "PNG", baos);
-        byte[] imageBytes = baos.toByteArray();
-        return Base64.getEncoder().encodeToString(imageBytes);
+    @Override
+    public boolean supports(String fileExtension) {
+        return "pdf".equalsIgnoreCase(fileExtension);
     }
 
-    /**
-     * Get approximate size of image
-     */
-    private int getImageSize(BufferedImage image) {
-        return image.getWidth() * image.getHeight() * 4; // Approximate bytes
+    @Override
+    public DocumentType getDocumentType() {
+        return DocumentType.PDF;
     }
 }
@@ -0,0 +1,241 @@
+package com.aissummarizer.jennet.document.extractor;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.model.PdfPage;
+import com.aissummarizer.jennet.document.tools.ImageUtils;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Page-at-a-time view of a PDF file.
+ * <p>
+ * Pages are rasterized selectively: only pages that draw image XObjects or have little
+ * extractable text are rendered, up to a per-document image budget (see {@link RenderSettings}).
+ * <p>
+ * The document is read through {@link RandomAccessReadBufferedFile}, which keeps only a few
+ * pages of the file in memory, and PDFBox scratch data goes to a temp file. Pages are extracted
+ * and rendered lazily while iterating, so heap usage does not grow with the page count as long
+ * as callers do not retain the pages.
+ * <p>
+ * Not thread-safe; iterate from one thread and close when done.
+ */
+public final class PdfPageStream implements Iterable<PdfPage>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfPageStream.class);
+
+    /** Form XObjects can nest; deeper nesting than this is treated as image-free. */
+    private static final int MAX_FORM_DEPTH = 5;
+
+    /**
+     * Which pages get rasterized and how.
+     *
+     * @param dpi          render resolution
+     * @param formatName   ImageIO format name of the output (png, jpeg, webp)
+     * @param quality      compression quality for lossy formats
+     * @param minTextChars pages with less text than this are rendered
+     * @param maxImages    maximum number of rendered pages per document
+     */
+    public record RenderSettings(float dpi, String formatName, float quality, int minTextChars, int maxImages) {
+    }
+
+    private final Path file;
+    private final boolean deleteOnClose;
+    private final PDDocument document;
+    private final PDFTextStripper stripper;
+    private final PDFRenderer renderer;
+    private final RenderSettings renderSettings;
+    private int renderedImages;
+
+    private PdfPageStream(Path file, boolean deleteOnClose, PDDocument document, RenderSettings renderSettings)
+            throws IOException {
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+        this.document = document;
+        this.stripper = new PDFTextStripper();
+        this.renderer = renderSettings != null ? new PDFRenderer(document) : null;
+        this.renderSettings = renderSettings;
+    }
+
+    /**
+     * Opens a PDF file for incremental extraction.
+     *
+     * @param file           PDF on disk
+     * @param deleteOnClose  whether {@link #close()} should delete the file
+     * @param renderSettings page selection and encoding, or null to never render
+     */
+    public static PdfPageStream open(Path file, boolean deleteOnClose, RenderSettings renderSettings)
+            throws IOException {
+        PDDocument document = null;
+        try {
+            // The document takes ownership of the file reader and closes it
+            document = Loader.loadPDF(new RandomAccessReadBufferedFile(file.toFile()), "", null, null,
+                    IOUtils.createTempFileOnlyStreamCache());
+            return new PdfPageStream(file, deleteOnClose, document, renderSettings);
+        } catch (IOException | RuntimeException e) {
+            if (document != null) {
+                document.close();
+            }
+            if (deleteOnClose) {
+                Files.deleteIfExists(file);
+            }
+            throw e;
+        }
+    }
+
+    public int getPageCount() {
+        return document.getNumberOfPages();
+    }
+
+    /**
+     * Extracts a single page.
+     *
+     * @param pageIndex zero-based page index
+     */
+    public PdfPage page(int pageIndex) throws IOException {
+        PdfPage page = textPage(pageIndex);
+        if (isRenderCandidate(page) && renderedImages < renderSettings.maxImages()) {
+            return new PdfPage(page.pageNumber(), page.text(), page.hasImageXObjects(), render(pageIndex));
+        }
+        return page;
+    }
+
+    /**
+     * Extracts text and classifies a single page without rendering it.
+     *
+     * @param pageIndex zero-based page index
+     */
+    public PdfPage textPage(int pageIndex) throws IOException {
+        stripper.setStartPage(pageIndex + 1);
+        stripper.setEndPage(pageIndex + 1);
+        String text = stripper.getText(document);
+        text = text == null ? "" : text.trim();
+
+        boolean hasImages = hasImageXObjects(document.getPage(pageIndex).getResources(), 0);
+        return new PdfPage(pageIndex + 1, text, hasImages, null);
+    }
+
+    /**
+     * @return true if rendering is enabled and the page draws images or has little text;
+     *         ignores the per-document image budget
+     */
+    public boolean isRenderCandidate(PdfPage page) {
+        return renderer != null
+                && (page.hasImageXObjects() || page.text().length() < renderSettings.minTextChars());
+    }
+
+    /**
+     * Renders a single page with the configured settings, ignoring the image budget.
+     *
+     * @param pageIndex zero-based page index
+     * @return encoded page, or null if rendering failed
+     * @throws IllegalStateException if the stream was opened without render settings
+     */
+    public ImageData render(int pageIndex) {
+        if (renderer == null) {
+            throw new IllegalStateException("Page rendering is disabled for this stream");
+        }
+        try {
+            // RGB: JPEG has no alpha channel and the page background is opaque anyway
+            BufferedImage image = renderer.renderImageWithDPI(pageIndex, renderSettings.dpi(), ImageType.RGB);
+            byte[] encoded = ImageUtils.encode(image, renderSettings.formatName(), renderSettings.quality());
+            renderedImages++;
+            return new ImageData(encoded, renderSettings.formatName());
+        } catch (Exception e) {
+            logger.warn("Failed to render page {}: {}", pageIndex + 1, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return number of pages rendered so far
+     */
+    public int getRenderedImages() {
+        return renderedImages;
+    }
+
+    @Override
+    public Iterator<PdfPage> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < getPageCount();
+            }
+
+            @Override
+            public PdfPage next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return page(next++);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to extract PDF page " + next, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return sequential, lazily evaluated stream of pages
+     */
+    public Stream<PdfPage> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliterator(iterator(), getPageCount(), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Checks the page resources for image XObjects, descending into form XObjects.
+     */
+    private static boolean hasImageXObjects(PDResources resources, int depth) throws IOException {
+        if (resources == null || depth > MAX_FORM_DEPTH) {
+            return false;
+        }
+        for (COSName name : resources.getXObjectNames()) {
+            if (resources.isImageXObject(name)) {
+                return true;
+            }
+            PDXObject xObject = resources.getXObject(name);
+            if (xObject instanceof PDFormXObject form && hasImageXObjects(form.getResources(), depth + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            document.close();
+        } finally {
+            if (deleteOnClose) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.aissummarizer.jennet.document.extractor;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.model.PdfPage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Extracts the pages of a PDF on a {@link ForkJoinPool}.
+ * <p>
+ * PDFBox documents are not thread-safe, so each leaf task borrows a {@link PdfPageStream} (own
+ * parser, stripper and renderer) that no other task is using. Streams are returned after the
+ * task and reused, so at most one document is opened per concurrently running worker; the
+ * caller's stream, which already counted the pages, is the first one handed out.
+ * Extraction runs in two phases:
+ * <ol>
+ *   <li>text extraction and page classification over the whole page range;</li>
+ *   <li>rendering of the first {@code maxImages} render candidates only, so the image budget
+ *       is applied across the document exactly as in sequential mode.</li>
+ * </ol>
+ * Results are returned in page order.
+ */
+final class PdfParallelExtractor {
+
+    private final Path file;
+    private final PdfPageStream.RenderSettings renderSettings;
+    private final int pagesPerTask;
+    private final ForkJoinPool pool;
+    private final Queue<PdfPageStream> idle = new ConcurrentLinkedQueue<>();
+    private final Queue<PdfPageStream> opened = new ConcurrentLinkedQueue<>();
+
+    PdfParallelExtractor(Path file, PdfPageStream.RenderSettings renderSettings, int pagesPerTask, ForkJoinPool pool) {
+        this.file = file;
+        this.renderSettings = renderSettings;
+        this.pagesPerTask = pagesPerTask;
+        this.pool = pool;
+    }
+
+    /**
+     * @param seed stream already open on the same file with the same render settings; it is
+     *             lent to one task at a time and left open for the caller to close
+     * @return every page in order, with images on the selected pages
+     */
+    List<PdfPage> extract(PdfPageStream seed) throws IOException {
+        idle.add(seed);
+        try {
+            return extract(seed.getPageCount());
+        } finally {
+            closeOpened();
+        }
+    }
+
+    private List<PdfPage> extract(int pageCount) {
+        List<PdfPage> pages = pool.invoke(new TextTask(0, pageCount));
+        if (renderSettings == null || renderSettings.maxImages() == 0) {
+            return pages;
+        }
+
+        List<Integer> selected = selectPagesToRender(pages);
+        if (selected.isEmpty()) {
+            return pages;
+        }
+
+        Map<Integer, ImageData> images = pool.invoke(new RenderTask(selected, 0, selected.size()));
+        List<PdfPage> result = new ArrayList<>(pages.size());
+        for (PdfPage page : pages) {
+            ImageData image = images.get(page.pageNumber() - 1);
+            result.add(image == null ? page
+                    : new PdfPage(page.pageNumber(), page.text(), page.hasImageXObjects(), image));
+        }
+        return result;
+    }
+
+    private List<Integer> selectPagesToRender(List<PdfPage> pages) {
+        List<Integer> selected = new ArrayList<>();
+        for (PdfPage page : pages) {
+            if (selected.size() >= renderSettings.maxImages()) {
+                break;
+            }
+            if (page.hasImageXObjects() || page.text().length() < renderSettings.minTextChars()) {
+                selected.add(page.pageNumber() - 1);
+            }
+        }
+        return selected;
+    }
+
+    private PdfPageStream borrow() throws IOException {
+        PdfPageStream stream = idle.poll();
+        if (stream == null) {
+            stream = PdfPageStream.open(file, false, renderSettings);
+            opened.add(stream);
+        }
+        return stream;
+    }
+
+    private void release(PdfPageStream stream) {
+        idle.add(stream);
+    }
+
+    private void closeOpened() throws IOException {
+        IOException failure = null;
+        for (PdfPageStream stream : opened) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        opened.clear();
+        idle.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Extracts text and classification for the page range [from, to).
+     */
+    private final class TextTask extends RecursiveTask<List<PdfPage>> {
+        private final int from;
+        private final int to;
+
+        TextTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<PdfPage> compute() {
+            if (to - from <= pagesPerTask) {
+                List<PdfPage> pages = new ArrayList<>(to - from);
+                try {
+                    PdfPageStream stream = borrow();
+                    for (int i = from; i < to; i++) {
+                        pages.add(stream.textPage(i));
+                    }
+                    release(stream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to extract PDF pages " + (from + 1) + "-" + to, e);
+                }
+                return pages;
+            }
+
+            int mid = (from + to) >>> 1;
+            TextTask left = new TextTask(from, mid);
+            left.fork();
+            List<PdfPage> right = new TextTask(mid, to).compute();
+            List<PdfPage> pages = new ArrayList<>(left.join());
+            pages.addAll(right);
+            return pages;
+        }
+    }
+
+    /**
+     * Renders the selected pages at positions [from, to) of {@code pageIndexes}.
+     */
+    private final class RenderTask extends RecursiveTask<Map<Integer, ImageData>> {
+        private final List<Integer> pageIndexes;
+        private final int from;
+        private final int to;
+
+        RenderTask(List<Integer> pageIndexes, int from, int to) {
+            this.pageIndexes = pageIndexes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Integer, ImageData> compute() {
+            // Rendering is far more expensive than text extraction, so split it finer
+            if (to - from <= Math.max(1, pagesPerTask / 4)) {
+                Map<Integer, ImageData> images = new HashMap<>();
+                try {
+                    PdfPageStream stream = borrow();
+                    for (int i = from; i < to; i++) {
+                        int pageIndex = pageIndexes.get(i);
+                        ImageData image = stream.render(pageIndex);
+                        if (image != null) {
+                            images.put(pageIndex, image);
+                        }
+                    }
+                    release(stream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to render PDF pages", e);
+                }
+                return images;
+            }
+
+            int mid = (from + to) >>> 1;
+            RenderTask left = new RenderTask(pageIndexes, from, mid);
+            left.fork();
+            Map<Integer, ImageData> images = new HashMap<>(new RenderTask(pageIndexes, mid, to).compute());
+            images.putAll(left.join());
+            return images;
+        }
+    }
+}
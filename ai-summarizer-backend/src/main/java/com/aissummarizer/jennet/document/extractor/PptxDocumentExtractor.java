@@ -15,7 +15,6 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 
 @Component
@@ -84,9 +83,8 @@ public class PptxDocumentExtractor implements DocumentExtractor<PptxDocumentCont
             byte[] imageBytes = pictureData.getData();
             String contentType = pictureData.getContentType();
             String format = ImageUtils.getFormatFromContentType(contentType);
-            String base64 = Base64.getEncoder().encodeToString(imageBytes);
 
-            images.add(new ImageData(base64, format, imageBytes.length));
+            images.add(new ImageData(imageBytes, format));
         } catch (Exception e) {
             logger.warn("Failed to extract image: {}", e.getMessage());
         }
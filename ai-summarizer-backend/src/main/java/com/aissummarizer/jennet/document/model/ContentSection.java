@@ -0,0 +1,27 @@
+package com.aissummarizer.jennet.document.model;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A natural unit of a document (page, slide, paragraph or table) used when a
+ * document is too large to summarize in one request and has to be chunked.
+ *
+ * @param label  human-readable position, e.g. "Page 3" or "Slide 12"
+ * @param text   text of the section, never null
+ * @param images images belonging to the section
+ */
+public record ContentSection(String label, String text, List<ImageData> images) {
+
+    public ContentSection {
+        Objects.requireNonNull(label, "label cannot be null");
+        text = text == null ? "" : text;
+        images = images == null ? List.of() : List.copyOf(images);
+    }
+
+    public ContentSection(String label, String text) {
+        this(label, text, List.of());
+    }
+}
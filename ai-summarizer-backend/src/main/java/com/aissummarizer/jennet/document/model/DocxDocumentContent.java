@@ -5,26 +5,59 @@ import com.aissummarizer.jennet.document.dto.ImageData;
 import com.aissummarizer.jennet.document.dto.TableData;
 import com.aissummarizer.jennet.document.service.DocumentContent;
 import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Data
 @Service
 public class DocxDocumentContent implements DocumentContent {
 
     private final List<String> paragraphs;
+    /** Images drawn in each paragraph, index-aligned with {@link #paragraphs}. */
+    private final List<List<ImageData>> paragraphImages;
     private final List<TableData> tables;
+    /** Images that are not drawn in a body paragraph (headers, tables, unused parts). */
+    private final List<ImageData> unanchoredImages;
+    /** Paragraph images in document order followed by the unanchored ones. */
     private final List<ImageData> images;
     private SummaryMetadata  metadata;
+    /** Built on first use; the content is immutable. */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @ToString.Exclude @EqualsAndHashCode.Exclude
+    private volatile String allText;
 
-    public DocxDocumentContent(List<String> paragraphs, List<TableData> tables, List<ImageData> images) {
+    /**
+     * @param paragraphs       non-blank paragraph texts
+     * @param paragraphImages  images of each paragraph, same size as {@code paragraphs}
+     * @param tables           tables in document order
+     * @param unanchoredImages images not tied to a paragraph
+     */
+    public DocxDocumentContent(List<String> paragraphs, List<List<ImageData>> paragraphImages,
+                               List<TableData> tables, List<ImageData> unanchoredImages) {
+        if (paragraphImages.size() != paragraphs.size()) {
+            throw new IllegalArgumentException("Expected images for " + paragraphs.size()
+                    + " paragraphs, got " + paragraphImages.size());
+        }
         this.paragraphs = Collections.unmodifiableList(new ArrayList<>(paragraphs));
+        this.paragraphImages = paragraphImages.stream().map(List::copyOf).toList();
         this.tables = Collections.unmodifiableList(new ArrayList<>(tables));
-        this.images = Collections.unmodifiableList(new ArrayList<>(images));
+        this.unanchoredImages = List.copyOf(unanchoredImages);
+
+        List<ImageData> all = new ArrayList<>();
+        this.paragraphImages.forEach(all::addAll);
+        all.addAll(this.unanchoredImages);
+        this.images = Collections.unmodifiableList(all);
     }
     public void addParagraph(String paragraph) {
         paragraphs.add(paragraph);
@@ -51,11 +84,11 @@ public class DocxDocumentContent implements DocumentContent {
     }
 
     /**
-     * Check if image already exists (by base64 data)
+     * Check if image already exists (by image bytes)
      */
-    public boolean hasImage(String base64Data) {
+    public boolean hasImage(byte[] data) {
         for (ImageData img : images) {
-            if (img.getBase64Data().equals(base64Data)) {
+            if (img.getSizeBytes() == data.length && Arrays.equals(img.getData(), data)) {
                 return true;
             }
         }
@@ -66,7 +99,21 @@ public class DocxDocumentContent implements DocumentContent {
      * Get all text concatenated
      */
     public String getAllText() {
-        StringBuilder allText = new StringBuilder();
+        String text = allText;
+        if (text == null) {
+            text = buildAllText();
+            allText = text;
+        }
+        return text;
+    }
+
+    private String buildAllText() {
+        int length = 16;
+        for (String paragraph : paragraphs) {
+            length += paragraph.length() + 1;
+        }
+
+        StringBuilder allText = new StringBuilder(length);
 
         // Add paragraphs
         for (String paragraph : paragraphs) {
@@ -98,6 +145,38 @@ public class DocxDocumentContent implements DocumentContent {
         return DocumentType.DOCX;
     }
 
+    /**
+     * One section per paragraph, carrying the images drawn in it, then one per table and one
+     * per unanchored image, so image-heavy documents spread over several chunks.
+     */
+    @Override
+    public List<ContentSection> getSections() {
+        List<ContentSection> sections = new ArrayList<>(paragraphs.size() + tables.size() + unanchoredImages.size());
+        for (int i = 0; i < paragraphs.size(); i++) {
+            sections.add(new ContentSection("Paragraph " + (i + 1), paragraphs.get(i), paragraphImages.get(i)));
+        }
+        for (TableData table : tables) {
+            sections.add(new ContentSection("Table " + table.getTableNumber(), table.toText()));
+        }
+        for (int i = 0; i < unanchoredImages.size(); i++) {
+            sections.add(new ContentSection("Image " + (i + 1), "", List.of(unanchoredImages.get(i))));
+        }
+        return sections;
+    }
+
+    /**
+     * Maps images paragraph by paragraph and then the unanchored ones, in document order.
+     */
+    @Override
+    public DocxDocumentContent mapImages(UnaryOperator<List<ImageData>> mapper) {
+        List<List<ImageData>> mapped = new ArrayList<>(paragraphImages.size());
+        for (List<ImageData> group : paragraphImages) {
+            mapped.add(group.isEmpty() ? group : mapper.apply(group));
+        }
+        List<ImageData> rest = unanchoredImages.isEmpty() ? unanchoredImages : mapper.apply(unanchoredImages);
+        return new DocxDocumentContent(paragraphs, mapped, tables, rest);
+    }
+
     @Override
     public boolean hasImages() {
         return !images.isEmpty();
@@ -7,19 +7,51 @@ import com.aissummarizer.jennet.document.enums.DocumentType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
+/**
+ * Extracted PDF: the pages that have text or a rendered image, each keeping its source page
+ * number and image, so chunks and prompts refer to real page numbers.
+ */
 public final class PdfDocumentContent implements DocumentContent {
 
+    private final List<PdfPage> pages;
     private final List<String> textPages;
     private final List<ImageData> images;
     private final int totalPages;
+    /** Built on first use; the content is immutable. */
+    private volatile String allText;
 
-    public PdfDocumentContent(List<String> textPages, List<ImageData> images, int totalPages) {
-        this.textPages = Collections.unmodifiableList(new ArrayList<>(textPages));
-        this.images = Collections.unmodifiableList(new ArrayList<>(images));
+    /**
+     * @param pages      extracted pages in document order; pages without text or image are dropped
+     * @param totalPages number of pages in the source document
+     */
+    public PdfDocumentContent(List<PdfPage> pages, int totalPages) {
+        List<PdfPage> kept = new ArrayList<>(pages.size());
+        List<String> texts = new ArrayList<>(pages.size());
+        List<ImageData> pageImages = new ArrayList<>();
+        for (PdfPage page : pages) {
+            if (!page.hasText() && page.image() == null) {
+                continue;
+            }
+            kept.add(page);
+            if (page.hasText()) {
+                texts.add(page.text());
+            }
+            if (page.image() != null) {
+                pageImages.add(page.image());
+            }
+        }
+        this.pages = Collections.unmodifiableList(kept);
+        this.textPages = Collections.unmodifiableList(texts);
+        this.images = Collections.unmodifiableList(pageImages);
         this.totalPages = totalPages;
     }
 
+    public List<PdfPage> getPages() {
+        return pages;
+    }
+
     public List<String> getTextPages() {
         return textPages;
     }
@@ -35,11 +67,26 @@ public final class PdfDocumentContent implements DocumentContent {
 
     @Override
     public String getAllText() {
-        StringBuilder text = new StringBuilder();
+        String text = allText;
+        if (text == null) {
+            text = buildAllText();
+            allText = text;
+        }
+        return text;
+    }
 
-        for (int i = 0; i < textPages.size(); i++) {
-            text.append("=== PAGE ").append(i + 1).append(" ===\n");
-            text.append(textPages.get(i)).append("\n\n");
+    private String buildAllText() {
+        int length = 0;
+        for (String page : textPages) {
+            length += page.length() + 24;
+        }
+
+        StringBuilder text = new StringBuilder(length);
+        for (PdfPage page : pages) {
+            if (page.hasText()) {
+                text.append("=== PAGE ").append(page.pageNumber()).append(" ===\n");
+                text.append(page.text()).append("\n\n");
+            }
         }
 
         return text.toString();
@@ -49,7 +96,7 @@ public final class PdfDocumentContent implements DocumentContent {
     public int getWordCount() {
         int count = 0;
         for (String page : textPages) {
-            if (page != null && !page.trim().isEmpty()) {
+            if (!page.trim().isEmpty()) {
                 count += page.split("\\s+").length;
             }
         }
@@ -61,8 +108,39 @@ public final class PdfDocumentContent implements DocumentContent {
         return DocumentType.PDF;
     }
 
+    /**
+     * One section per page, labeled with the source page number and carrying that page's image.
+     */
+    @Override
+    public List<ContentSection> getSections() {
+        List<ContentSection> sections = new ArrayList<>(pages.size());
+        for (PdfPage page : pages) {
+            List<ImageData> pageImages = page.image() == null ? List.of() : List.of(page.image());
+            sections.add(new ContentSection("Page " + page.pageNumber(), page.text(), pageImages));
+        }
+        return sections;
+    }
+
+    /**
+     * Maps images page by page, so deduplication can drop repeats on later pages.
+     */
+    @Override
+    public PdfDocumentContent mapImages(UnaryOperator<List<ImageData>> mapper) {
+        List<PdfPage> mapped = new ArrayList<>(pages.size());
+        for (PdfPage page : pages) {
+            if (page.image() == null) {
+                mapped.add(page);
+                continue;
+            }
+            List<ImageData> result = mapper.apply(List.of(page.image()));
+            ImageData image = result.isEmpty() ? null : result.getFirst();
+            mapped.add(new PdfPage(page.pageNumber(), page.text(), page.hasImageXObjects(), image));
+        }
+        return new PdfDocumentContent(mapped, totalPages);
+    }
+
     @Override
     public boolean hasImages() {
         return !images.isEmpty();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.aissummarizer.jennet.document.model;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+
+/**
+ * A single page produced by incremental PDF extraction.
+ *
+ * @param pageNumber       one-based page number
+ * @param text             trimmed page text, empty if the page has none
+ * @param hasImageXObjects whether the page draws embedded raster images
+ * @param image            rendered page, or null if the page was not selected for rendering
+ */
+public record PdfPage(int pageNumber, String text, boolean hasImageXObjects, ImageData image) {
+
+    public boolean hasText() {
+        return !text.isEmpty();
+    }
+}
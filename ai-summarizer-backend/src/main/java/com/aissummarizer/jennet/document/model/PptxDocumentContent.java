@@ -3,12 +3,18 @@ package com.aissummarizer.jennet.document.model;
 import com.aissummarizer.jennet.document.enums.DocumentType;
 import com.aissummarizer.jennet.document.dto.ImageData;
 import com.aissummarizer.jennet.document.service.DocumentContent;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Container for all PPTX content
@@ -17,6 +23,10 @@ import java.util.List;
 @Data
 public final class PptxDocumentContent implements DocumentContent {
     private final List<SlideContent> slides;
+    /** Built on first use; the content is immutable. */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @ToString.Exclude @EqualsAndHashCode.Exclude
+    private volatile String allText;
 
     public PptxDocumentContent(List<SlideContent> slides) {
         this.slides = Collections.unmodifiableList(new ArrayList<>(slides));
@@ -43,7 +53,24 @@ public final class PptxDocumentContent implements DocumentContent {
      * Get all text from all slides concatenated
      */
     public String getAllText() {
-        StringBuilder allText = new StringBuilder();
+        String text = allText;
+        if (text == null) {
+            text = buildAllText();
+            allText = text;
+        }
+        return text;
+    }
+
+    private String buildAllText() {
+        int length = 0;
+        for (SlideContent slide : slides) {
+            length += 24;
+            for (String text : slide.getTextItems()) {
+                length += text.length() + 1;
+            }
+        }
+
+        StringBuilder allText = new StringBuilder(length);
         for (SlideContent slide : slides) {
             allText.append("=== Slide ").append(slide.getSlideNumber()).append(" ===\n");
             for (String text : slide.getTextItems()) {
@@ -81,6 +108,30 @@ public final class PptxDocumentContent implements DocumentContent {
         return DocumentType.PPTX;
     }
 
+    /**
+     * One section per slide, each carrying its own images.
+     */
+    @Override
+    public List<ContentSection> getSections() {
+        List<ContentSection> sections = new ArrayList<>(slides.size());
+        for (SlideContent slide : slides) {
+            sections.add(new ContentSection("Slide " + slide.getSlideNumber(), slide.getAllText(), slide.getImages()));
+        }
+        return sections;
+    }
+
+    /**
+     * Maps images slide by slide, so deduplication can drop repeats on later slides.
+     */
+    @Override
+    public PptxDocumentContent mapImages(UnaryOperator<List<ImageData>> mapper) {
+        List<SlideContent> mapped = new ArrayList<>(slides.size());
+        for (SlideContent slide : slides) {
+            mapped.add(new SlideContent(slide.getSlideNumber(), slide.getTextItems(), mapper.apply(slide.getImages())));
+        }
+        return new PptxDocumentContent(mapped);
+    }
+
     @Override
     public boolean hasImages() {
         return !getAllImages().isEmpty();
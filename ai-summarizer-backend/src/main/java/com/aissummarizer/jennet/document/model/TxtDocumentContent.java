@@ -3,7 +3,12 @@ package com.aissummarizer.jennet.document.model;
 import com.aissummarizer.jennet.document.enums.DocumentType;
 import com.aissummarizer.jennet.document.dto.ImageData;
 import com.aissummarizer.jennet.document.service.DocumentContent;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,6 +23,10 @@ import java.util.List;
  */
 public class TxtDocumentContent implements DocumentContent {
     private final List<String> paragraphs;
+    /** Built on first use; the content is immutable. */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @ToString.Exclude @EqualsAndHashCode.Exclude
+    private volatile String allText;
 
     public TxtDocumentContent(List<String> paragraphs) {
         this.paragraphs = Collections.unmodifiableList(new ArrayList<>(paragraphs));
@@ -37,7 +46,12 @@ public class TxtDocumentContent implements DocumentContent {
      * Get all text as a single string
      */
     public String getAllText() {
-        return String.join("\n\n", paragraphs);
+        String text = allText;
+        if (text == null) {
+            text = String.join("\n\n", paragraphs);
+            allText = text;
+        }
+        return text;
     }
 
     /**
@@ -74,6 +88,18 @@ public class TxtDocumentContent implements DocumentContent {
         return false;
     }
 
+    /**
+     * One section per paragraph.
+     */
+    @Override
+    public List<ContentSection> getSections() {
+        List<ContentSection> sections = new ArrayList<>(paragraphs.size());
+        for (int i = 0; i < paragraphs.size(); i++) {
+            sections.add(new ContentSection("Paragraph " + (i + 1), paragraphs.get(i)));
+        }
+        return sections;
+    }
+
     @Override
     public List<ImageData> getImages() {
         return Collections.emptyList();
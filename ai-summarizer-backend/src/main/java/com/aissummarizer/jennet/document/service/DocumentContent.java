@@ -2,8 +2,10 @@ package com.aissummarizer.jennet.document.service;
 
 import com.aissummarizer.jennet.document.enums.DocumentType;
 import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.model.ContentSection;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Base interface for all document content types
@@ -38,4 +40,23 @@ public interface DocumentContent {
      * @return List of images, empty list if none
      */
     List<ImageData> getImages();
+
+    /**
+     * Get the document split on its natural boundaries (pages, slides, paragraphs),
+     * in document order. Used to chunk documents that exceed the model context.
+     * @return Sections, by default a single section holding the whole document
+     */
+    default List<ContentSection> getSections() {
+        return List.of(new ContentSection("Document", getAllText(), getImages()));
+    }
+
+    /**
+     * Create a copy with transformed images. The mapper is called once per image group
+     * (e.g. per slide) in document order and may drop or replace images.
+     * @param mapper Image transformation
+     * @return Content with mapped images; this instance for content types without images
+     */
+    default DocumentContent mapImages(UnaryOperator<List<ImageData>> mapper) {
+        return this;
+    }
 }
@@ -6,11 +6,16 @@ import com.aissummarizer.jennet.document.extractor.MockTxtExtractor;
 import com.aissummarizer.jennet.document.extractor.TxtDocumentExtractor;
 import com.aissummarizer.jennet.document.factory.DocumentExtractorFactory;
 import com.aissummarizer.jennet.document.model.TxtDocumentContent;
+import com.aissummarizer.jennet.summarization.enums.SummarizationStage;
 import com.aissummarizer.jennet.summarization.model.SummaryOptions;
 import com.aissummarizer.jennet.summarization.model.SummaryResult;
 import com.aissummarizer.jennet.document.tools.FileUtils;
+import com.aissummarizer.jennet.document.tools.ImagePreprocessor;
 import com.aissummarizer.jennet.common.validator.FileValidator;
 import com.aissummarizer.jennet.summarization.service.AiSummarizer;
+import com.aissummarizer.jennet.summarization.service.StreamingAiSummarizer;
+import com.aissummarizer.jennet.summarization.service.SummarizationStageTimers;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Main service for document summarization
@@ -33,16 +39,25 @@ public class DocumentSummarizerService {
 
     private final DocumentExtractorFactory extractorFactory;
     private final AiSummarizer aiSummarizer;
+    private final StreamingAiSummarizer streamingAiSummarizer;
     private final FileValidator fileValidator;
+    private final ImagePreprocessor imagePreprocessor;
+    private final SummarizationStageTimers stageTimers;
 
     @Autowired
     public DocumentSummarizerService(
             DocumentExtractorFactory extractorFactory,
             AiSummarizer aiSummarizer,
-            FileValidator fileValidator) {
+            StreamingAiSummarizer streamingAiSummarizer,
+            FileValidator fileValidator,
+            ImagePreprocessor imagePreprocessor,
+            SummarizationStageTimers stageTimers) {
         this.extractorFactory = Objects.requireNonNull(extractorFactory);
         this.aiSummarizer = Objects.requireNonNull(aiSummarizer);
+        this.streamingAiSummarizer = Objects.requireNonNull(streamingAiSummarizer);
         this.fileValidator = Objects.requireNonNull(fileValidator);
+        this.imagePreprocessor = Objects.requireNonNull(imagePreprocessor);
+        this.stageTimers = Objects.requireNonNull(stageTimers);
     }
 
     /**
@@ -75,11 +90,7 @@ public class DocumentSummarizerService {
                     extractor.getDocumentType());
             // 3. Extract content
             DocumentContent content = extractWithLogging(extractor, file);
-            logger.info(options.getType().toString());
-            logger.info("========================================================");
-            logger.info(options.getCustomPrompt());
-            logger.info("========================================================");
-            logger.info(content.getAllText());
+            logger.debug("Summary type: {}, custom prompt: {}", options.getType(), options.getCustomPrompt() != null);
             // 4. Summarize with AI
             SummaryResult result = aiSummarizer.summarize(content, options, userName, documentUploadEntity);
             long duration = System.currentTimeMillis() - startTime;
@@ -95,6 +106,53 @@ public class DocumentSummarizerService {
         }
     }
 
+    /**
+     * Summarize uploaded document, forwarding generated text to {@code onChunk} as it streams in
+     * @param file Uploaded file
+     * @param options Summarization options
+     * @param onChunk Receives each generated text chunk
+     * @return Summary result once the stream has completed
+     * @throws DocumentProcessingException if processing fails
+     */
+    public SummaryResult streamDocument(
+            MultipartFile file,
+            SummaryOptions options,
+            String userName,
+            DocumentUploadEntity documentUploadEntity,
+            Consumer<String> onChunk
+    ) throws DocumentProcessingException {
+
+        Objects.requireNonNull(file, "file cannot be null");
+        Objects.requireNonNull(options, "options cannot be null");
+        Objects.requireNonNull(onChunk, "onChunk cannot be null");
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            fileValidator.validate(file);
+            String filename = file.getOriginalFilename();
+            DocumentExtractor<?> extractor = extractorFactory.getExtractor(filename);
+            logger.info("Streaming summary for file: {} ({}), type: {}",
+                    filename, FileUtils.formatFileSize(file.getSize()),
+                    extractor.getDocumentType());
+            DocumentContent content = extractWithLogging(extractor, file);
+            SummaryResult result = streamingAiSummarizer.summarizeStreaming(
+                    content, options, userName, documentUploadEntity, onChunk);
+            long duration = System.currentTimeMillis() - startTime;
+            logger.info("Successfully streamed {} in {}ms", filename, duration);
+            return result;
+
+        } catch (IOException e) {
+            logger.error("IO error processing file: {}", file.getOriginalFilename(), e);
+            throw new DocumentProcessingException("Failed to read file", e);
+        } catch (DocumentProcessingException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Unexpected error processing file: {}", file.getOriginalFilename(), e);
+            throw new DocumentProcessingException("Unexpected error: " + e.getMessage(), e);
+        }
+    }
+
     public SummaryResult summarizeDocument(
             String customText,
             SummaryOptions options,
@@ -104,12 +162,10 @@ public class DocumentSummarizerService {
             long startTime = System.currentTimeMillis();
             String filename = customText.substring(0, customText.indexOf(" "));
             // 3. Extract content
+            Timer.Sample extractSample = stageTimers.start();
             DocumentContent content = MockTxtExtractor.extract(customText);
-            logger.info(options.getType().toString());
-            logger.info("========================================================");
-            logger.info(options.getCustomPrompt());
-            logger.info("========================================================");
-            logger.info(content.getAllText());
+            stageTimers.stop(extractSample, SummarizationStage.EXTRACT);
+            logger.debug("Summary type: {}, custom prompt: {}", options.getType(), options.getCustomPrompt() != null);
             // 4. Summarize with AI
             SummaryResult result = aiSummarizer.summarize(content, options, userName, documentUploadEntity);
             long duration = System.currentTimeMillis() - startTime;
@@ -123,14 +179,19 @@ public class DocumentSummarizerService {
 
         logger.debug("Extracting content using {}", extractor.getClass().getSimpleName());
         long extractStart = System.currentTimeMillis();
+        Timer.Sample extractSample = stageTimers.start();
 
         DocumentContent content = extractor.extract(file.getInputStream());
 
+        stageTimers.stop(extractSample, SummarizationStage.EXTRACT);
         long extractDuration = System.currentTimeMillis() - extractStart;
         logger.debug("Extraction completed in {}ms, words: {}, images: {}",
                 extractDuration, content.getWordCount(), content.getImages().size());
 
-        return content;
+        Timer.Sample preprocessSample = stageTimers.start();
+        DocumentContent processed = imagePreprocessor.process(content);
+        stageTimers.stop(preprocessSample, SummarizationStage.PREPROCESS);
+        return processed;
     }
 
     /**
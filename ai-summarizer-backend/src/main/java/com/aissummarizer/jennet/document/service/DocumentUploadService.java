@@ -11,19 +11,20 @@ import org.springframework.web.multipart.MultipartFile;
  * <p>
  * Responsibilities:
  * - Validating uploaded files
- * - Storing file metadata in DB
- * - Returning DocumentUploadEntity records
+ * - Building DocumentUploadEntity records (stored later with the summary)
  * - Passing raw InputStreams to extractors when needed
  */
 public interface DocumentUploadService {
 
     /**
-     * Uploads a document, validates it, stores metadata in DB,
-     * and returns the saved DocumentUploadEntity.
+     * Validates an uploaded document and returns its unsaved DocumentUploadEntity.
+     * <p>
+     * Nothing is written before extraction starts; the record is inserted by the
+     * summarization outbox together with the summary.
      *
      * @param file the uploaded file
      * @param userId the user uploading the file
-     * @return saved DocumentUploadEntity
+     * @return unsaved DocumentUploadEntity
      */
     DocumentUploadEntity uploadDocument(MultipartFile file, String userId) throws InvalidFileException, UnsupportedDocumentTypeException;
 
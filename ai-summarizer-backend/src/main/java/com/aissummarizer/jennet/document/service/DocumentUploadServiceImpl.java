@@ -14,7 +14,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * Implementation of DocumentUploadService.
@@ -22,7 +21,7 @@ import java.util.UUID;
  * Handles:
  * - file validation
  * - file extension extraction
- * - saving document metadata in DB
+ * - building the upload record that is stored along with the summary
  * - ensuring uploaded files can be extracted using the supported extractors
  */
 @Service
@@ -49,11 +48,10 @@ public class DocumentUploadServiceImpl implements DocumentUploadService {
         // Validate extension (throws if unsupported)
         FileUtils.getFileExtension(originalFilename);
 
-        // STORE METADATA IN DATABASE
+        // Not saved here: the summarization outbox stores it together with the summary
         UserEntity user = userService.getByUserName(userName);
 
-        DocumentUploadEntity entity = DocumentUploadEntity.builder()
-                .id(UUID.randomUUID().toString())
+        return DocumentUploadEntity.builder()
                 .user(user)
                 .originalFilename(originalFilename)
                 .fileSize(file.getSize())
@@ -61,11 +59,11 @@ public class DocumentUploadServiceImpl implements DocumentUploadService {
                 .documentType(DocumentType.fromExtension(FileUtils.getFileExtension(file.getOriginalFilename())))
                 .fileExtension(FileUtils.getFileExtension(file.getOriginalFilename()))
                 .build();
-        return documentUploadRepository.save(entity);
     }
 
     /**
-     * If user sends text instead of file, we need to create MockDocument to save smth in DB
+     * If user sends text instead of file, we need to create MockDocument to save smth in DB.
+     * Like {@link #uploadDocument}, the record is only stored once the summary is persisted.
      * @param customText users text
      * @param userName users username
      * @return DocumentUploadEntity
@@ -81,11 +79,9 @@ public class DocumentUploadServiceImpl implements DocumentUploadService {
             throw new InvalidFileException("Text is blank");
         }
 
-        // STORE METADATA IN DATABASE
         UserEntity user = userService.getByUserName(userName);
 
-        DocumentUploadEntity entity = DocumentUploadEntity.builder()
-                .id(UUID.randomUUID().toString())
+        return DocumentUploadEntity.builder()
                 .user(user)
                 .originalFilename(originalFilename)
                 .fileSize(customText.getBytes().length)
@@ -93,8 +89,6 @@ public class DocumentUploadServiceImpl implements DocumentUploadService {
                 .documentType(DocumentType.TXT)
                 .fileExtension("TXT")
                 .build();
-
-        return documentUploadRepository.save(entity);
     }
 
 
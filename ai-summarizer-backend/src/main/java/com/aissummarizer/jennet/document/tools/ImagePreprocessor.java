@@ -0,0 +1,250 @@
+package com.aissummarizer.jennet.document.tools;
+
+import com.aissummarizer.jennet.config.ImageProcessingConfig;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.enums.ImageFormat;
+import com.aissummarizer.jennet.document.service.DocumentContent;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Prepares extracted images for the model.
+ * <p>
+ * Images are deduplicated by a hash of their decoded bytes (logos and slide masters repeat on
+ * every page), downscaled so the longest edge fits {@link ImageProcessingConfig#getMaxEdgePx()},
+ * re-encoded when that makes them smaller, and dropped once the per-document count or byte
+ * budget is spent.
+ */
+@Component
+public class ImagePreprocessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePreprocessor.class);
+
+    private final ImageProcessingConfig config;
+    private final String formatName;
+    private final Counter kept;
+    private final Counter duplicates;
+    private final Counter unsupported;
+    private final Counter overBudget;
+    private final Counter bytesIn;
+    private final Counter bytesOut;
+    private final Counter bytesSaved;
+
+    public ImagePreprocessor(ImageProcessingConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.formatName = ImageUtils.canWrite(config.getFormat().getFormatName())
+                ? config.getFormat().getFormatName()
+                : ImageFormat.JPEG.getFormatName();
+
+        this.kept = outcome(meterRegistry, "kept");
+        this.duplicates = outcome(meterRegistry, "duplicate");
+        this.unsupported = outcome(meterRegistry, "unsupported");
+        this.overBudget = outcome(meterRegistry, "over_budget");
+        this.bytesIn = Counter.builder("document.images.bytes.in")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.bytesOut = Counter.builder("document.images.bytes.out")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.bytesSaved = Counter.builder("document.images.bytes.saved")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Apply dedupe, downscaling and the request budget to all images of a document.
+     * @param content Extracted content
+     * @return Content with processed images, or the same instance when disabled or image-free
+     */
+    public DocumentContent process(DocumentContent content) {
+        if (!config.isEnabled() || !content.hasImages()) {
+            return content;
+        }
+
+        Session session = new Session();
+        DocumentContent processed = content.mapImages(session::process);
+
+        logger.debug("Image preprocessing: {} kept, {} duplicate, {} unsupported, {} over budget, {} -> {} bytes",
+                session.keptCount, session.duplicateCount, session.unsupportedCount, session.overBudgetCount,
+                session.inputBytes, session.outputBytes);
+        return processed;
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("document.images.processed")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Per-document state, so duplicates and the budget span all slides or pages.
+     */
+    private final class Session {
+
+        private final Set<String> seen = new HashSet<>();
+        private int keptCount;
+        private int duplicateCount;
+        private int unsupportedCount;
+        private int overBudgetCount;
+        private long inputBytes;
+        private long outputBytes;
+
+        List<ImageData> process(List<ImageData> images) {
+            List<ImageData> result = new ArrayList<>(images.size());
+            for (ImageData image : images) {
+                ImageData processed = processOne(image);
+                if (processed != null) {
+                    result.add(processed);
+                }
+            }
+            return result;
+        }
+
+        private ImageData processOne(ImageData image) {
+            byte[] original = image.getData();
+            inputBytes += original.length;
+            bytesIn.increment(original.length);
+
+            String hash = Hashing.sha256().hashBytes(original).toString();
+            if (!seen.add(hash)) {
+                duplicateCount++;
+                duplicates.increment();
+                bytesSaved.increment(original.length);
+                return null;
+            }
+
+            if (keptCount >= config.getMaxImagesPerRequest()) {
+                return dropOverBudget(original.length);
+            }
+
+            ImageData result = shrink(image, original);
+            if (result == null) {
+                unsupportedCount++;
+                unsupported.increment();
+                bytesSaved.increment(original.length);
+                return null;
+            }
+
+            if (outputBytes + result.getSizeBytes() > config.getMaxBytesPerRequest()) {
+                return dropOverBudget(original.length);
+            }
+
+            keptCount++;
+            outputBytes += result.getSizeBytes();
+            kept.increment();
+            bytesOut.increment(result.getSizeBytes());
+            bytesSaved.increment(Math.max(0, original.length - result.getSizeBytes()));
+            return result;
+        }
+
+        private ImageData dropOverBudget(int size) {
+            overBudgetCount++;
+            overBudget.increment();
+            bytesSaved.increment(size);
+            return null;
+        }
+
+        /**
+         * Downscale and re-encode; keeps the original bytes when they are already
+         * small enough and in a format the model accepts.
+         * @return Processed image, or null when ImageIO cannot decode it
+         */
+        private ImageData shrink(ImageData image, byte[] original) {
+            BufferedImage decoded;
+            try {
+                decoded = ImageIO.read(new ByteArrayInputStream(original));
+            } catch (IOException e) {
+                logger.debug("Failed to decode {} image: {}", image.getFormat(), e.getMessage());
+                return null;
+            }
+            if (decoded == null) {
+                return null;
+            }
+
+            int maxEdge = config.getMaxEdgePx();
+            boolean needsResize = Math.max(decoded.getWidth(), decoded.getHeight()) > maxEdge;
+            if (!needsResize && isModelFormat(image.getFormat())) {
+                return image;
+            }
+
+            try {
+                BufferedImage scaled = needsResize ? scale(decoded, maxEdge) : decoded;
+                byte[] encoded = ImageUtils.encode(flatten(scaled), formatName, config.getQuality());
+                if (!needsResize && encoded.length >= original.length) {
+                    return image;
+                }
+                return new ImageData(encoded, formatName);
+            } catch (IOException e) {
+                logger.debug("Failed to re-encode image: {}", e.getMessage());
+                return needsResize ? null : image;
+            }
+        }
+    }
+
+    /**
+     * Formats the vision API accepts as-is.
+     */
+    private static boolean isModelFormat(String format) {
+        if (format == null) {
+            return false;
+        }
+        return switch (format.toLowerCase()) {
+            case "png", "jpeg", "jpg", "webp", "gif" -> true;
+            default -> false;
+        };
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxEdge) {
+        double ratio = (double) maxEdge / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Drop alpha onto a white background; JPEG writers reject ARGB images.
+     */
+    private static BufferedImage flatten(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage target = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
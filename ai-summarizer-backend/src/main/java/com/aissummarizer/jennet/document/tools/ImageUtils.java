@@ -1,5 +1,15 @@
 package com.aissummarizer.jennet.document.tools;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
 /**
  * Image utility methods
  */
@@ -28,4 +38,46 @@ public final class ImageUtils {
 
         return "png"; // default
     }
+
+    /**
+     * Check whether ImageIO can write the given format
+     * @param formatName ImageIO format name (png, jpeg, webp)
+     * @return true if a writer is registered
+     */
+    public static boolean canWrite(String formatName) {
+        return ImageIO.getImageWritersByFormatName(formatName).hasNext();
+    }
+
+    /**
+     * Encode an image, applying lossy compression when the format supports it
+     * @param image Image to encode; must not have alpha for JPEG
+     * @param formatName ImageIO format name (png, jpeg, webp)
+     * @param quality Compression quality 0.0-1.0, ignored by lossless formats
+     * @return Encoded bytes
+     * @throws IOException if no writer exists or encoding fails
+     */
+    public static byte[] encode(BufferedImage image, String formatName, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for format: " + formatName);
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes().length > 0) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
 }
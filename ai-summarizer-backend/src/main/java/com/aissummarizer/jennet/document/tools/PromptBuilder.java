@@ -1,41 +1,33 @@
 package com.aissummarizer.jennet.document.tools;
 
+import com.aissummarizer.jennet.document.enums.DocumentType;
 import com.aissummarizer.jennet.document.service.DocumentContent;
+import com.aissummarizer.jennet.summarization.chunk.ContentChunk;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
 import com.aissummarizer.jennet.summarization.model.SummaryOptions;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds model prompts from {@link PromptTemplate templates} compiled once at class load.
+ * <p>
+ * Every summary type has one template with a {@code {type}} placeholder that reads
+ * e.g. "PDF document" for uploads and "text" for custom text.
+ */
 @Component
 public class PromptBuilder {
 
-    public String buildPrompt(DocumentContent content, SummaryOptions options) {
-        return switch (options.getType()) {
-            case COMPREHENSIVE -> buildComprehensivePrompt(content);
-            case BRIEF -> buildBriefPrompt(content);
-            case KEY_POINTS -> buildKeyPointsPrompt(content);
-            case EXECUTIVE -> buildExecutivePrompt(content);
-            case SENTIMENT -> buildSentimentPrompt(content);
-            case TECHNICAL -> buildTechnicalPrompt(content);
-            case CUSTOM -> buildCustomPrompt(content, options.getCustomPrompt());
-            case QUIZ -> buildQuiz(content);
-        };
-    }
+    private static final String[] NAMES = {"type", "content", "instructions"};
+    private static final String CUSTOM_TEXT_TYPE = "text";
 
-    public String buildPrompt(String content, SummaryOptions options) {
-        return switch (options.getType()) {
-            case COMPREHENSIVE -> buildComprehensivePrompt(content);
-            case BRIEF -> buildBriefPrompt(content);
-            case KEY_POINTS -> buildKeyPointsPrompt(content);
-            case EXECUTIVE -> buildExecutivePrompt(content);
-            case SENTIMENT -> buildSentimentPrompt(content);
-            case TECHNICAL -> buildTechnicalPrompt(content);
-            case CUSTOM -> buildCustomPrompt(content, options.getCustomPrompt());
-            case QUIZ -> buildQuiz(content);
-        };
-    }
+    private static final Map<SummaryType, PromptTemplate> TEMPLATES = new EnumMap<>(SummaryType.class);
 
-    private String buildComprehensivePrompt(DocumentContent content) {
-        return String.format("""
-            Please provide a comprehensive summary of this %s.
+    static {
+        TEMPLATES.put(SummaryType.COMPREHENSIVE, PromptTemplate.compile("""
+            Please provide a comprehensive summary of this {type}.
             Include:
             1. Main topic/theme
             2. Key points covered
@@ -44,75 +36,49 @@ public class PromptBuilder {
             5. Overall structure
             
             Content:
-            %s
-            """, content.getType().getDescription(), content.getAllText());
-    }
+            {content}
+            """, NAMES));
 
-    private String buildBriefPrompt(DocumentContent content) {
-        return String.format("""
-            Summarize this %s in 2-3 sentences.
+        TEMPLATES.put(SummaryType.BRIEF, PromptTemplate.compile("""
+            Summarize this {type} in 2-3 sentences.
             Focus only on the most important information.
             
             Content:
-            %s
-            """, content.getType().getDescription(), content.getAllText());
-    }
+            {content}
+            """, NAMES));
 
-    private String buildKeyPointsPrompt(DocumentContent content) {
-        return String.format("""
-            Extract the key points from this %s.
+        TEMPLATES.put(SummaryType.KEY_POINTS, PromptTemplate.compile("""
+            Extract the key points from this {type}.
             Present them as a bulleted list.
             
             Content:
-            %s
-            """, content.getType().getDescription(), content.getAllText());
-    }
+            {content}
+            """, NAMES));
 
-    private String buildExecutivePrompt(DocumentContent content) {
-        return String.format("""
-            Create a professional executive summary of this %s.
+        TEMPLATES.put(SummaryType.EXECUTIVE, PromptTemplate.compile("""
+            Create a professional executive summary of this {type}.
             The summary should be:
             - Concise (2-3 paragraphs)
             - Written in formal business language
             - Focused on key decisions and recommendations
             
             Content:
-            %s
-            """, content.getType().getDescription(), content.getAllText());
-    }
+            {content}
+            """, NAMES));
 
-    private String buildSentimentPrompt(DocumentContent content) {
-        return String.format("""
-            Analyze the sentiment and tone of this %s.
+        TEMPLATES.put(SummaryType.SENTIMENT, PromptTemplate.compile("""
+            Analyze the sentiment and tone of this {type}.
             Describe:
             1. Overall sentiment (positive, negative, neutral)
             2. Tone (formal, informal, technical, etc.)
             3. Emotional elements
             
             Content:
-            %s
-            """, content.getType().getDescription(), content.getAllText());
-    }
-
-    private String buildQuiz(DocumentContent content) {
-        return String.format("""
-            Please provide a comprehensive summary of this %s.
-            Include:
-            1. Main topic/theme
-            2. Key points covered
-            3. Visual elements analysis (if any)
-            4. Important takeaways
-            5. Overall structure
+            {content}
+            """, NAMES));
 
-            Make quiz of 20 questions with A, B, C, D choices, without showing right answers:
-            Content:
-            %s
-            """, content.getType().getDescription(), content.getAllText());
-    }
-
-    private String buildTechnicalPrompt(DocumentContent content) {
-        return String.format("""
-            Provide a technical summary of this %s.
+        TEMPLATES.put(SummaryType.TECHNICAL, PromptTemplate.compile("""
+            Provide a technical summary of this {type}.
             Focus on:
             1. Technical specifications
             2. Implementation details
@@ -120,116 +86,104 @@ public class PromptBuilder {
             4. Technical requirements
             
             Content:
-            %s
-            """, content.getType().getDescription(), content.getAllText());
-    }
+            {content}
+            """, NAMES));
 
-    private String buildCustomPrompt(DocumentContent content, String customPrompt) {
-        return String.format("""
-            %s
+        TEMPLATES.put(SummaryType.CUSTOM, PromptTemplate.compile("""
+            {instructions}
             
             Content:
-            %s
-            """, customPrompt, content.getAllText());
-    }
+            {content}
+            """, NAMES));
 
-    private String buildComprehensivePrompt(String content) {
-        return String.format("""
-            Please provide a comprehensive summary of this text.
+        TEMPLATES.put(SummaryType.QUIZ, PromptTemplate.compile("""
+            Please provide a comprehensive summary of this {type}.
             Include:
             1. Main topic/theme
             2. Key points covered
             3. Visual elements analysis (if any)
             4. Important takeaways
             5. Overall structure
-            
+
+            Make quiz of 20 questions with A, B, C, D choices, without showing right answers:
             Content:
-            %s
-            """, content);
+            {content}
+            """, NAMES));
     }
 
-    private String buildBriefPrompt(String content) {
-        return String.format("""
-            Summarize this text in 2-3 sentences.
-            Focus only on the most important information.
+    private static final PromptTemplate CHUNK = PromptTemplate.compile("""
+            You are reading part {index} of {total} ({label}) of a {type} that is too long to process at once.
+            Summarize this part only. Keep every fact, figure, name, date and conclusion
+            that may matter for the final result, because your summary will be combined
+            with the summaries of the other parts.
+            {focus}
             
             Content:
-            %s
-            """, content);
-    }
+            {content}
+            """, "index", "total", "label", "type", "focus", "content");
 
-    private String buildKeyPointsPrompt(String content) {
-        return String.format("""
-            Extract the key points from this text.
-            Present them as a bulleted list.
+    private static final PromptTemplate MERGE = PromptTemplate.compile("""
+            The following are summaries of consecutive parts of one {type}, in document order.
+            Merge them into a single summary of these parts. Keep every fact, figure, name,
+            date and conclusion; drop only repetition.
             
-            Content:
-            %s
-            """, content);
-    }
+            Summaries:
+            {summaries}
+            """, "type", "summaries");
 
-    private String buildExecutivePrompt(String content) {
-        return String.format("""
-            Create a professional executive summary of this text.
-            The summary should be:
-            - Concise (2-3 paragraphs)
-            - Written in formal business language
-            - Focused on key decisions and recommendations
+    private static final PromptTemplate REDUCE = PromptTemplate.compile("""
+            The content below consists of summaries of consecutive parts of one {type},
+            in document order. Treat them together as the full document.
             
-            Content:
-            %s
-            """, content);
+            {prompt}""", "type", "prompt");
+
+    public String buildPrompt(DocumentContent content, SummaryOptions options) {
+        return render(options, content.getType().getDescription(), content.getAllText());
     }
 
-    private String buildSentimentPrompt(String content) {
-        return String.format("""
-            Analyze the sentiment and tone of this text.
-            Describe:
-            1. Overall sentiment (positive, negative, neutral)
-            2. Tone (formal, informal, technical, etc.)
-            3. Emotional elements
-            
-            Content:
-            %s
-            """, content);
+    public String buildPrompt(String content, SummaryOptions options) {
+        return render(options, CUSTOM_TEXT_TYPE, content);
     }
 
-    private String buildTechnicalPrompt(String content) {
-        return String.format("""
-            Provide a technical summary of this text.
-            Focus on:
-            1. Technical specifications
-            2. Implementation details
-            3. Key algorithms or processes
-            4. Technical requirements
-            
-            Content:
-            %s
-            """, content);
+    /**
+     * Prompt for the map step of chunked summarization: summarizes one part of a large
+     * document so that it can later be combined with the summaries of the other parts.
+     */
+    public String buildChunkPrompt(ContentChunk chunk, int totalChunks, DocumentType documentType, SummaryOptions options) {
+        String focus = options.getType() == SummaryType.CUSTOM && options.getCustomPrompt() != null
+                ? "The final result must follow these instructions: " + options.getCustomPrompt()
+                : "The final result will be: " + options.getType().getDescription();
+
+        return CHUNK.render(String.valueOf(chunk.index() + 1), String.valueOf(totalChunks), chunk.label(),
+                documentType.getDescription(), focus, chunk.text());
     }
 
-    private String buildCustomPrompt(String content, String customPrompt) {
-        return String.format("""
-            %s
-            
-            Content:
-            %s
-            """, customPrompt, content);
+    /**
+     * Prompt for an intermediate reduce step: merges partial summaries of consecutive
+     * parts into one, without applying the final summary format yet.
+     */
+    public String buildMergePrompt(List<String> partialSummaries, DocumentType documentType) {
+        return MERGE.render(documentType.getDescription(), joinPartials(partialSummaries));
     }
 
-    private String buildQuiz(String content) {
-        return String.format("""
-            Please provide a comprehensive summary of this text.
-            Include:
-            1. Main topic/theme
-            2. Key points covered
-            3. Visual elements analysis (if any)
-            4. Important takeaways
-            5. Overall structure
+    /**
+     * Prompt for the final reduce step: applies the requested summary type to the
+     * partial summaries as if they were the document itself.
+     */
+    public String buildReducePrompt(List<String> partialSummaries, DocumentType documentType, SummaryOptions options) {
+        return REDUCE.render(documentType.getDescription(), buildPrompt(joinPartials(partialSummaries), options));
+    }
 
-            Make quiz of 20 questions with A, B, C, D choices, without showing right answers:
-            Content:
-            %s
-            """, content);
+    private String render(SummaryOptions options, String type, String content) {
+        return TEMPLATES.get(options.getType()).render(type, content, options.getCustomPrompt());
+    }
+
+    private String joinPartials(List<String> partialSummaries) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < partialSummaries.size(); i++) {
+            joined.append("--- Part ").append(i + 1).append(" ---\n")
+                    .append(partialSummaries.get(i).strip()).append("\n\n");
+        }
+        return joined.toString();
     }
 }
@@ -0,0 +1,92 @@
+package com.aissummarizer.jennet.document.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A prompt template parsed once into literal segments and {@code {name}} placeholders.
+ * <p>
+ * Rendering measures all parts first and appends them into one exactly sized buffer, so a
+ * large document text is copied once into the prompt instead of going through
+ * {@link String#format} and repeated buffer growth.
+ */
+public final class PromptTemplate {
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int literalLength;
+    private final int arity;
+
+    private PromptTemplate(String[] literals, int[] slots, int arity) {
+        this.literals = literals;
+        this.slots = slots;
+        this.arity = arity;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses {@code template}. Every {@code {name}} must be one of {@code names}; the position
+     * of a name in {@code names} is the position of its value in {@link #render}.
+     *
+     * @throws IllegalArgumentException on unknown or unterminated placeholders
+     */
+    public static PromptTemplate compile(String template, String... names) {
+        List<String> nameList = Arrays.asList(names);
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unterminated placeholder at index " + open);
+            }
+            String name = template.substring(open + 1, close);
+            int slot = nameList.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Unknown placeholder: {" + name + "}");
+            }
+            literals.add(template.substring(start, open));
+            slots.add(slot);
+            start = close + 1;
+        }
+        literals.add(template.substring(start));
+
+        return new PromptTemplate(
+                literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                names.length);
+    }
+
+    /**
+     * Renders the template. A null value renders as {@code "null"}, like {@code String.format}.
+     *
+     * @param values one value per name given to {@link #compile}, in the same order
+     */
+    public String render(CharSequence... values) {
+        if (values.length != arity) {
+            throw new IllegalArgumentException("Expected " + arity + " values, got " + values.length);
+        }
+
+        int length = literalLength;
+        for (int slot : slots) {
+            length += valueOf(values[slot]).length();
+        }
+
+        StringBuilder out = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]).append(valueOf(values[slots[i]]));
+        }
+        return out.append(literals[slots.length]).toString();
+    }
+
+    private static CharSequence valueOf(CharSequence value) {
+        return value == null ? "null" : value;
+    }
+}
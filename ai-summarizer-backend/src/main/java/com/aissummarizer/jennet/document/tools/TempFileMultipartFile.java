@@ -0,0 +1,105 @@
+package com.aissummarizer.jennet.document.tools;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A {@link MultipartFile} detached from the HTTP request that uploaded it.
+ * <p>
+ * The servlet container deletes multipart temp files as soon as the request
+ * completes, so work that outlives the request (async jobs, SSE streams) must
+ * spool the upload into its own temp file first. Callers own the copy and
+ * have to {@link #close()} it once processing is done.
+ */
+public final class TempFileMultipartFile implements MultipartFile, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TempFileMultipartFile.class);
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+    private final Path path;
+
+    private TempFileMultipartFile(String name, String originalFilename, String contentType, long size, Path path) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.path = path;
+    }
+
+    /**
+     * Copies the upload into a new temp file owned by the returned instance.
+     *
+     * @param source the request-scoped upload
+     * @return detached copy
+     * @throws IOException if the upload cannot be copied
+     */
+    public static TempFileMultipartFile copyOf(MultipartFile source) throws IOException {
+        Path path = Files.createTempFile("jennet-upload-", ".tmp");
+        try (InputStream in = source.getInputStream()) {
+            long copied = Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            return new TempFileMultipartFile(
+                    source.getName(),
+                    source.getOriginalFilename(),
+                    source.getContentType(),
+                    copied,
+                    path
+            );
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() { return name; }
+
+    @Override
+    public String getOriginalFilename() { return originalFilename; }
+
+    @Override
+    public String getContentType() { return contentType; }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    @Override
+    public long getSize() { return size; }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Deletes the backing temp file.
+     */
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete temp upload {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -8,25 +8,36 @@ import org.springframework.stereotype.Service;
 
 /**
  * Loads UserDetails for Spring Security authentication.
+ * <p>
+ * Served from {@link PrincipalCache} when possible, so authenticated requests normally
+ * resolve their identity without a database query.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username)
             throws UsernameNotFoundException {
 
+        UserDetails cached = principalCache.get(username).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
         UserEntity user = userRepository.findByUserName(username)
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found: " + username));
 
+        principalCache.put(user.getUserName(), user.getPassword(), user.getRole());
+
         return org.springframework.security.core.userdetails.User
                 .withUsername(user.getUserName())
                 .password(user.getPassword())
                 .roles(user.getRole().name().replace("ROLE_", ""))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -35,24 +35,23 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String token = header.substring(7);
 
             try {
-                String username = jwtService.extractUsername(token);
+                // One parse checks signature and expiration
+                VerifiedToken verified = jwtService.verify(token);
 
-                if (username != null &&
+                if (verified.username() != null &&
                         SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                    var userDetails = userDetailsService.loadUserByUsername(username);
+                    var userDetails = userDetailsService.loadUserByUsername(verified.username());
 
-                    if (jwtService.isTokenValid(token, username)) {
-                        var authToken = new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                        authToken.setDetails(
-                                new WebAuthenticationDetailsSource().buildDetails(request)
-                        );
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                    var authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
+                    authToken.setDetails(
+                            new WebAuthenticationDetailsSource().buildDetails(request)
+                    );
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
 
             } catch (Exception ignored) {
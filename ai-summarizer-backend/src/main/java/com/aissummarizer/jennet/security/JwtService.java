@@ -1,82 +1,154 @@
 package com.aissummarizer.jennet.security;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * Handles JWT creation and validation using JJWT 0.13.x API.
+ * <p>
+ * The signing key and the parser are built once; {@link JwtParser} is immutable and
+ * thread-safe. {@link #verify(String)} checks signature and expiration in one parse. When the
+ * verified-token cache is enabled, the SHA-256 digest of each verified token is kept, so a
+ * client repeating the same bearer token skips parsing and HMAC verification until the token
+ * expires or the entry ages out. Metrics: {@code jwt.verified.cache.*}.
+ * <p>
+ * Every token carries a {@code typ} claim, {@code access} or {@code refresh}; each verify
+ * method accepts only its own type, so a refresh token cannot be used as a bearer token.
  */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
-    @Value("${jwt.expiration-ms}")
-    private long expirationMs;
-
-    @Value("${jwt.refresh-expiration-ms}")
-    private long refreshTokenExpiration;
-
-    private SecretKey signingKey;
-
-    @PostConstruct
-    private void initKey() {
+    private static final String TYPE_CLAIM = "typ";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+
+    private final long expirationMs;
+    private final long refreshTokenExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<HashCode, VerifiedToken> verifiedTokens;
+
+    public JwtService(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration-ms}") long expirationMs,
+            @Value("${jwt.refresh-expiration-ms}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${jwt.verified-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.verified-cache.ttl-ms:300000}") long cacheTtlMs,
+            MeterRegistry meterRegistry) {
+        this.expirationMs = expirationMs;
+        this.refreshTokenExpiration = refreshTokenExpiration;
         this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-    }
-
-    private SecretKey getKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)     // NEW JJWT 0.13.x syntax
+                .build();
+
+        if (cacheEnabled) {
+            this.verifiedTokens = CacheBuilder.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                    .recordStats()
+                    .build();
+            GuavaCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified.cache");
+        } else {
+            this.verifiedTokens = null;
+        }
     }
 
     public String generateRefreshToken(String username) {
+        // A random id keeps tokens issued within the same second distinct
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-                .signWith(getKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public String generateAccessToken(String username) {
         return Jwts.builder()
                 .subject(username)
+                .claim(TYPE_CLAIM, ACCESS_TYPE)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    private Claims extractAllClaims(String jwt) {
-        return Jwts.parser()
-                .verifyWith(getKey())     // NEW JJWT 0.13.x syntax
-                .build()
-                .parseSignedClaims(jwt)
-                .getPayload();
+    /**
+     * Verifies signature, expiration and type of an access token in a single pass.
+     *
+     * @param token compact JWT
+     * @return subject and expiration of the token
+     * @throws JwtException if the token is malformed, forged, expired or not an access token
+     */
+    public VerifiedToken verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token, ACCESS_TYPE);
+        }
+
+        HashCode digest = Hashing.sha256().hashString(token, StandardCharsets.US_ASCII);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return cached;
+            }
+            verifiedTokens.invalidate(digest);
+        }
+
+        // Throws for expired and refresh tokens, so only valid access tokens are cached
+        VerifiedToken verified = parse(token, ACCESS_TYPE);
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    private VerifiedToken parse(String token, String expectedType) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (!expectedType.equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("Expected a token of type " + expectedType);
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            throw new MalformedJwtException("Token has no expiration");
+        }
+        return new VerifiedToken(claims.getSubject(), expiration.toInstant());
     }
 
     public boolean isExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
+        try {
+            return verify(token).isExpired(Instant.now());
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
     }
 
     public String extractUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return verify(token).username();
     }
 
     public boolean isTokenValid(String token, String expectedUsername) {
-        return expectedUsername.equals(extractUsername(token)) && !isExpired(token);
+        try {
+            return expectedUsername.equals(verify(token).username());
+        } catch (JwtException e) {
+            return false;
+        }
     }
 
     /**
@@ -87,7 +159,16 @@ public class JwtService {
      * @throws JwtException if verification fails
      */
     public String validateAndExtractUsernameFromRefreshToken(String refreshToken) {
-        // ✔ Refresh tokens have same structure, only expiration differs.
-        return extractUsername(refreshToken);
+        return verifyRefreshToken(refreshToken).username();
+    }
+
+    /**
+     * Verifies a refresh token like {@link #verify(String)}, bypassing the verified-token cache:
+     * each refresh token is presented once.
+     *
+     * @throws JwtException if verification fails or the token is not a refresh token
+     */
+    public VerifiedToken verifyRefreshToken(String refreshToken) {
+        return parse(refreshToken, REFRESH_TYPE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.aissummarizer.jennet.security;
+
+import com.aissummarizer.jennet.common.enums.Role;
+import com.aissummarizer.jennet.config.PrincipalCacheConfig;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-evicting cache of authentication data keyed by username.
+ * <p>
+ * Only the immutable parts needed to build a {@link UserDetails} are stored, and every
+ * lookup returns a fresh instance: Spring Security erases the password of the principal
+ * after a login, which must not reach the cached entry. Unknown users are not cached.
+ * <p>
+ * Metrics: {@code principal.cache.*} (Micrometer Guava binder).
+ */
+@Component
+public class PrincipalCache {
+
+    private final PrincipalCacheConfig config;
+    private final Cache<String, CachedPrincipal> cache;
+
+    public PrincipalCache(PrincipalCacheConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(Duration.ofMillis(config.getTtlMs()))
+                .recordStats()
+                .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "principal.cache");
+    }
+
+    /**
+     * Returns the cached principal of {@code username}, empty on a miss or when disabled.
+     */
+    public Optional<UserDetails> get(String username) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+        CachedPrincipal principal = cache.getIfPresent(username);
+        return principal == null ? Optional.empty() : Optional.of(principal.toUserDetails());
+    }
+
+    /**
+     * Caches the principal of a user loaded from the database.
+     */
+    public void put(String username, String passwordHash, Role role) {
+        if (config.isEnabled()) {
+            cache.put(username, new CachedPrincipal(username, passwordHash, role));
+        }
+    }
+
+    /**
+     * Drops the entry of {@code username}; the next request loads it again.
+     */
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    private record CachedPrincipal(String username, String passwordHash, Role role) {
+
+        UserDetails toUserDetails() {
+            return User.withUsername(username)
+                    .password(passwordHash)
+                    .roles(role.name().replace("ROLE_", ""))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.aissummarizer.jennet.security;
+
+import java.time.Instant;
+
+/**
+ * Result of a successful JWT verification.
+ *
+ * @param username  subject of the token
+ * @param expiresAt expiration claim; the token is rejected from this instant on
+ */
+public record VerifiedToken(String username, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,139 @@
+package com.aissummarizer.jennet.summarization.cache;
+
+import com.aissummarizer.jennet.config.SummaryCacheConfig;
+import com.aissummarizer.jennet.summarization.entity.SummaryCacheEntity;
+import com.aissummarizer.jennet.summarization.repository.SummaryCacheRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Two-tier cache of generated summaries keyed by {@link SummaryCacheKey}.
+ * <p>
+ * The in-memory tier is bounded by the total length of the cached summaries and by a
+ * write TTL. When enabled, the Postgres tier is consulted on a memory miss and hits are
+ * promoted back into memory. Database failures are logged and treated as misses so the
+ * cache can never fail a summarization.
+ * <p>
+ * Metrics: {@code summary.cache.*} for the memory tier (Micrometer Guava binder) and
+ * {@code summary.cache.persistent.requests{result=hit|miss}} for the database tier.
+ */
+@Component
+public class SummaryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryCache.class);
+
+    private final SummaryCacheConfig config;
+    private final SummaryCacheRepository repository;
+    private final Cache<String, String> memory;
+    private final Counter persistentHits;
+    private final Counter persistentMisses;
+
+    public SummaryCache(SummaryCacheConfig config, SummaryCacheRepository repository, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.repository = repository;
+        this.memory = CacheBuilder.newBuilder()
+                .maximumWeight(config.getMaxWeightChars())
+                .weigher((String key, String summary) -> summary.length())
+                .expireAfterWrite(Duration.ofMillis(config.getTtlMs()))
+                .recordStats()
+                .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, memory, "summary.cache", "tier", "memory");
+        this.persistentHits = Counter.builder("summary.cache.persistent.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.persistentMisses = Counter.builder("summary.cache.persistent.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Looks up a cached summary.
+     *
+     * @param key key computed by {@link SummaryCacheKey}
+     * @return the cached summary, empty on a miss or when the cache is disabled
+     */
+    public Optional<String> get(String key) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+
+        String summary = memory.getIfPresent(key);
+        if (summary != null) {
+            return Optional.of(summary);
+        }
+
+        if (!config.isPersistentEnabled()) {
+            return Optional.empty();
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<String> stored = repository.findById(key)
+                    .filter(entry -> entry.getExpiresAt().isAfter(now))
+                    .map(SummaryCacheEntity::getSummary);
+
+            if (stored.isPresent()) {
+                persistentHits.increment();
+                memory.put(key, stored.get());
+            } else {
+                persistentMisses.increment();
+            }
+            return stored;
+
+        } catch (DataAccessException e) {
+            logger.warn("Summary cache lookup failed, treating as miss", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a freshly generated summary in every enabled tier. Blank summaries are not cached.
+     */
+    public void put(String key, String summary, String model) {
+        if (!config.isEnabled() || summary == null || summary.isBlank()) {
+            return;
+        }
+
+        memory.put(key, summary);
+
+        if (!config.isPersistentEnabled()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            repository.save(SummaryCacheEntity.builder()
+                    .cacheKey(key)
+                    .summary(summary)
+                    .model(model)
+                    .createdAt(now)
+                    .expiresAt(now.plusNanos(config.getPersistentTtlMs() * 1_000_000L))
+                    .build());
+        } catch (DataAccessException e) {
+            logger.warn("Failed to store summary in persistent cache", e);
+        }
+    }
+
+    /**
+     * Deletes persistent entries that expired before {@code now}.
+     *
+     * @return number of deleted rows
+     */
+    @Transactional
+    public int purgeExpired(LocalDateTime now) {
+        return repository.deleteExpired(now);
+    }
+}
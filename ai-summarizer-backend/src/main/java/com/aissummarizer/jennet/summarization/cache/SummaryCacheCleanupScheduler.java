@@ -0,0 +1,40 @@
+package com.aissummarizer.jennet.summarization.cache;
+
+import com.aissummarizer.jennet.config.SummaryCacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodically deletes expired entries of the persistent summary cache tier.
+ */
+@Component
+@RequiredArgsConstructor
+public class SummaryCacheCleanupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryCacheCleanupScheduler.class);
+
+    private final SummaryCacheConfig config;
+    private final SummaryCache summaryCache;
+
+    @Scheduled(
+            initialDelayString = "${ai.summarizer.cache.persistent-cleanup-interval-ms:3600000}",
+            fixedDelayString = "${ai.summarizer.cache.persistent-cleanup-interval-ms:3600000}"
+    )
+    public void run() {
+        if (!config.isPersistentEnabled()) {
+            return;
+        }
+
+        try {
+            int deleted = summaryCache.purgeExpired(LocalDateTime.now());
+            logger.debug("Deleted {} expired summary cache entries", deleted);
+        } catch (Exception e) {
+            logger.warn("Summary cache cleanup failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.aissummarizer.jennet.summarization.cache;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.service.DocumentContent;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Computes content-addressed cache keys for summaries.
+ * <p>
+ * The key covers everything that influences the model output: the extracted text and
+ * images, every field of {@link SummaryOptions} and the model name. Variable-length
+ * fields are length-prefixed so that different inputs can never hash the same byte stream.
+ */
+public final class SummaryCacheKey {
+
+    private SummaryCacheKey() {
+    }
+
+    /**
+     * @return hex-encoded SHA-256 key, 64 characters
+     */
+    public static String of(DocumentContent content, SummaryOptions options, String model) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, model);
+        putString(hasher, options.getType().name());
+        hasher.putInt(options.getMaxTokens());
+        hasher.putDouble(options.getTemperature());
+        putString(hasher, options.getCustomPrompt());
+        putString(hasher, content.getType().name());
+        putString(hasher, content.getAllText());
+
+        hasher.putInt(content.getImages().size());
+        for (ImageData image : content.getImages()) {
+            putString(hasher, image.getFormat());
+            hasher.putInt(image.getSizeBytes());
+            hasher.putBytes(image.getData());
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        if (value == null) {
+            hasher.putInt(-1);
+            return;
+        }
+        hasher.putInt(value.length());
+        hasher.putString(value, StandardCharsets.UTF_8);
+    }
+}
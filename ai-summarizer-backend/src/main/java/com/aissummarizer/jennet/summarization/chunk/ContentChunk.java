@@ -0,0 +1,21 @@
+package com.aissummarizer.jennet.summarization.chunk;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+
+import java.util.List;
+
+/**
+ * A token-budgeted slice of a document, made of one or more consecutive sections.
+ *
+ * @param index  zero-based position of the chunk in the document
+ * @param label  range of sections covered, e.g. "Page 4 - Page 9"
+ * @param text   text of the covered sections with their labels
+ * @param images images of the covered sections
+ * @param tokens prompt tokens of text and images, counted with the model's tokenizer
+ */
+public record ContentChunk(int index, String label, String text, List<ImageData> images, int tokens) {
+
+    public ContentChunk {
+        images = List.copyOf(images);
+    }
+}
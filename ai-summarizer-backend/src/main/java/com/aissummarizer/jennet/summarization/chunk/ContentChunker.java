@@ -0,0 +1,219 @@
+package com.aissummarizer.jennet.summarization.chunk;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.model.ContentSection;
+import com.aissummarizer.jennet.document.service.DocumentContent;
+import com.aissummarizer.jennet.summarization.token.TokenCounter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs the {@link DocumentContent#getSections() sections} of a document into
+ * token-budgeted {@link ContentChunk chunks}.
+ * <p>
+ * Consecutive sections are packed greedily until the budget is reached. A single section
+ * larger than the budget is split on paragraph, line and finally word boundaries, so
+ * a chunk never cuts through a word. Text and images are counted with the same
+ * {@link TokenCounter} as the single-request budget check, so a chunk fits wherever the
+ * whole document would have.
+ */
+@Component
+public class ContentChunker {
+
+    /** Initial characters examined per token when cutting text; widened for token-dense text. */
+    private static final int WINDOW_CHARS_PER_TOKEN = 8;
+
+    private final TokenCounter tokenCounter;
+
+    public ContentChunker(TokenCounter tokenCounter) {
+        this.tokenCounter = tokenCounter;
+    }
+
+    /**
+     * Splits the document into chunks of at most {@code maxTokens} tokens.
+     *
+     * @param content   document to split
+     * @param maxTokens token budget per chunk
+     * @return chunks in document order, never empty for a non-empty document
+     */
+    public List<ContentChunk> chunk(DocumentContent content, int maxTokens) {
+        if (maxTokens <= 0) {
+            throw new IllegalArgumentException("maxTokens must be positive, got: " + maxTokens);
+        }
+
+        List<ContentChunk> chunks = new ArrayList<>();
+        Builder current = new Builder();
+
+        for (ContentSection section : content.getSections()) {
+            String text = "[" + section.label() + "]\n" + section.text().strip();
+            int sectionTokens = tokenCounter.count(text) + tokenCounter.countImages(section.images());
+
+            if (sectionTokens <= maxTokens) {
+                if (current.tokens + sectionTokens > maxTokens && !current.isEmpty()) {
+                    chunks.add(current.build(chunks.size()));
+                    current = new Builder();
+                }
+                current.add(section.label(), text, section.images(), sectionTokens);
+                continue;
+            }
+
+            // Oversized section: flush what we have and split the section on its own
+            if (!current.isEmpty()) {
+                chunks.add(current.build(chunks.size()));
+                current = new Builder();
+            }
+            splitSection(section, maxTokens, chunks);
+        }
+
+        if (!current.isEmpty()) {
+            chunks.add(current.build(chunks.size()));
+        }
+        return chunks;
+    }
+
+    /**
+     * Splits a section that exceeds the budget into parts. Images are spread over the parts,
+     * taking at most half of a part's budget when the section also has text, and the text is cut
+     * to fit the remainder, so no part carries more images than fit and text is never cut into
+     * slivers.
+     */
+    private void splitSection(ContentSection section, int maxTokens, List<ContentChunk> chunks) {
+        String text = section.text().strip();
+        // Room for the "[label (part i/n)]" header
+        int budget = Math.max(1, maxTokens - tokenCounter.count("[" + section.label() + " (part 000/000)]\n"));
+
+        List<List<ImageData>> imageGroups = partition(section.images(), text.isEmpty() ? budget : budget / 2);
+        int imageTokensPerPart = 0;
+        for (List<ImageData> group : imageGroups) {
+            imageTokensPerPart = Math.max(imageTokensPerPart, tokenCounter.countImages(group));
+        }
+        int textTokensPerPart = Math.max(budget - imageTokensPerPart, budget / 2);
+
+        List<String> textPieces = text.isEmpty() ? List.of() : split(text, Math.max(1, textTokensPerPart));
+        int parts = Math.max(textPieces.size(), imageGroups.size());
+        for (int i = 0; i < parts; i++) {
+            String label = section.label() + " (part " + (i + 1) + "/" + parts + ")";
+            String pieceText = "[" + label + "]\n" + (i < textPieces.size() ? textPieces.get(i) : "");
+            List<ImageData> images = i < imageGroups.size() ? imageGroups.get(i) : List.of();
+            Builder piece = new Builder();
+            piece.add(label, pieceText, images, tokenCounter.count(pieceText) + tokenCounter.countImages(images));
+            chunks.add(piece.build(chunks.size()));
+        }
+    }
+
+    /**
+     * Groups consecutive images within {@code maxTokens}; an image costing more than that
+     * gets a group of its own.
+     */
+    private List<List<ImageData>> partition(List<ImageData> images, int maxTokens) {
+        List<List<ImageData>> groups = new ArrayList<>();
+        List<ImageData> current = new ArrayList<>();
+        int tokens = 0;
+        for (ImageData image : images) {
+            int imageTokens = tokenCounter.countImage(image);
+            if (!current.isEmpty() && tokens + imageTokens > maxTokens) {
+                groups.add(current);
+                current = new ArrayList<>();
+                tokens = 0;
+            }
+            current.add(image);
+            tokens += imageTokens;
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    /**
+     * Splits text into pieces of at most {@code maxTokens}, preferring paragraph, then line,
+     * then word boundaries.
+     */
+    List<String> split(String text, int maxTokens) {
+        List<String> pieces = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = tokenBoundary(text, start, maxTokens);
+            if (end < text.length()) {
+                int cut = lastBoundary(text, start, end);
+                if (cut > start) {
+                    end = cut;
+                }
+            }
+            String piece = text.substring(start, end).strip();
+            if (!piece.isEmpty()) {
+                pieces.add(piece);
+            }
+            start = end;
+        }
+        return pieces;
+    }
+
+    /**
+     * @return end index of the longest run of at most {@code maxTokens} tokens from {@code start};
+     *         only a bounded window of the text is tokenized per call
+     */
+    private int tokenBoundary(String text, int start, int maxTokens) {
+        long window = (long) maxTokens * WINDOW_CHARS_PER_TOKEN;
+        while (true) {
+            int windowEnd = (int) Math.min(text.length(), start + window);
+            String candidate = text.substring(start, windowEnd);
+            String prefix = tokenCounter.truncate(candidate, maxTokens);
+            if (prefix.length() < candidate.length() || windowEnd == text.length()) {
+                // Decoding a cut through a multi-byte character can add a replacement character
+                return Math.max(start + 1, Math.min(windowEnd, start + prefix.length()));
+            }
+            window *= 2;
+        }
+    }
+
+    private static int lastBoundary(String text, int start, int end) {
+        // Only accept a boundary in the second half of the window to avoid tiny pieces
+        int min = start + (end - start) / 2;
+        int paragraph = text.lastIndexOf("\n\n", end);
+        if (paragraph >= min) {
+            return paragraph + 2;
+        }
+        int line = text.lastIndexOf('\n', end);
+        if (line >= min) {
+            return line + 1;
+        }
+        for (int i = end; i >= min; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+
+    private static final class Builder {
+        private final StringBuilder text = new StringBuilder();
+        private final List<ImageData> images = new ArrayList<>();
+        private String firstLabel;
+        private String lastLabel;
+        private int tokens;
+
+        void add(String label, String sectionText, List<ImageData> sectionImages, int sectionTokens) {
+            if (firstLabel == null) {
+                firstLabel = label;
+            } else {
+                text.append("\n\n");
+            }
+            lastLabel = label;
+            text.append(sectionText);
+            images.addAll(sectionImages);
+            tokens += sectionTokens;
+        }
+
+        boolean isEmpty() {
+            return firstLabel == null;
+        }
+
+        ContentChunk build(int index) {
+            String label = firstLabel.equals(lastLabel) ? firstLabel : firstLabel + " - " + lastLabel;
+            return new ContentChunk(index, label, text.toString(), images, tokens);
+        }
+    }
+}
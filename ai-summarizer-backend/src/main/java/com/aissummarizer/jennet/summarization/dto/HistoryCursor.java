@@ -0,0 +1,46 @@
+package com.aissummarizer.jennet.summarization.dto;
+
+import com.aissummarizer.jennet.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a history listing: the {@code (createdAt, id)} of the last item returned.
+ * <p>
+ * Sent to clients as an opaque URL-safe token; the id breaks ties between rows created
+ * in the same instant.
+ */
+public record HistoryCursor(LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static HistoryCursor of(SummarizationHistoryRow row) {
+        return new HistoryCursor(row.createdAt(), row.id());
+    }
+
+    /**
+     * @param token token produced by {@link #encode()}
+     * @return decoded cursor
+     * @throws BadRequestException if the token is malformed
+     */
+    public static HistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid history cursor");
+            }
+            return new HistoryCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid history cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
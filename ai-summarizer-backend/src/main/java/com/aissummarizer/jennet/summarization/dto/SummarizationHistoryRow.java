@@ -0,0 +1,30 @@
+package com.aissummarizer.jennet.summarization.dto;
+
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read-side view of a summarization joined with its result, metadata and upload.
+ * <p>
+ * Filled by a JPQL constructor query so history pages load in a single statement.
+ * Values from optional associations are null when the association is missing.
+ */
+public record SummarizationHistoryRow(
+        String userId,
+        String id,
+        LocalDateTime createdAt,
+        String summary,
+        SummaryType summaryType,
+        DocumentType documentType,
+        String fileName,
+        Long fileSize,
+        Integer imageCount,
+        Integer paragraphCount,
+        Integer slideCount,
+        Long processingTime,
+        Integer tableCount,
+        Integer wordCount
+) {
+}
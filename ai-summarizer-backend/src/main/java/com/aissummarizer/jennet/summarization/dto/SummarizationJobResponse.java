@@ -0,0 +1,44 @@
+package com.aissummarizer.jennet.summarization.dto;
+
+import com.aissummarizer.jennet.common.model.ApiResponse;
+import com.aissummarizer.jennet.summarization.enums.JobStatus;
+import com.aissummarizer.jennet.summarization.model.SummarizationJob;
+import com.aissummarizer.jennet.summarization.model.SummaryResult;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO describing the state of an asynchronous summarization job.
+ * <p>
+ * {@code result} is only present once the job has succeeded,
+ * {@code error} only once it has failed.
+ */
+public record SummarizationJobResponse(
+        String jobId,
+        JobStatus status,
+        String fileName,
+        SummaryResult result,
+        ApiResponse.ErrorInfo error,
+        @JsonFormat(pattern = "MMM dd, yyyy 'on' HH:mm:ss", locale = "en")
+        LocalDateTime createdAt,
+        @JsonFormat(pattern = "MMM dd, yyyy 'on' HH:mm:ss", locale = "en")
+        LocalDateTime finishedAt
+) {
+
+    public static SummarizationJobResponse from(SummarizationJob job) {
+        ApiResponse.ErrorInfo error = job.getErrorCode() == null
+                ? null
+                : new ApiResponse.ErrorInfo(job.getErrorCode(),
+                        job.getErrorMessage() == null ? job.getErrorCode().getDescription() : job.getErrorMessage());
+        return new SummarizationJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getFileName(),
+                job.getResult(),
+                error,
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
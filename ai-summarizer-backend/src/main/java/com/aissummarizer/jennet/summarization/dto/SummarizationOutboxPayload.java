@@ -0,0 +1,88 @@
+package com.aissummarizer.jennet.summarization.dto;
+
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
+import com.aissummarizer.jennet.user.entity.UserEntity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Everything needed to write one summarization to the history, stored as JSON in
+ * {@code summarization_outbox}.
+ * <p>
+ * The upload fields are null for summaries that have no upload record.
+ */
+public record SummarizationOutboxPayload(
+        String userId,
+        String uploadFilename,
+        String uploadExtension,
+        DocumentType uploadDocumentType,
+        Long uploadFileSize,
+        String inputText,
+        String summary,
+        DocumentType documentType,
+        SummaryType summaryType,
+        int wordCount,
+        int imageCount,
+        int slideCount,
+        int paragraphCount,
+        int tableCount,
+        long processingTimeMs,
+        LocalDateTime createdAt
+) {
+
+    public static SummarizationOutboxPayload of(String userId, DocumentUploadEntity upload, String inputText,
+                                                String summary, DocumentType documentType, SummaryType summaryType,
+                                                SummaryMetadata metadata) {
+        return new SummarizationOutboxPayload(
+                userId,
+                upload == null ? null : upload.getOriginalFilename(),
+                upload == null ? null : upload.getFileExtension(),
+                upload == null ? null : upload.getDocumentType(),
+                upload == null ? null : upload.getFileSize(),
+                inputText,
+                summary,
+                documentType,
+                summaryType,
+                metadata.getWordCount(),
+                metadata.getImageCount(),
+                metadata.getSlideCount(),
+                metadata.getParagraphCount(),
+                metadata.getTableCount(),
+                metadata.getProcessingTimeMs(),
+                // Timestamp columns keep microseconds; a replay stores exactly this value
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
+        );
+    }
+
+    /**
+     * The upload record to store alongside the summarization, or null if there is none.
+     */
+    public DocumentUploadEntity toUpload(UserEntity user) {
+        if (uploadFilename == null) {
+            return null;
+        }
+        return DocumentUploadEntity.builder()
+                .user(user)
+                .originalFilename(uploadFilename)
+                .fileExtension(uploadExtension)
+                .documentType(uploadDocumentType)
+                .fileSize(uploadFileSize == null ? 0 : uploadFileSize)
+                .uploadedAt(createdAt)
+                .build();
+    }
+
+    public SummaryMetadata toMetadata() {
+        return SummaryMetadata.builder()
+                .wordCount(wordCount)
+                .imageCount(imageCount)
+                .slideCount(slideCount)
+                .paragraphCount(paragraphCount)
+                .tableCount(tableCount)
+                .processingTimeMs(processingTimeMs)
+                .build();
+    }
+}
@@ -7,7 +7,6 @@ import com.aissummarizer.jennet.user.entity.UserEntity;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -16,7 +15,7 @@ import java.util.UUID;
  * Represents a single summarization request performed by a user.
  */
 @Entity
-@Table(name = "summarizations")
+@Table(name = "summarizations", indexes = @Index(name = "idx_summarizations_user_created", columnList = "user_id, created_at, id"))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class SummarizationEntity {
@@ -25,9 +24,14 @@ public class SummarizationEntity {
     @Column(nullable = false, updatable = false)
     private String id;
 
+    /**
+     * Defaults the id and creation time. An explicitly set {@code createdAt}, such as the
+     * original request time of a replayed outbox entry, is kept.
+     */
     @PrePersist
-    public void ensureId() {
+    public void ensureDefaults() {
         if (id == null) id = UUID.randomUUID().toString();
+        if (createdAt == null) createdAt = LocalDateTime.now();
     }
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -37,7 +41,6 @@ public class SummarizationEntity {
     @Column(name = "input_text", columnDefinition = "text", nullable = false)
     private String inputText;
 
-    @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "timestamp with time zone")
     @JsonFormat(pattern = "MMM dd, yyyy 'on' HH:mm", locale = "en")
     private LocalDateTime createdAt;
@@ -56,9 +59,6 @@ public class SummarizationEntity {
     @JoinColumn(name = "document_upload_id")
     private DocumentUploadEntity documentUpload;
 
-    @Column(name = "summary_text", columnDefinition = "text")
-    private String summaryText;
-
     @Enumerated(EnumType.STRING)
     @Column(name = "document_type", length = 20)
     private DocumentType documentType;
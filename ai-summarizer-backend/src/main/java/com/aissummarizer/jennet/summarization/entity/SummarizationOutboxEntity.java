@@ -0,0 +1,45 @@
+package com.aissummarizer.jennet.summarization.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A finished summary waiting to be written to the user's history.
+ * <p>
+ * The row is inserted on the request thread right after the model responds (one statement)
+ * and deleted by {@code SummarizationOutboxServiceImpl} in the same transaction that stores
+ * the upload, summarization, result and metadata rows, so each entry is applied exactly once
+ * and survives a crash in between.
+ */
+@Entity
+@Table(
+        name = "summarization_outbox",
+        indexes = @Index(name = "idx_summarization_outbox_next_attempt", columnList = "next_attempt_at")
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SummarizationOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** JSON-serialized {@code SummarizationOutboxPayload}. */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** Failed attempts so far. */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
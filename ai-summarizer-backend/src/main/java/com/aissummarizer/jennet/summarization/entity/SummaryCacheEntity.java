@@ -0,0 +1,37 @@
+package com.aissummarizer.jennet.summarization.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Second-tier entry of the summary cache, keyed by the content/options/model hash.
+ */
+@Entity
+@Table(
+        name = "summary_cache",
+        indexes = @Index(name = "idx_summary_cache_expires_at", columnList = "expires_at")
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SummaryCacheEntity {
+
+    /** Hex-encoded SHA-256 computed by {@code SummaryCacheKey}. */
+    @Id
+    @Column(name = "cache_key", length = 64, nullable = false, updatable = false)
+    private String cacheKey;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String summary;
+
+    @Column(nullable = false)
+    private String model;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Entries are ignored from this point on and deleted by the next cleanup run. */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,15 @@
+package com.aissummarizer.jennet.summarization.enums;
+
+/**
+ * Lifecycle of an asynchronous summarization job.
+ */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,18 @@
+package com.aissummarizer.jennet.summarization.enums;
+
+/**
+ * Steps of a synchronous summarization request, timed separately so a slow request can be
+ * attributed to extraction, the model call or the bookkeeping around it.
+ */
+public enum SummarizationStage {
+    EXTRACT,
+    PREPROCESS,
+    PROMPT,
+    CACHE,
+    MODEL,
+    HISTORY;
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,86 @@
+package com.aissummarizer.jennet.summarization.model;
+
+import com.aissummarizer.jennet.common.enums.ErrorCode;
+import com.aissummarizer.jennet.summarization.enums.JobStatus;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * In-memory state of an asynchronous summarization job.
+ * <p>
+ * Written by the worker thread and read by polling request threads,
+ * so all mutable state is volatile and transitions are synchronized.
+ */
+public final class SummarizationJob {
+
+    private final String id;
+    private final String owner;
+    private final String userName;
+    private final String fileName;
+    private final LocalDateTime createdAt;
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile SummaryResult result;
+    private volatile ErrorCode errorCode;
+    private volatile String errorMessage;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    /**
+     * @param owner    authenticated user who submitted the job; the only one allowed to poll it
+     * @param userName user the summary is recorded for
+     * @param fileName original name of the uploaded file
+     */
+    public SummarizationJob(String owner, String userName, String fileName) {
+        this.id = UUID.randomUUID().toString();
+        this.owner = Objects.requireNonNull(owner, "owner cannot be null");
+        this.userName = userName;
+        this.fileName = fileName;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public synchronized void markRunning() {
+        this.status = JobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public synchronized void markSucceeded(SummaryResult result) {
+        this.result = Objects.requireNonNull(result, "result cannot be null");
+        this.status = JobStatus.SUCCEEDED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized void markFailed(ErrorCode errorCode, String errorMessage) {
+        this.errorCode = Objects.requireNonNull(errorCode, "errorCode cannot be null");
+        this.errorMessage = errorMessage;
+        this.status = JobStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Whether the job has finished before the given point in time.
+     */
+    public boolean isFinishedBefore(LocalDateTime threshold) {
+        LocalDateTime finished = finishedAt;
+        return status.isFinished() && finished != null && finished.isBefore(threshold);
+    }
+
+    public boolean isOwnedBy(String name) {
+        return owner.equals(name);
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getOwner() { return owner; }
+    public String getUserName() { return userName; }
+    public String getFileName() { return fileName; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public JobStatus getStatus() { return status; }
+    public SummaryResult getResult() { return result; }
+    public ErrorCode getErrorCode() { return errorCode; }
+    public String getErrorMessage() { return errorMessage; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+}
@@ -11,6 +11,9 @@ public final class SummaryMetadata {
     private final int paragraphCount;
     private final int tableCount;
     private final long processingTimeMs;
+    private final int promptTokens;
+    private final int completionTokens;
+    private final double estimatedCostUsd;
 
     private SummaryMetadata(Builder builder) {
         this.wordCount = Math.max(0, builder.wordCount);
@@ -19,6 +22,9 @@ public final class SummaryMetadata {
         this.paragraphCount = Math.max(0, builder.paragraphCount);
         this.tableCount = Math.max(0, builder.tableCount);
         this.processingTimeMs = Math.max(0, builder.processingTimeMs);
+        this.promptTokens = Math.max(0, builder.promptTokens);
+        this.completionTokens = Math.max(0, builder.completionTokens);
+        this.estimatedCostUsd = Math.max(0, builder.estimatedCostUsd);
     }
 
     // Getters
@@ -28,6 +34,12 @@ public final class SummaryMetadata {
     public int getParagraphCount() { return paragraphCount; }
     public int getTableCount() { return tableCount; }
     public long getProcessingTimeMs() { return processingTimeMs; }
+    /** Prompt tokens sent to the model, counted locally; 0 when served from the cache. */
+    public int getPromptTokens() { return promptTokens; }
+    /** Tokens of the generated text, counted locally (reasoning tokens are not visible). */
+    public int getCompletionTokens() { return completionTokens; }
+    /** Estimated price of the model calls in USD, from the configured per-token rates. */
+    public double getEstimatedCostUsd() { return estimatedCostUsd; }
 
     public static final class Builder {
         private int wordCount = 0;
@@ -36,6 +48,9 @@ public final class SummaryMetadata {
         private int paragraphCount = 0;
         private int tableCount = 0;
         private long processingTimeMs = 0;
+        private int promptTokens = 0;
+        private int completionTokens = 0;
+        private double estimatedCostUsd = 0;
 
         public Builder wordCount(int wordCount) {
             this.wordCount = wordCount;
@@ -67,6 +82,21 @@ public final class SummaryMetadata {
             return this;
         }
 
+        public Builder promptTokens(int promptTokens) {
+            this.promptTokens = promptTokens;
+            return this;
+        }
+
+        public Builder completionTokens(int completionTokens) {
+            this.completionTokens = completionTokens;
+            return this;
+        }
+
+        public Builder estimatedCostUsd(double estimatedCostUsd) {
+            this.estimatedCostUsd = estimatedCostUsd;
+            return this;
+        }
+
         public SummaryMetadata build() {
             return new SummaryMetadata(this);
         }
@@ -0,0 +1,34 @@
+package com.aissummarizer.jennet.summarization.provider;
+
+import java.util.function.Consumer;
+
+/**
+ * Backend that turns a prompt into a completion.
+ * <p>
+ * Implementations are Spring beans selected by {@link #getName()} through
+ * {@link ChatModelRouter}; prompt building, token budgeting, caching and persistence
+ * stay in the summarizer and are shared by all providers.
+ */
+public interface ChatModelProvider {
+
+    /**
+     * Name used in {@code ai.summarizer.provider.*} settings.
+     */
+    String getName();
+
+    /**
+     * Model served by this provider, part of the summary cache key.
+     */
+    String getModel();
+
+    /**
+     * Blocking call returning the full completion text.
+     */
+    String complete(ChatModelRequest request);
+
+    /**
+     * Streaming call: forwards each text delta to {@code onChunk} as soon as it arrives
+     * and returns the concatenated text.
+     */
+    String stream(ChatModelRequest request, Consumer<String> onChunk);
+}
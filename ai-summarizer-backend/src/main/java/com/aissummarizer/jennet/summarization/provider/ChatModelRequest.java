@@ -0,0 +1,20 @@
+package com.aissummarizer.jennet.summarization.provider;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+
+import java.util.List;
+
+/**
+ * A single-message chat completion request, already sized by the token budget.
+ *
+ * @param prompt      user message text
+ * @param images      images attached to the message, may be empty
+ * @param maxTokens   completion token limit
+ * @param temperature sampling temperature
+ */
+public record ChatModelRequest(String prompt, List<ImageData> images, int maxTokens, double temperature) {
+
+    public ChatModelRequest {
+        images = images == null ? List.of() : images;
+    }
+}
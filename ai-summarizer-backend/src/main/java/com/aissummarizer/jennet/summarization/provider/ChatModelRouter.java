@@ -0,0 +1,47 @@
+package com.aissummarizer.jennet.summarization.provider;
+
+import com.aissummarizer.jennet.config.ChatModelProviderConfig;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the {@link ChatModelProvider} for a summary type from {@link ChatModelProviderConfig}.
+ * Unknown provider names fail at startup rather than on the first request.
+ */
+@Component
+public class ChatModelRouter {
+
+    private final ChatModelProviderConfig config;
+    private final Map<String, ChatModelProvider> providers = new HashMap<>();
+
+    public ChatModelRouter(ChatModelProviderConfig config, List<ChatModelProvider> providers) {
+        this.config = config;
+        for (ChatModelProvider provider : providers) {
+            if (this.providers.putIfAbsent(provider.getName(), provider) != null) {
+                throw new IllegalStateException("Duplicate chat model provider '" + provider.getName() + "'");
+            }
+        }
+
+        require(config.getDefaultProvider());
+        config.getRoutes().values().forEach(this::require);
+    }
+
+    /**
+     * Provider serving {@code type}; a {@code null} type uses the default provider.
+     */
+    public ChatModelProvider forType(SummaryType type) {
+        return require(config.providerFor(type));
+    }
+
+    private ChatModelProvider require(String name) {
+        ChatModelProvider provider = providers.get(name);
+        if (provider == null) {
+            throw new IllegalStateException("Unknown chat model provider '" + name + "', available: " + providers.keySet());
+        }
+        return provider;
+    }
+}
@@ -0,0 +1,133 @@
+package com.aissummarizer.jennet.summarization.provider;
+
+import com.aissummarizer.jennet.config.AiSummarizerConfig;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.summarization.util.ChatCompletionResponseExtractor;
+import com.openai.client.OpenAIClient;
+import com.openai.core.http.StreamResponse;
+import com.openai.models.chat.completions.*;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Chat completions through the official OpenAI SDK.
+ * <p>
+ * The client is injected lazily, so the application starts without OpenAI credentials
+ * when every summary type is routed to another provider.
+ */
+@Component
+public class OpenAiChatModelProvider implements ChatModelProvider {
+
+    public static final String NAME = "openai";
+
+    private final OpenAIClient client;
+    private final AiSummarizerConfig config;
+
+    public OpenAiChatModelProvider(@Lazy OpenAIClient client, AiSummarizerConfig config) {
+        this.client = client;
+        this.config = config;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getModel() {
+        return config.getModel();
+    }
+
+    /**
+     * Calls the OpenAI ChatCompletions API and extracts the response content.
+     * <p>
+     * This method demonstrates how to:
+     * <ol>
+     *   <li>Build a user message with content parts (text and images)</li>
+     *   <li>Configure request parameters (model, max tokens, temperature)</li>
+     *   <li>Send the request to the OpenAI API</li>
+     *   <li>Extract the response content using {@link ChatCompletionResponseExtractor}</li>
+     * </ol>
+     * </p>
+     *
+     * @param request prompt, images and completion settings
+     * @return the extracted text response from the ChatCompletion
+     */
+    @Override
+    public String complete(ChatModelRequest request) {
+        // Step 1 and 2: Build the user message and configure the request parameters
+        ChatCompletionCreateParams params = createParams(request);
+
+        // Step 3: Send the request to OpenAI and get the ChatCompletion response
+        ChatCompletion completion = client.chat().completions().create(params);
+
+        // Step 4: Extract the response content using the utility class
+        // The response is contained in completion.choices().get(index).message().content()
+        // ChatCompletionResponseExtractor provides a clean way to extract this
+        return ChatCompletionResponseExtractor.extractContent(completion);
+    }
+
+    @Override
+    public String stream(ChatModelRequest request, Consumer<String> onChunk) {
+        ChatCompletionCreateParams params = createParams(request);
+
+        StringBuilder summary = new StringBuilder();
+        try (StreamResponse<ChatCompletionChunk> stream = client.chat().completions().createStreaming(params)) {
+            stream.stream()
+                    .flatMap(chunk -> chunk.choices().stream())
+                    .forEach(choice -> choice.delta().content()
+                            .filter(text -> !text.isEmpty())
+                            .ifPresent(text -> {
+                                summary.append(text);
+                                onChunk.accept(text);
+                            }));
+        }
+        return summary.toString();
+    }
+
+    private ChatCompletionCreateParams createParams(ChatModelRequest request) {
+        ChatCompletionUserMessageParam userMessage = ChatCompletionUserMessageParam.builder()
+                .content(ChatCompletionUserMessageParam.Content.ofArrayOfContentParts(
+                        createContentParts(request.prompt(), request.images())))
+                .build();
+
+        return ChatCompletionCreateParams.builder()
+                .model(config.getModel())
+                .addMessage(userMessage)
+                .maxCompletionTokens(request.maxTokens())
+                .temperature(request.temperature())
+                .build();
+    }
+
+    private List<ChatCompletionContentPart> createContentParts(
+            String prompt,
+            List<ImageData> images) {
+
+        List<ChatCompletionContentPart> parts = new ArrayList<>(1 + images.size());
+
+        // Add text
+        parts.add(
+                ChatCompletionContentPart.ofText(
+                        ChatCompletionContentPartText.builder()
+                                .text(prompt)
+                                .build()
+                )
+        );
+
+        // Add images if present
+        for (ImageData image : images) {
+            parts.add(
+                    ChatCompletionContentPart.ofImageUrl(
+                            ChatCompletionContentPartImage.builder().imageUrl(
+                                    ChatCompletionContentPartImage.ImageUrl.builder().url(image.getDataUrl()).build()
+                            ).build()
+                    ));
+        }
+
+        return parts;
+    }
+}
@@ -0,0 +1,178 @@
+package com.aissummarizer.jennet.summarization.provider;
+
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.config.ChatModelProviderConfig;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Chat completions against a self-hosted server implementing the OpenAI protocol
+ * (vLLM, Ollama, llama.cpp server, LocalAI, ...).
+ * <p>
+ * Talks plain JSON over the JDK {@link HttpClient} and sends only the fields these servers
+ * commonly accept: {@code max_tokens} instead of {@code max_completion_tokens}, and a plain
+ * string message unless images are attached and {@link ChatModelProviderConfig.Compatible#isSupportsImages()}.
+ */
+@Component
+public class OpenAiCompatibleChatModelProvider implements ChatModelProvider {
+
+    public static final String NAME = "openai-compatible";
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAiCompatibleChatModelProvider.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SSE_DATA = "data:";
+    private static final String SSE_DONE = "[DONE]";
+
+    private final ChatModelProviderConfig.Compatible config;
+    private final HttpClient httpClient;
+
+    public OpenAiCompatibleChatModelProvider(ChatModelProviderConfig providerConfig) {
+        this.config = providerConfig.getCompatible();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getModel() {
+        return config.getModel();
+    }
+
+    @Override
+    public String complete(ChatModelRequest request) {
+        HttpResponse<InputStream> response = send(request, false);
+        try (InputStream body = response.body()) {
+            return extractContent(MAPPER.readTree(body).path("choices"), "message");
+        } catch (IOException e) {
+            throw new AiSummarizationException("Failed to read response from " + config.getBaseUrl(), e);
+        }
+    }
+
+    @Override
+    public String stream(ChatModelRequest request, Consumer<String> onChunk) {
+        HttpResponse<InputStream> response = send(request, true);
+
+        StringBuilder summary = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+             Stream<String> lines = reader.lines()) {
+            Iterator<String> it = lines.iterator();
+            while (it.hasNext()) {
+                String line = it.next();
+                if (!line.startsWith(SSE_DATA)) {
+                    continue; // blank separators, comments and event names
+                }
+                String data = line.substring(SSE_DATA.length()).trim();
+                if (SSE_DONE.equals(data)) {
+                    break;
+                }
+                String text = extractContent(MAPPER.readTree(data).path("choices"), "delta");
+                if (!text.isEmpty()) {
+                    summary.append(text);
+                    onChunk.accept(text);
+                }
+            }
+        } catch (IOException e) {
+            throw new AiSummarizationException("Failed to read stream from " + config.getBaseUrl(), e);
+        }
+        return summary.toString();
+    }
+
+    private HttpResponse<InputStream> send(ChatModelRequest request, boolean stream) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(endpoint()))
+                .timeout(Duration.ofMillis(config.getRequestTimeoutMs()))
+                .header("Content-Type", "application/json")
+                .header("Accept", stream ? "text/event-stream" : "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(createBody(request, stream).toString()));
+        if (config.getApiKey() != null && !config.getApiKey().isBlank()) {
+            builder.header("Authorization", "Bearer " + config.getApiKey());
+        }
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new AiSummarizationException("Model server " + config.getBaseUrl() + " is unreachable", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiSummarizationException("Interrupted while calling " + config.getBaseUrl(), e);
+        }
+
+        if (response.statusCode() / 100 != 2) {
+            String error;
+            try (InputStream body = response.body()) {
+                error = new String(body.readNBytes(500), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                error = "";
+            }
+            throw new AiSummarizationException("Model server returned HTTP " + response.statusCode() + ": " + error);
+        }
+        return response;
+    }
+
+    private ObjectNode createBody(ChatModelRequest request, boolean stream) {
+        ObjectNode message = MAPPER.createObjectNode().put("role", "user");
+        if (request.images().isEmpty() || !config.isSupportsImages()) {
+            if (!request.images().isEmpty()) {
+                logger.debug("Dropping {} images, {} is configured as text-only", request.images().size(), config.getModel());
+            }
+            message.put("content", request.prompt());
+        } else {
+            ArrayNode parts = message.putArray("content");
+            parts.addObject().put("type", "text").put("text", request.prompt());
+            for (ImageData image : request.images()) {
+                parts.addObject().put("type", "image_url")
+                        .putObject("image_url").put("url", image.getDataUrl());
+            }
+        }
+
+        ObjectNode body = MAPPER.createObjectNode()
+                .put("model", config.getModel())
+                .put("max_tokens", request.maxTokens())
+                .put("temperature", request.temperature())
+                .put("stream", stream);
+        body.putArray("messages").add(message);
+        return body;
+    }
+
+    private String endpoint() {
+        String base = config.getBaseUrl();
+        return (base.endsWith("/") ? base.substring(0, base.length() - 1) : base) + "/chat/completions";
+    }
+
+    /**
+     * Content of the last choice, read from {@code message} or, for stream chunks, {@code delta}.
+     */
+    private static String extractContent(JsonNode choices, String field) {
+        if (!choices.isArray() || choices.isEmpty()) {
+            return "";
+        }
+        JsonNode content = choices.get(choices.size() - 1).path(field).path("content");
+        return content.isTextual() ? content.asText() : "";
+    }
+}
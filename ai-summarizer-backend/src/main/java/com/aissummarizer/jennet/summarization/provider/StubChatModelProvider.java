@@ -0,0 +1,121 @@
+package com.aissummarizer.jennet.summarization.provider;
+
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.config.ChatModelProviderConfig;
+import com.aissummarizer.jennet.config.ChatModelProviderConfig.StubProfile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-process provider for load tests and offline CI.
+ * <p>
+ * Responses are built from the words of the prompt, so the same request always yields the same
+ * text. Each word counts as one simulated token: the call waits for the first-token latency of
+ * the active {@link StubProfile} and then produces tokens at its throughput, streaming them one
+ * by one. Pacing is measured from the start of the call, so sleep overhead does not accumulate.
+ */
+@Component
+public class StubChatModelProvider implements ChatModelProvider {
+
+    public static final String NAME = "stub";
+
+    /** Only the head of the prompt is used as vocabulary. */
+    private static final int SOURCE_CHARS = 4096;
+    private static final String[] FALLBACK_WORDS = {"stub", "summary"};
+
+    private final ChatModelProviderConfig.Stub config;
+
+    public StubChatModelProvider(ChatModelProviderConfig providerConfig) {
+        this.config = providerConfig.getStub();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getModel() {
+        return NAME + "-" + config.getProfile();
+    }
+
+    @Override
+    public String complete(ChatModelRequest request) {
+        long start = System.nanoTime();
+        StubProfile profile = config.activeProfile();
+        String[] words = responseWords(request, profile);
+        double jitter = jitter(request.prompt(), profile);
+
+        sleepUntil(start, deadlineNanos(profile, jitter, words.length));
+        return String.join(" ", words);
+    }
+
+    @Override
+    public String stream(ChatModelRequest request, Consumer<String> onChunk) {
+        long start = System.nanoTime();
+        StubProfile profile = config.activeProfile();
+        String[] words = responseWords(request, profile);
+        double jitter = jitter(request.prompt(), profile);
+
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < words.length; i++) {
+            sleepUntil(start, deadlineNanos(profile, jitter, i + 1));
+            String chunk = i == 0 ? words[i] : " " + words[i];
+            summary.append(chunk);
+            onChunk.accept(chunk);
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Time after which {@code tokens} tokens have been generated.
+     */
+    static long deadlineNanos(StubProfile profile, double jitter, int tokens) {
+        double ms = profile.getFirstTokenLatencyMs();
+        if (profile.getTokensPerSecond() > 0 && tokens > 1) {
+            ms += (tokens - 1) * 1000.0 / profile.getTokensPerSecond();
+        }
+        return (long) (ms * jitter * 1_000_000);
+    }
+
+    /**
+     * Delay multiplier in {@code [1 - jitterPercent/100, 1 + jitterPercent/100]}, fixed per prompt.
+     */
+    static double jitter(String prompt, StubProfile profile) {
+        if (profile.getJitterPercent() <= 0) {
+            return 1.0;
+        }
+        // Spread the hash before taking its low bits, similar prompts differ mostly in the tail
+        int h = prompt.hashCode() * 0x9E3779B9;
+        double unit = ((h >>> 8) & 0xFFFF) / 65535.0; // [0, 1]
+        return 1.0 + (unit * 2 - 1) * profile.getJitterPercent() / 100.0;
+    }
+
+    private static String[] responseWords(ChatModelRequest request, StubProfile profile) {
+        int tokens = Math.max(1, Math.min(profile.getCompletionTokens(), request.maxTokens()));
+        String prompt = request.prompt();
+        String head = prompt.length() > SOURCE_CHARS ? prompt.substring(0, SOURCE_CHARS) : prompt;
+        String[] source = head.isBlank() ? FALLBACK_WORDS : head.strip().split("\\s+");
+
+        String[] words = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            words[i] = source[i % source.length];
+        }
+        return words;
+    }
+
+    private static void sleepUntil(long startNanos, long offsetNanos) {
+        long remaining = startNanos + offsetNanos - System.nanoTime();
+        if (remaining <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiSummarizationException("Interrupted while simulating model latency", e);
+        }
+    }
+}
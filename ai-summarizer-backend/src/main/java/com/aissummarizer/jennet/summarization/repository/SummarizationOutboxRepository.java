@@ -0,0 +1,41 @@
+package com.aissummarizer.jennet.summarization.repository;
+
+import com.aissummarizer.jennet.summarization.entity.SummarizationOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SummarizationOutboxRepository extends JpaRepository<SummarizationOutboxEntity, Long> {
+
+    /**
+     * Ids of entries that are due for an attempt, oldest first.
+     */
+    @Query("""
+            SELECT o.id FROM SummarizationOutboxEntity o
+            WHERE o.attempts < :maxAttempts AND o.nextAttemptAt <= :now
+            ORDER BY o.nextAttemptAt, o.id
+            """)
+    List<Long> findDueIds(@Param("maxAttempts") int maxAttempts,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * Locks one entry for processing. A lock timeout of {@code -2} is rendered as
+     * {@code SKIP LOCKED}, so an entry another node is already applying comes back empty.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM SummarizationOutboxEntity o WHERE o.id = :id")
+    Optional<SummarizationOutboxEntity> findByIdForUpdate(@Param("id") Long id);
+}
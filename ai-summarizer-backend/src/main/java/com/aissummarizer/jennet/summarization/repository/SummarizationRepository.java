@@ -1,13 +1,84 @@
 package com.aissummarizer.jennet.summarization.repository;
 
+import com.aissummarizer.jennet.summarization.dto.SummarizationHistoryRow;
 import com.aissummarizer.jennet.summarization.entity.SummarizationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SummarizationRepository extends JpaRepository<SummarizationEntity, String> {
+    String HISTORY_FROM = """
+            FROM SummarizationEntity s
+            JOIN s.user u
+            LEFT JOIN s.result r
+            LEFT JOIN s.metadata m
+            LEFT JOIN s.documentUpload d
+            """;
+
+    /** List projection: only the first 200 characters of the summary. */
+    String HISTORY_SELECT = """
+            SELECT new com.aissummarizer.jennet.summarization.dto.SummarizationHistoryRow(
+                u.id, s.id, s.createdAt, SUBSTRING(r.summary, 1, 200), s.summaryType, s.documentType,
+                d.originalFilename, d.fileSize,
+                m.imageCount, m.paragraphCount, m.slideCount, m.processingTime, m.tableCount, m.wordCount)
+            """ + HISTORY_FROM;
+
+    /** Item projection: full summary text. */
+    String HISTORY_ITEM_SELECT = """
+            SELECT new com.aissummarizer.jennet.summarization.dto.SummarizationHistoryRow(
+                u.id, s.id, s.createdAt, r.summary, s.summaryType, s.documentType,
+                d.originalFilename, d.fileSize,
+                m.imageCount, m.paragraphCount, m.slideCount, m.processingTime, m.tableCount, m.wordCount)
+            """ + HISTORY_FROM;
+
     List<SummarizationEntity> findByUserId(String userId);
     List<SummarizationEntity> findByUserIdOrderByCreatedAtDesc(String userId);
+
+    /**
+     * History previews of one user, newest first, in a single query.
+     */
+    @Query(HISTORY_SELECT + "WHERE u.id = :userId ORDER BY s.createdAt DESC, s.id DESC")
+    List<SummarizationHistoryRow> findHistoryByUserId(@Param("userId") String userId);
+
+    /**
+     * History previews of several users, newest first, in a single query.
+     */
+    @Query(HISTORY_SELECT + "WHERE u.id IN :userIds ORDER BY s.createdAt DESC, s.id DESC")
+    List<SummarizationHistoryRow> findHistoryByUserIds(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * First page of a user's history previews. Only the page size of the pageable is used.
+     */
+    @Query(HISTORY_SELECT + "WHERE u.id = :userId ORDER BY s.createdAt DESC, s.id DESC")
+    List<SummarizationHistoryRow> findHistoryPage(@Param("userId") String userId, Pageable pageable);
+
+    /**
+     * Page of a user's history previews strictly after the keyset {@code (createdAt, id)}.
+     * Only the page size of the pageable is used.
+     */
+    @Query(HISTORY_SELECT + """
+            WHERE u.id = :userId
+              AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id))
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<SummarizationHistoryRow> findHistoryPageAfter(
+            @Param("userId") String userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable pageable
+    );
+
+    /**
+     * A single history item with the full summary text, scoped to its owner.
+     */
+    @Query(HISTORY_ITEM_SELECT + "WHERE u.id = :userId AND s.id = :id")
+    Optional<SummarizationHistoryRow> findHistoryItem(@Param("userId") String userId, @Param("id") String id);
 }
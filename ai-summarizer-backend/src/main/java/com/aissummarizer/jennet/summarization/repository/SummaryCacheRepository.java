@@ -0,0 +1,23 @@
+package com.aissummarizer.jennet.summarization.repository;
+
+import com.aissummarizer.jennet.summarization.entity.SummaryCacheEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SummaryCacheRepository extends JpaRepository<SummaryCacheEntity, String> {
+
+    /**
+     * Deletes entries that expired before {@code now}.
+     *
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("delete from SummaryCacheEntity c where c.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
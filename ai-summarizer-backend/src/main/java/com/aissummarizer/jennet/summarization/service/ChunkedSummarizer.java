@@ -0,0 +1,202 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.config.ChunkingConfig;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.document.service.DocumentContent;
+import com.aissummarizer.jennet.document.tools.PromptBuilder;
+import com.aissummarizer.jennet.summarization.chunk.ContentChunk;
+import com.aissummarizer.jennet.summarization.chunk.ContentChunker;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import com.aissummarizer.jennet.summarization.token.TokenBudgeter;
+import com.aissummarizer.jennet.summarization.token.TokenCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Map-reduce summarization for documents that exceed the model context.
+ * <p>
+ * Map: the document is split into token-budgeted chunks which are summarized in parallel,
+ * at most {@link ChunkingConfig#maxParallelFor} at a time per document.
+ * Reduce: partial summaries are merged in groups that fit {@link ChunkingConfig#getReduceInputTokens()}
+ * until one group remains; that group is turned into the requested summary type.
+ * <p>
+ * The model itself is abstracted as a {@link ModelCall} so the caller decides how a prompt is sent
+ * (e.g. blocking for the map step, streaming for the final reduce).
+ */
+@Service
+public class ChunkedSummarizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedSummarizer.class);
+
+    /**
+     * Sends one prompt (plus optional images) to the model and returns the generated text.
+     */
+    @FunctionalInterface
+    public interface ModelCall {
+        String call(String prompt, List<ImageData> images, int maxTokens);
+    }
+
+    private final ChunkingConfig config;
+    private final PromptBuilder promptBuilder;
+    private final ContentChunker chunker;
+    private final TaskExecutor executor;
+    private final TokenCounter tokenCounter;
+    private final TokenBudgeter tokenBudgeter;
+
+    public ChunkedSummarizer(
+            ChunkingConfig config,
+            PromptBuilder promptBuilder,
+            ContentChunker chunker,
+            @Qualifier("chunkSummarizationExecutor") TaskExecutor executor,
+            TokenCounter tokenCounter,
+            TokenBudgeter tokenBudgeter) {
+        this.config = config;
+        this.promptBuilder = promptBuilder;
+        this.chunker = chunker;
+        this.executor = executor;
+        this.tokenCounter = tokenCounter;
+        this.tokenBudgeter = tokenBudgeter;
+    }
+
+    /**
+     * @param promptTokens counted tokens of the single-request prompt, text and images;
+     *                     the caller reuses the count for that request
+     * @param model        model the request would go to
+     * @return true if the document is too large to be summarized in a single request,
+     * either above the chunking threshold or beyond what the model context can hold
+     */
+    public boolean requiresChunking(int promptTokens, String model) {
+        int limit = Math.min(config.getMaxInputTokens(), tokenBudgeter.maxPromptTokens(model));
+        return config.isEnabled() && promptTokens > limit;
+    }
+
+    /**
+     * Summarizes a large document with map-reduce.
+     *
+     * @param content   document to summarize
+     * @param options   requested summary options
+     * @param model     used for map and intermediate reduce calls
+     * @param finalCall used for the final reduce call only
+     * @return the final summary
+     */
+    public String summarize(DocumentContent content, SummaryOptions options, ModelCall model, ModelCall finalCall) {
+        int parallelism = config.maxParallelFor(options.getType());
+        List<ContentChunk> chunks = chunker.chunk(content, config.chunkTokensFor(options.getType()));
+        logger.info("Summarizing {} in {} chunks, up to {} in parallel",
+                content.getType(), chunks.size(), parallelism);
+
+        // Map
+        List<String> partials = runBounded(chunks, parallelism, chunk -> model.call(
+                promptBuilder.buildChunkPrompt(chunk, chunks.size(), content.getType(), options),
+                chunk.images(),
+                config.getChunkSummaryTokens()));
+
+        // Reduce until everything fits into one call
+        DocumentType type = content.getType();
+        List<List<String>> groups = group(partials);
+        int level = 0;
+        while (groups.size() > 1) {
+            level++;
+            logger.debug("Reduce level {}: merging {} partial summaries in {} groups", level, partials.size(), groups.size());
+            partials = runBounded(groups, parallelism, group -> group.size() == 1
+                    ? group.getFirst()
+                    : model.call(promptBuilder.buildMergePrompt(group, type), List.of(), config.getChunkSummaryTokens()));
+            groups = group(partials);
+        }
+
+        return finalCall.call(promptBuilder.buildReducePrompt(partials, type, options), List.of(), options.getMaxTokens());
+    }
+
+    /**
+     * Packs partial summaries into consecutive groups within the reduce budget. Every group
+     * of a multi-group result holds at least two summaries so each level strictly shrinks.
+     */
+    private List<List<String>> group(List<String> partials) {
+        List<List<String>> groups = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int tokens = 0;
+
+        for (String partial : partials) {
+            int partialTokens = tokenCounter.count(partial);
+            if (current.size() >= 2 && tokens + partialTokens > config.getReduceInputTokens()) {
+                groups.add(current);
+                current = new ArrayList<>();
+                tokens = 0;
+            }
+            current.add(partial);
+            tokens += partialTokens;
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    /**
+     * Applies {@code task} to every item on the chunk executor with at most {@code parallelism}
+     * tasks in flight, returning the results in input order. Once a task fails no further items
+     * are submitted, and queued ones are skipped.
+     */
+    private <T> List<String> runBounded(List<T> items, int parallelism, Function<T, String> task) {
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>(items.size());
+
+        try {
+            for (T item : items) {
+                if (failure.get() != null) {
+                    break;
+                }
+                permits.acquire();
+                // A task may have failed while we waited for the permit
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
+                CompletableFuture<String> future = new CompletableFuture<>();
+                futures.add(future);
+                executor.execute(() -> {
+                    try {
+                        Throwable earlier = failure.get();
+                        if (earlier != null) {
+                            future.completeExceptionally(earlier);
+                        } else {
+                            future.complete(task.apply(item));
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                        future.completeExceptionally(e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            return futures.stream().map(CompletableFuture::join).toList();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiSummarizationException("Chunked summarization was interrupted", e);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof AiSummarizationException aiException) {
+                throw aiException;
+            }
+            throw new AiSummarizationException("Chunk summarization failed", cause);
+        }
+    }
+}
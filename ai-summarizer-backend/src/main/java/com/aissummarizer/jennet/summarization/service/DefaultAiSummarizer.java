@@ -0,0 +1,318 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.document.service.DocumentContent;
+import com.aissummarizer.jennet.summarization.cache.SummaryCache;
+import com.aissummarizer.jennet.summarization.cache.SummaryCacheKey;
+import com.aissummarizer.jennet.summarization.dto.SummarizationOutboxPayload;
+import com.aissummarizer.jennet.summarization.model.SummaryClasses;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
+import com.aissummarizer.jennet.summarization.model.SummaryResult;
+import com.aissummarizer.jennet.summarization.enums.SummarizationStage;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.document.tools.PromptBuilder;
+import com.aissummarizer.jennet.document.model.DocxDocumentContent;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.model.PptxDocumentContent;
+import com.aissummarizer.jennet.document.model.TxtDocumentContent;
+import com.aissummarizer.jennet.summarization.provider.ChatModelProvider;
+import com.aissummarizer.jennet.summarization.provider.ChatModelRequest;
+import com.aissummarizer.jennet.summarization.provider.ChatModelRouter;
+import com.aissummarizer.jennet.summarization.token.TokenBudgeter;
+import com.aissummarizer.jennet.summarization.token.TokenCounter;
+import com.aissummarizer.jennet.summarization.token.TokenUsage;
+import com.aissummarizer.jennet.user.entity.UserEntity;
+import com.aissummarizer.jennet.user.service.UserService;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Provider-independent summarization pipeline: builds the prompt, serves the summary cache,
+ * splits oversized documents, budgets tokens and records history. The model call itself goes
+ * to the {@link ChatModelProvider} that {@link ChatModelRouter} selects for the summary type.
+ */
+@Service
+public class DefaultAiSummarizer implements AiSummarizer, StreamingAiSummarizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefaultAiSummarizer.class);
+
+    private final ChatModelRouter modelRouter;
+    private final PromptBuilder promptBuilder;
+    private final SummarizationOutboxPersister outboxPersister;
+    private final UserService userService;
+    private final SummaryCache summaryCache;
+    private final ChunkedSummarizer chunkedSummarizer;
+    private final TokenCounter tokenCounter;
+    private final TokenBudgeter tokenBudgeter;
+    private final SummarizationStageTimers stageTimers;
+
+    @Autowired
+    public DefaultAiSummarizer(
+            ChatModelRouter modelRouter,
+            PromptBuilder promptBuilder,
+            SummarizationOutboxPersister outboxPersister,
+            UserService userService,
+            SummaryCache summaryCache,
+            ChunkedSummarizer chunkedSummarizer,
+            TokenCounter tokenCounter,
+            TokenBudgeter tokenBudgeter,
+            SummarizationStageTimers stageTimers) {
+        this.modelRouter = modelRouter;
+        this.promptBuilder = promptBuilder;
+        this.outboxPersister = outboxPersister;
+        this.userService = userService;
+        this.summaryCache = summaryCache;
+        this.chunkedSummarizer = chunkedSummarizer;
+        this.tokenCounter = tokenCounter;
+        this.tokenBudgeter = tokenBudgeter;
+        this.stageTimers = stageTimers;
+    }
+
+    @Override
+    public SummaryResult summarize(DocumentContent content, SummaryOptions options, String userName, DocumentUploadEntity uploadEntity) {
+        try {
+            long startTime = System.currentTimeMillis();
+
+            // Build prompt
+            Timer.Sample promptSample = stageTimers.start();
+            String prompt = promptBuilder.buildPrompt(content, options);
+            stageTimers.stop(promptSample, SummarizationStage.PROMPT);
+
+            // Serve repeated uploads from the cache, otherwise call the model
+            TokenUsage usage = new TokenUsage();
+            String model = modelRouter.forType(options.getType()).getModel();
+            String cacheKey = SummaryCacheKey.of(content, options, model);
+            Timer.Sample cacheSample = stageTimers.start();
+            String summary = summaryCache.get(cacheKey).orElse(null);
+            stageTimers.stop(cacheSample, SummarizationStage.CACHE);
+            if (summary != null) {
+                logger.info("Summary cache hit for {} document", content.getType());
+            } else {
+                int promptTokens = tokenCounter.countMessage(prompt, content.getImages());
+                if (chunkedSummarizer.requiresChunking(promptTokens, model)) {
+                    // Too large for one request: map-reduce over token-budgeted chunks
+                    ChunkedSummarizer.ModelCall modelCall = blockingCall(options, usage);
+                    summary = chunkedSummarizer.summarize(content, options, modelCall, modelCall);
+                } else {
+                    summary = budgetedCall(prompt, promptTokens, content.getImages(), options,
+                            options.getMaxTokens(), usage, null);
+                }
+                summaryCache.put(cacheKey, summary, model);
+            }
+
+            // Build metadata model
+            SummaryMetadata metadata = buildMetadata(content, startTime, usage);
+
+            // A cache hit still records the user's history entry
+            persist(userName, uploadEntity, prompt, summary, content.getType(), options.getType(), metadata);
+
+            return new SummaryResult(
+                    summary,
+                    content.getType(),
+                    options.getType(),
+                    metadata
+            );
+
+        } catch (Exception e) {
+            logger.error("Failed to summarize document", e);
+            throw new AiSummarizationException("AI summarization failed", e);
+        }
+    }
+
+    @Override
+    public SummaryResult summarizeStreaming(DocumentContent content, SummaryOptions options, String userName,
+                                            DocumentUploadEntity uploadEntity, Consumer<String> onChunk) {
+        try {
+            long startTime = System.currentTimeMillis();
+
+            Timer.Sample promptSample = stageTimers.start();
+            String prompt = promptBuilder.buildPrompt(content, options);
+            stageTimers.stop(promptSample, SummarizationStage.PROMPT);
+
+            TokenUsage usage = new TokenUsage();
+            String model = modelRouter.forType(options.getType()).getModel();
+            String cacheKey = SummaryCacheKey.of(content, options, model);
+            Timer.Sample cacheSample = stageTimers.start();
+            String summary = summaryCache.get(cacheKey).orElse(null);
+            stageTimers.stop(cacheSample, SummarizationStage.CACHE);
+            if (summary != null) {
+                logger.info("Summary cache hit for {} document", content.getType());
+                onChunk.accept(summary);
+            } else {
+                int promptTokens = tokenCounter.countMessage(prompt, content.getImages());
+                if (chunkedSummarizer.requiresChunking(promptTokens, model)) {
+                    // Chunks are summarized blocking; only the final reduce is streamed
+                    ChunkedSummarizer.ModelCall finalCall = (reducePrompt, images, maxTokens) ->
+                            budgetedCall(reducePrompt, images, options, maxTokens, usage, onChunk);
+                    summary = chunkedSummarizer.summarize(content, options, blockingCall(options, usage), finalCall);
+                } else {
+                    summary = budgetedCall(prompt, promptTokens, content.getImages(), options,
+                            options.getMaxTokens(), usage, onChunk);
+                }
+                summaryCache.put(cacheKey, summary, model);
+            }
+
+            SummaryMetadata metadata = buildMetadata(content, startTime, usage);
+
+            // Persist only once the stream has completed successfully
+            persist(userName, uploadEntity, prompt, summary, content.getType(), options.getType(), metadata);
+
+            return new SummaryResult(
+                    summary,
+                    content.getType(),
+                    options.getType(),
+                    metadata
+            );
+
+        } catch (Exception e) {
+            logger.error("Failed to stream document summary", e);
+            throw new AiSummarizationException("AI summarization failed", e);
+        }
+    }
+
+    @Override
+    public SummaryResult summarize(String customText, SummaryOptions options, String userName) throws AiSummarizationException {
+        try {
+            long startTime = System.currentTimeMillis();
+
+            // Build prompt
+            Timer.Sample promptSample = stageTimers.start();
+            String prompt = promptBuilder.buildPrompt(customText, options);
+            stageTimers.stop(promptSample, SummarizationStage.PROMPT);
+
+            // Call the model
+            TokenUsage usage = new TokenUsage();
+            String summary = budgetedCall(prompt, List.of(), options, options.getMaxTokens(), usage, null);
+
+            // Build metadata model
+            SummaryMetadata metadata = buildMetadata(customText, startTime, usage);
+
+            persist(userName, null, prompt, summary, DocumentType.TXT, options.getType(), metadata);
+
+            return new SummaryResult(
+                    summary,
+                    DocumentType.TXT,
+                    options.getType(),
+                    metadata
+            );
+
+        } catch (Exception e) {
+            logger.error("Failed to summarize document", e);
+            throw new AiSummarizationException("AI summarization failed", e);
+        }
+    }
+
+    /**
+     * Hands the summarization to the history outbox. The upload, summarization, result and
+     * metadata rows are written in the background; a failure here only costs the history entry,
+     * never the summary the caller is waiting for.
+     */
+    private void persist(String userName, DocumentUploadEntity uploadEntity, String prompt, String summary,
+                         DocumentType documentType, SummaryType summaryType, SummaryMetadata metadata) {
+        Timer.Sample historySample = stageTimers.start();
+        try {
+            UserEntity user = uploadEntity != null && uploadEntity.getUser() != null
+                    ? uploadEntity.getUser()
+                    : userService.getByUserName(userName);
+            outboxPersister.submit(SummarizationOutboxPayload.of(
+                    user.getId(), uploadEntity, prompt, summary, documentType, summaryType, metadata));
+        } catch (Exception e) {
+            logger.error("Failed to record summarization history for user {}", userName, e);
+        } finally {
+            stageTimers.stop(historySample, SummarizationStage.HISTORY);
+        }
+    }
+
+    /**
+     * Blocking model call for the map and merge steps of chunked summarization.
+     */
+    private ChunkedSummarizer.ModelCall blockingCall(SummaryOptions options, TokenUsage usage) {
+        return (prompt, images, maxTokens) -> budgetedCall(prompt, images, options, maxTokens, usage, null);
+    }
+
+    private String budgetedCall(String prompt, List<ImageData> images, SummaryOptions options, int maxTokens,
+                                TokenUsage usage, Consumer<String> onChunk) {
+        return budgetedCall(prompt, tokenCounter.countMessage(prompt, images), images, options, maxTokens, usage, onChunk);
+    }
+
+    /**
+     * Trims the prompt if it cannot fit the context window, sizes the completion budget from
+     * the prompt and the routed model, and calls the provider, blocking or streaming to
+     * {@code onChunk}. Prompt and completion tokens are added to {@code usage}.
+     *
+     * @param promptTokens counted tokens of {@code prompt} and {@code images}
+     * @param maxTokens    upper bound of the completion budget
+     */
+    private String budgetedCall(String prompt, int promptTokens, List<ImageData> images, SummaryOptions options,
+                                int maxTokens, TokenUsage usage, Consumer<String> onChunk) {
+        ChatModelProvider provider = modelRouter.forType(options.getType());
+        int maxPromptTokens = tokenBudgeter.maxPromptTokens(provider.getModel());
+        if (promptTokens > maxPromptTokens) {
+            // Only reachable with chunking disabled or for custom text; cut the tail of the prompt
+            logger.warn("Prompt of {} tokens exceeds the {} token budget, trimming", promptTokens, maxPromptTokens);
+            int textBudget = maxPromptTokens - (promptTokens - tokenCounter.count(prompt));
+            prompt = tokenCounter.truncate(prompt, textBudget);
+            promptTokens = tokenCounter.countMessage(prompt, images);
+        }
+
+        int completionTokens = tokenBudgeter.completionTokens(promptTokens, options.getType(), maxTokens, provider.getModel());
+
+        logger.debug("Model call to {}: {} prompt tokens, {} completion tokens",
+                provider.getName(), promptTokens, completionTokens);
+        ChatModelRequest request = new ChatModelRequest(prompt, images, completionTokens, options.getTemperature());
+        Timer.Sample modelSample = stageTimers.start();
+        String text;
+        try {
+            text = onChunk == null
+                    ? provider.complete(request)
+                    : provider.stream(request, onChunk);
+        } finally {
+            stageTimers.stop(modelSample, SummarizationStage.MODEL);
+        }
+
+        usage.record(promptTokens, tokenCounter.count(text));
+        return text;
+    }
+
+    private SummaryMetadata buildMetadata(DocumentContent content, long startTime, TokenUsage usage) {
+        SummaryMetadata.Builder builder = tokenMetadata(usage)
+                .wordCount(content.getWordCount())
+                .imageCount(content.getImages().size())
+                .processingTimeMs(System.currentTimeMillis() - startTime);
+
+        if (content instanceof PptxDocumentContent pptx) {
+            builder.slideCount(pptx.getSlides().size());
+        } else if (content instanceof DocxDocumentContent docx) {
+            builder.paragraphCount(docx.getParagraphs().size())
+                    .tableCount(docx.getTables().size());
+        } else if (content instanceof TxtDocumentContent txt) {
+            builder.paragraphCount(txt.getParagraphs().size());
+        }
+
+        return builder.build();
+    }
+
+    private SummaryMetadata buildMetadata(String content, long startTime, TokenUsage usage) {
+        SummaryMetadata.Builder builder = tokenMetadata(usage)
+                .wordCount(content.getBytes().length)
+                .imageCount(0)
+                .processingTimeMs(System.currentTimeMillis() - startTime);
+        return builder.build();
+    }
+
+    private SummaryMetadata.Builder tokenMetadata(TokenUsage usage) {
+        return SummaryMetadata.builder()
+                .promptTokens(usage.getPromptTokens())
+                .completionTokens(usage.getCompletionTokens())
+                .estimatedCostUsd(tokenBudgeter.costUsd(usage.getPromptTokens(), usage.getCompletionTokens()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.service.DocumentContent;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import com.aissummarizer.jennet.summarization.model.SummaryResult;
+
+import java.util.function.Consumer;
+
+/**
+ * Streaming variant of {@link AiSummarizer}: completion text is handed to the caller
+ * chunk by chunk while the model is still generating.
+ */
+public interface StreamingAiSummarizer {
+    /**
+     * Summarize document content, forwarding each generated chunk as it arrives.
+     * The summarization is persisted once the stream has finished.
+     *
+     * @param content      Document content to summarize
+     * @param options      Summarization options
+     * @param userName     Owner of the summarization
+     * @param uploadEntity Upload record the summarization belongs to
+     * @param onChunk      Receives each non-empty text delta in order
+     * @return Summary result built from the complete streamed text
+     * @throws AiSummarizationException if summarization fails
+     */
+    SummaryResult summarizeStreaming(DocumentContent content, SummaryOptions options, String userName,
+                                     DocumentUploadEntity uploadEntity, Consumer<String> onChunk)
+            throws AiSummarizationException;
+}
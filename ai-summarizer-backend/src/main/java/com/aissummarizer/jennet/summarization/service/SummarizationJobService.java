@@ -0,0 +1,42 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.summarization.model.SummarizationJob;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * Runs document summarization as asynchronous jobs on a bounded worker pool.
+ * <p>
+ * Submitting returns immediately with a job handle; clients poll the job
+ * until it reaches a finished state.
+ */
+public interface SummarizationJobService {
+
+    /**
+     * Queues a summarization job for the uploaded file.
+     *
+     * @param file         uploaded document, copied before this method returns
+     * @param options      summarization options
+     * @param userName     owner of the job
+     * @param uploadEntity upload metadata, stored together with the summary
+     * @param owner        authenticated user submitting the job
+     * @return the queued job
+     * @throws IOException if the upload cannot be copied
+     * @throws java.util.concurrent.RejectedExecutionException if the worker pool is saturated
+     */
+    SummarizationJob submit(MultipartFile file, SummaryOptions options, String userName, DocumentUploadEntity uploadEntity,
+                            String owner) throws IOException;
+
+    /**
+     * Retrieves a job by id on behalf of its owner.
+     *
+     * @param jobId job identifier
+     * @param owner authenticated user polling the job
+     * @return the job
+     * @throws com.aissummarizer.jennet.common.exception.NotFoundException if unknown, expired or owned by someone else
+     */
+    SummarizationJob getJob(String jobId, String owner);
+}
@@ -0,0 +1,118 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.enums.ErrorCode;
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.common.exception.DocumentProcessingException;
+import com.aissummarizer.jennet.common.exception.InvalidFileException;
+import com.aissummarizer.jennet.common.exception.NotFoundException;
+import com.aissummarizer.jennet.common.exception.UnsupportedDocumentTypeException;
+import com.aissummarizer.jennet.config.SummarizationJobConfig;
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.service.DocumentSummarizerService;
+import com.aissummarizer.jennet.document.tools.TempFileMultipartFile;
+import com.aissummarizer.jennet.summarization.model.SummarizationJob;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import com.aissummarizer.jennet.summarization.model.SummaryResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Default implementation of {@link SummarizationJobService}.
+ * <p>
+ * Jobs are kept in memory; finished jobs are evicted once they are older
+ * than {@link SummarizationJobConfig#getResultTtlMs()}.
+ */
+@Service
+public class SummarizationJobServiceImpl implements SummarizationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummarizationJobServiceImpl.class);
+
+    private final DocumentSummarizerService summarizerService;
+    private final TaskExecutor executor;
+    private final SummarizationJobConfig config;
+    private final Map<String, SummarizationJob> jobs = new ConcurrentHashMap<>();
+
+    public SummarizationJobServiceImpl(
+            DocumentSummarizerService summarizerService,
+            @Qualifier("summarizationExecutor") TaskExecutor executor,
+            SummarizationJobConfig config) {
+        this.summarizerService = summarizerService;
+        this.executor = executor;
+        this.config = config;
+    }
+
+    @Override
+    public SummarizationJob submit(MultipartFile file, SummaryOptions options, String userName, DocumentUploadEntity uploadEntity,
+                                   String owner) throws IOException {
+
+        evictExpiredJobs();
+
+        TempFileMultipartFile upload = TempFileMultipartFile.copyOf(file);
+        SummarizationJob job = new SummarizationJob(owner, userName, file.getOriginalFilename());
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(() -> run(job, upload, options, userName, uploadEntity));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            upload.close();
+            logger.warn("Summarization queue is full, rejecting job for file {}", file.getOriginalFilename());
+            throw e;
+        }
+
+        logger.info("Queued summarization job {} for file {}", job.getId(), file.getOriginalFilename());
+        return job;
+    }
+
+    @Override
+    public SummarizationJob getJob(String jobId, String owner) {
+        evictExpiredJobs();
+        SummarizationJob job = jobs.get(jobId);
+        // Someone else's job is reported as missing, so job ids cannot be probed
+        if (job == null || !job.isOwnedBy(owner)) {
+            throw new NotFoundException("Summarization job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(SummarizationJob job, TempFileMultipartFile upload, SummaryOptions options,
+                     String userName, DocumentUploadEntity uploadEntity) {
+        job.markRunning();
+        try (upload) {
+            SummaryResult result = summarizerService.summarizeDocument(upload, options, userName, uploadEntity);
+            job.markSucceeded(result);
+            logger.info("Summarization job {} succeeded in {}ms",
+                    job.getId(), result.getMetadata().getProcessingTimeMs());
+        } catch (UnsupportedDocumentTypeException e) {
+            job.markFailed(ErrorCode.UNSUPPORTED_FILE_TYPE, e.getMessage());
+        } catch (InvalidFileException e) {
+            job.markFailed(ErrorCode.INVALID_FILE, e.getMessage());
+        } catch (DocumentProcessingException e) {
+            if (e.getCause() instanceof AiSummarizationException) {
+                logger.error("Summarization job {} failed in AI service", job.getId(), e);
+                job.markFailed(ErrorCode.AI_SERVICE_ERROR, "AI service temporarily unavailable");
+            } else {
+                logger.error("Summarization job {} failed", job.getId(), e);
+                job.markFailed(ErrorCode.PROCESSING_ERROR, "Failed to process document");
+            }
+        } catch (RuntimeException e) {
+            logger.error("Summarization job {} failed unexpectedly", job.getId(), e);
+            job.markFailed(ErrorCode.INTERNAL_ERROR, "An unexpected error occurred");
+        }
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusNanos(config.getResultTtlMs() * 1_000_000L);
+        jobs.values().removeIf(job -> job.isFinishedBefore(threshold));
+    }
+}
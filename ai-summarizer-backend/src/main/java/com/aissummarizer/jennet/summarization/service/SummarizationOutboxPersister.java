@@ -0,0 +1,165 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.config.SummarizationOutboxConfig;
+import com.aissummarizer.jennet.summarization.dto.SummarizationOutboxPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence of summarization history.
+ * <p>
+ * Request threads only append the finished summary to the outbox (one insert) and return.
+ * A background thread applies entries as soon as they arrive, and also polls every
+ * {@link SummarizationOutboxConfig#getPollIntervalMs()} so entries left behind by a crash or
+ * a failed attempt are picked up again. Entries are locked with {@code SKIP LOCKED}, so several
+ * nodes can drain the same table.
+ */
+@Component
+public class SummarizationOutboxPersister implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummarizationOutboxPersister.class);
+
+    private final SummarizationOutboxConfig config;
+    private final SummarizationOutboxService outboxService;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final Counter enqueued;
+    private final Counter persisted;
+    private final Counter retried;
+    private final Counter dead;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public SummarizationOutboxPersister(SummarizationOutboxConfig config,
+                                        SummarizationOutboxService outboxService,
+                                        MeterRegistry meterRegistry) {
+        this.config = config;
+        this.outboxService = outboxService;
+        this.enqueued = events(meterRegistry, "enqueued");
+        this.persisted = events(meterRegistry, "persisted");
+        this.retried = events(meterRegistry, "retried");
+        this.dead = events(meterRegistry, "dead");
+    }
+
+    /**
+     * Durably records a finished summary and wakes the persister.
+     *
+     * @param payload summary and upload details
+     */
+    public void submit(SummarizationOutboxPayload payload) {
+        outboxService.append(payload);
+        enqueued.increment();
+        wakeUp.release();
+    }
+
+    /**
+     * Applies every entry that is currently due.
+     *
+     * @return number of entries written to the history
+     */
+    public int drain() {
+        int applied = 0;
+        while (true) {
+            List<Long> due = outboxService.findDue(config.getBatchSize());
+            int round = 0;
+            for (Long id : due) {
+                if (applyOne(id)) {
+                    round++;
+                }
+            }
+            applied += round;
+            // Stop on a short page, or when every entry failed or is held by another node
+            if (due.size() < config.getBatchSize() || round == 0) {
+                return applied;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("summarization-outbox")
+                .daemon(true)
+                .start(this::pollLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        // No interrupt: a transaction in flight finishes, anything left stays in the outbox
+        wakeUp.release();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server so summaries of requests still completing are applied.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void pollLoop() {
+        try {
+            while (running) {
+                wakeUp.tryAcquire(config.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+                try {
+                    drain();
+                } catch (Exception e) {
+                    // Database unavailable; entries stay in the outbox until the next poll
+                    logger.warn("Failed to poll summarization outbox: {}", e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean applyOne(Long id) {
+        try {
+            if (outboxService.apply(id)) {
+                persisted.increment();
+                return true;
+            }
+            return false;
+        } catch (Exception e) {
+            boolean exhausted = outboxService.recordFailure(id, e);
+            if (exhausted) {
+                dead.increment();
+                logger.error("Giving up on summarization outbox entry {}", id, e);
+            } else {
+                retried.increment();
+                logger.warn("Failed to apply summarization outbox entry {}, will retry: {}", id, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("summarization.outbox.events")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.summarization.dto.SummarizationOutboxPayload;
+
+import java.util.List;
+
+/**
+ * Durable hand-off of finished summaries to the history tables.
+ * <p>
+ * Each method runs in its own transaction; {@link SummarizationOutboxPersister} drives them.
+ */
+public interface SummarizationOutboxService {
+
+    /**
+     * Appends a summary to the outbox with a single insert.
+     *
+     * @param payload summary and upload details
+     * @return id of the outbox entry
+     */
+    Long append(SummarizationOutboxPayload payload);
+
+    /**
+     * Ids of entries that are due for an attempt, oldest first.
+     *
+     * @param limit max number of ids
+     */
+    List<Long> findDue(int limit);
+
+    /**
+     * Writes the upload, summarization, result and metadata rows of one entry and removes
+     * the entry, atomically.
+     *
+     * @param id outbox entry id
+     * @return false if the entry is gone or locked by another node
+     */
+    boolean apply(Long id);
+
+    /**
+     * Records a failed attempt and schedules the next one.
+     *
+     * @param id outbox entry id
+     * @param error cause of the failure
+     * @return true if the entry has used up its attempts
+     */
+    boolean recordFailure(Long id, Exception error);
+}
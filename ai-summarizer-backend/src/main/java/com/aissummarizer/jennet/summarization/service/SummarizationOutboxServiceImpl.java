@@ -0,0 +1,120 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.config.SummarizationOutboxConfig;
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.repository.DocumentUploadRepository;
+import com.aissummarizer.jennet.summarization.dto.SummarizationOutboxPayload;
+import com.aissummarizer.jennet.summarization.entity.SummarizationOutboxEntity;
+import com.aissummarizer.jennet.summarization.repository.SummarizationOutboxRepository;
+import com.aissummarizer.jennet.user.entity.UserEntity;
+import com.aissummarizer.jennet.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Default implementation of {@link SummarizationOutboxService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SummarizationOutboxServiceImpl implements SummarizationOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final SummarizationOutboxConfig config;
+    private final SummarizationOutboxRepository outboxRepository;
+    private final DocumentUploadRepository documentUploadRepository;
+    private final SummarizationService summarizationService;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional
+    public Long append(SummarizationOutboxPayload payload) {
+        LocalDateTime now = LocalDateTime.now();
+        SummarizationOutboxEntity entry = SummarizationOutboxEntity.builder()
+                .payload(write(payload))
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+        return outboxRepository.save(entry).getId();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findDue(int limit) {
+        return outboxRepository.findDueIds(config.getMaxAttempts(), LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public boolean apply(Long id) {
+        Optional<SummarizationOutboxEntity> locked = outboxRepository.findByIdForUpdate(id);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        SummarizationOutboxEntity entry = locked.get();
+        SummarizationOutboxPayload payload = read(entry.getPayload());
+
+        // A proxy is enough: the user row is only referenced by foreign key
+        UserEntity user = userRepository.getReferenceById(payload.userId());
+        DocumentUploadEntity upload = payload.toUpload(user);
+        if (upload != null) {
+            upload = documentUploadRepository.save(upload);
+        }
+        summarizationService.saveSummarization(
+                user,
+                upload,
+                payload.inputText(),
+                payload.summary(),
+                payload.documentType(),
+                payload.summaryType(),
+                payload.toMetadata(),
+                payload.createdAt()
+        );
+        outboxRepository.delete(entry);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean recordFailure(Long id, Exception error) {
+        return outboxRepository.findById(id)
+                .map(entry -> {
+                    int attempts = entry.getAttempts() + 1;
+                    entry.setAttempts(attempts);
+                    entry.setNextAttemptAt(LocalDateTime.now().plusNanos(config.backoffMs(attempts) * 1_000_000));
+                    entry.setLastError(truncate(String.valueOf(error.getMessage())));
+                    return attempts >= config.getMaxAttempts();
+                })
+                .orElse(false);
+    }
+
+    private static String write(SummarizationOutboxPayload payload) {
+        try {
+            return MAPPER.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize summarization outbox payload", e);
+        }
+    }
+
+    private static SummarizationOutboxPayload read(String json) {
+        try {
+            return MAPPER.readValue(json, SummarizationOutboxPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize summarization outbox payload", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
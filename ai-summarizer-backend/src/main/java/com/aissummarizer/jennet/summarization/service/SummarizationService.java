@@ -1,8 +1,18 @@
 package com.aissummarizer.jennet.summarization.service;
 
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.summarization.dto.HistoryCursor;
+import com.aissummarizer.jennet.summarization.dto.SummarizationHistoryRow;
 import com.aissummarizer.jennet.summarization.entity.SummarizationEntity;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
+import com.aissummarizer.jennet.user.entity.UserEntity;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Business operations around storing and retrieving summarization history.
@@ -10,7 +20,53 @@ import java.util.List;
 public interface SummarizationService {
     public SummarizationEntity saveSummarization(SummarizationEntity summarization);
 
+    /**
+     * Stores a summarization with its result and metadata in one transaction.
+     *
+     * @param user           owner
+     * @param documentUpload uploaded document (nullable)
+     * @param inputText      prompt sent to the model
+     * @param summaryText    generated summary
+     * @param documentType   source document type
+     * @param summaryType    requested summary type
+     * @param metadata       document statistics and processing time
+     * @param createdAt      when the summary was produced
+     * @return the persisted summarization
+     */
+    SummarizationEntity saveSummarization(UserEntity user,
+                                          DocumentUploadEntity documentUpload,
+                                          String inputText,
+                                          String summaryText,
+                                          DocumentType documentType,
+                                          SummaryType summaryType,
+                                          SummaryMetadata metadata,
+                                          LocalDateTime createdAt);
+
     public List<SummarizationEntity> findByUserId(String userId);
 
+    /**
+     * Read-only history of a user, loaded with one query.
+     */
+    List<SummarizationHistoryRow> findHistoryByUserId(String userId);
+
+    /**
+     * Read-only history of several users, loaded with one query.
+     */
+    List<SummarizationHistoryRow> findHistoryByUserIds(Collection<String> userIds);
+
+    /**
+     * One keyset page of a user's history previews, newest first.
+     *
+     * @param userId owner
+     * @param after  position of the last item of the previous page, or null for the first page
+     * @param limit  maximum number of rows
+     */
+    List<SummarizationHistoryRow> findHistoryPage(String userId, HistoryCursor after, int limit);
+
+    /**
+     * A single history item of a user, with the full summary text.
+     */
+    Optional<SummarizationHistoryRow> findHistoryItem(String userId, String summarizationId);
+
     void deleteById(String summaryId);
 }
@@ -2,18 +2,24 @@ package com.aissummarizer.jennet.summarization.service;
 
 import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
 import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.summarization.dto.HistoryCursor;
+import com.aissummarizer.jennet.summarization.dto.SummarizationHistoryRow;
 import com.aissummarizer.jennet.summarization.entity.SummarizationEntity;
 import com.aissummarizer.jennet.summarization.entity.SummaryMetadataEntity;
 import com.aissummarizer.jennet.summarization.entity.SummaryResultEntity;
 import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
 import com.aissummarizer.jennet.summarization.repository.SummarizationRepository;
 import com.aissummarizer.jennet.user.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 
 /**
  * Default implementation of {@link SummarizationService}.
@@ -28,50 +34,52 @@ public class SummarizationServiceImpl implements SummarizationService {
      * <p>
      * This is typically called AFTER the AI summarizer finishes,
      * when you have both summary text and derived metadata.
+     * <p>
+     * Ids are left to {@code @PrePersist}, so the repository sees a new entity and
+     * persists it instead of merging (which would select every row first). Result and
+     * metadata are inserted by cascade in the same transaction: three inserts in total.
+     * The summary text is stored once, in {@code summary_results}.
      */
+    @Override
+    @Transactional
     public SummarizationEntity saveSummarization(UserEntity user,
                                                  DocumentUploadEntity documentUpload,
                                                  String inputText,
                                                  String summaryText,
                                                  DocumentType documentType,
                                                  SummaryType summaryType,
-                                                 int wordCount,
-                                                 int imageCount,
-                                                 int slideCount,
-                                                 int paragraphCount,
-                                                 int tableCount,
-                                                 long processingTimeMs) {
+                                                 SummaryMetadata metadata,
+                                                 LocalDateTime createdAt) {
 
         SummarizationEntity summarization = new SummarizationEntity();
-        summarization.setId(UUID.randomUUID().toString());
         summarization.setUser(user);
         summarization.setDocumentUpload(documentUpload);
         summarization.setInputText(inputText);
-        summarization.setSummaryText(summaryText);
         summarization.setDocumentType(documentType);
         summarization.setSummaryType(summaryType);
-        summarization.setCreatedAt(LocalDateTime.now());
-
-        SummaryMetadataEntity metadata = new SummaryMetadataEntity();
-        metadata.setId(UUID.randomUUID().toString());
-        metadata.setSummarization(summarization);
-        metadata.setWordCount(wordCount);
-        metadata.setImageCount(imageCount);
-        metadata.setSlideCount(slideCount);
-        metadata.setParagraphCount(paragraphCount);
-        metadata.setTableCount(tableCount);
-        metadata.setProcessingTime(processingTimeMs);
+        summarization.setCreatedAt(createdAt);
 
         SummaryResultEntity result = new SummaryResultEntity();
-        result.setId(UUID.randomUUID().toString());
         result.setSummarization(summarization);
         result.setSummary(summaryText);
         result.setDocumentType(documentType);
         result.setSummaryType(summaryType);
-        summarization.setMetadata(metadata);
+
+        SummaryMetadataEntity metadataEntity = new SummaryMetadataEntity();
+        metadataEntity.setSummarization(summarization);
+        metadataEntity.setSummaryResult(result);
+        metadataEntity.setWordCount(metadata.getWordCount());
+        metadataEntity.setImageCount(metadata.getImageCount());
+        metadataEntity.setSlideCount(metadata.getSlideCount());
+        metadataEntity.setParagraphCount(metadata.getParagraphCount());
+        metadataEntity.setTableCount(metadata.getTableCount());
+        metadataEntity.setProcessingTime(metadata.getProcessingTimeMs());
+
+        result.setMetadata(metadataEntity);
         summarization.setResult(result);
+        summarization.setMetadata(metadataEntity);
 
-        // 🔐 One save cascades to metadata & result because of CascadeType.ALL
+        // One save cascades to result & metadata because of CascadeType.ALL
         return summarizationRepository.save(summarization);
     }
 
@@ -85,6 +93,33 @@ public class SummarizationServiceImpl implements SummarizationService {
         return summarizationRepository.findByUserId(userId);
     }
 
+    @Override
+    public List<SummarizationHistoryRow> findHistoryByUserId(String userId) {
+        return summarizationRepository.findHistoryByUserId(userId);
+    }
+
+    @Override
+    public List<SummarizationHistoryRow> findHistoryByUserIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return summarizationRepository.findHistoryByUserIds(userIds);
+    }
+
+    @Override
+    public List<SummarizationHistoryRow> findHistoryPage(String userId, HistoryCursor after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (after == null) {
+            return summarizationRepository.findHistoryPage(userId, page);
+        }
+        return summarizationRepository.findHistoryPageAfter(userId, after.createdAt(), after.id(), page);
+    }
+
+    @Override
+    public Optional<SummarizationHistoryRow> findHistoryItem(String userId, String summarizationId) {
+        return summarizationRepository.findHistoryItem(userId, summarizationId);
+    }
+
     @Override
     public void deleteById(String summaryId) {
         summarizationRepository.deleteById(summaryId);
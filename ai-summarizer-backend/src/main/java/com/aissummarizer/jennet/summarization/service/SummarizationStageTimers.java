@@ -0,0 +1,43 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.summarization.enums.SummarizationStage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@code summarization.stage} timer per {@link SummarizationStage}, tagged with the stage name.
+ * Percentiles are published client-side, so they are readable from any registry (and from
+ * the load-test harness) without a histogram-aware backend.
+ */
+@Component
+public class SummarizationStageTimers {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<SummarizationStage, Timer> timers = new EnumMap<>(SummarizationStage.class);
+
+    public SummarizationStageTimers(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (SummarizationStage stage : SummarizationStage.values()) {
+            timers.put(stage, Timer.builder("summarization.stage")
+                    .tag("stage", stage.tagValue())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, SummarizationStage stage) {
+        sample.stop(timers.get(stage));
+    }
+
+    public Timer get(SummarizationStage stage) {
+        return timers.get(stage);
+    }
+}
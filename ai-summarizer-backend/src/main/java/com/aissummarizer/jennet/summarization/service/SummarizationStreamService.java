@@ -0,0 +1,35 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Streams document summaries to the client as Server-Sent Events.
+ * <p>
+ * Events emitted, in order:
+ * <ul>
+ *   <li>{@code chunk} – {@code {"text": "..."}} for every generated text delta</li>
+ *   <li>{@code done} – the complete {@code ApiResponse<SummaryResult>} once it has been persisted</li>
+ *   <li>{@code error} – an {@code ApiResponse} error body; replaces {@code done} on failure</li>
+ * </ul>
+ */
+public interface SummarizationStreamService {
+
+    /**
+     * Starts streaming a summary of the uploaded file on the summarization worker pool.
+     *
+     * @param file         uploaded document, copied before this method returns
+     * @param options      summarization options
+     * @param userName     owner of the summarization
+     * @param uploadEntity upload metadata, stored together with the summary
+     * @return emitter the events are written to
+     * @throws IOException if the upload cannot be copied
+     * @throws java.util.concurrent.RejectedExecutionException if the worker pool is saturated
+     */
+    SseEmitter stream(MultipartFile file, SummaryOptions options, String userName, DocumentUploadEntity uploadEntity)
+            throws IOException;
+}
@@ -0,0 +1,137 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.enums.ErrorCode;
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.common.exception.DocumentProcessingException;
+import com.aissummarizer.jennet.common.exception.InvalidFileException;
+import com.aissummarizer.jennet.common.exception.UnsupportedDocumentTypeException;
+import com.aissummarizer.jennet.common.model.ApiResponse;
+import com.aissummarizer.jennet.config.SummarizationJobConfig;
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.service.DocumentSummarizerService;
+import com.aissummarizer.jennet.document.tools.TempFileMultipartFile;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import com.aissummarizer.jennet.summarization.model.SummaryResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Default implementation of {@link SummarizationStreamService}.
+ * <p>
+ * Streams run on the same bounded {@code summarizationExecutor} as asynchronous jobs,
+ * so they count against the same concurrency limit. If the client disconnects, the next
+ * write fails and the OpenAI stream is closed instead of generating tokens nobody reads.
+ */
+@Service
+public class SummarizationStreamServiceImpl implements SummarizationStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummarizationStreamServiceImpl.class);
+
+    private final DocumentSummarizerService summarizerService;
+    private final TaskExecutor executor;
+    private final SummarizationJobConfig config;
+
+    public SummarizationStreamServiceImpl(
+            DocumentSummarizerService summarizerService,
+            @Qualifier("summarizationExecutor") TaskExecutor executor,
+            SummarizationJobConfig config) {
+        this.summarizerService = summarizerService;
+        this.executor = executor;
+        this.config = config;
+    }
+
+    @Override
+    public SseEmitter stream(MultipartFile file, SummaryOptions options, String userName, DocumentUploadEntity uploadEntity)
+            throws IOException {
+
+        TempFileMultipartFile upload = TempFileMultipartFile.copyOf(file);
+        SseEmitter emitter = createEmitter();
+
+        try {
+            executor.execute(() -> run(emitter, upload, options, userName, uploadEntity));
+        } catch (RejectedExecutionException e) {
+            upload.close();
+            logger.warn("Summarization queue is full, rejecting stream for file {}", file.getOriginalFilename());
+            throw e;
+        }
+
+        return emitter;
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(config.getStreamTimeoutMs());
+    }
+
+    private void run(SseEmitter emitter, TempFileMultipartFile upload, SummaryOptions options,
+                     String userName, DocumentUploadEntity uploadEntity) {
+        try (upload) {
+            SummaryResult result = summarizerService.streamDocument(
+                    upload, options, userName, uploadEntity,
+                    chunk -> send(emitter, "chunk", Map.of("text", chunk)));
+
+            send(emitter, "done", ApiResponse.success(result));
+            emitter.complete();
+            logger.info("Streamed summary for {} in {}ms",
+                    upload.getOriginalFilename(), result.getMetadata().getProcessingTimeMs());
+
+        } catch (UnsupportedDocumentTypeException e) {
+            fail(emitter, ErrorCode.UNSUPPORTED_FILE_TYPE, e.getMessage());
+        } catch (InvalidFileException e) {
+            fail(emitter, ErrorCode.INVALID_FILE, e.getMessage());
+        } catch (DocumentProcessingException e) {
+            if (hasCause(e, UncheckedIOException.class)) {
+                logger.info("Client disconnected while streaming {}", upload.getOriginalFilename());
+                emitter.complete();
+            } else if (e.getCause() instanceof AiSummarizationException) {
+                logger.error("Streaming summary failed in AI service", e);
+                fail(emitter, ErrorCode.AI_SERVICE_ERROR, "AI service temporarily unavailable");
+            } else {
+                logger.error("Streaming summary failed", e);
+                fail(emitter, ErrorCode.PROCESSING_ERROR, "Failed to process document");
+            }
+        } catch (RuntimeException e) {
+            logger.error("Streaming summary failed unexpectedly", e);
+            fail(emitter, ErrorCode.INTERNAL_ERROR, "An unexpected error occurred");
+        }
+    }
+
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException e) {
+            // Client went away; abort the upstream stream
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException e) {
+            // Emitter already completed, e.g. after a timeout
+            throw new UncheckedIOException(new IOException("Stream already closed", e));
+        }
+    }
+
+    private void fail(SseEmitter emitter, ErrorCode code, String message) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(ApiResponse.error(code, message)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static boolean hasCause(Throwable throwable, Class<? extends Throwable> type) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (type.isInstance(t)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.aissummarizer.jennet.summarization.token;
+
+import com.aissummarizer.jennet.config.TokenBudgetConfig;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes model calls from locally counted prompt tokens.
+ *
+ * @see TokenBudgetConfig
+ */
+@Component
+public class TokenBudgeter {
+
+    private final TokenBudgetConfig config;
+
+    public TokenBudgeter(TokenBudgetConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Largest prompt that still leaves room for the minimum completion budget of the model.
+     */
+    public int maxPromptTokens(String model) {
+        return Math.max(0, config.getContextWindowTokens() - config.getReservedTokens() - config.minCompletionTokensFor(model));
+    }
+
+    /**
+     * Completion budget for a prompt: proportional to the prompt size, at least the minimum
+     * for the model, at most {@code maxTokens} and never more than the context has room for.
+     * Reasoning models get their minimum even above {@code maxTokens}, since hidden reasoning
+     * counts against the same limit as the visible answer.
+     *
+     * @param promptTokens counted prompt tokens
+     * @param type         requested summary type
+     * @param maxTokens    upper bound requested by the caller
+     * @param model        model the call goes to
+     */
+    public int completionTokens(int promptTokens, SummaryType type, int maxTokens, String model) {
+        int wanted = (int) Math.min(Integer.MAX_VALUE, Math.ceil(promptTokens * config.completionRatioFor(type)));
+        int min = config.minCompletionTokensFor(model);
+        int cap = config.isReasoningModel(model) ? Math.max(maxTokens, min) : maxTokens;
+        int budget = Math.clamp(wanted, Math.min(min, cap), cap);
+
+        int room = config.getContextWindowTokens() - config.getReservedTokens() - promptTokens;
+        return Math.max(1, Math.min(budget, room));
+    }
+
+    /**
+     * Estimated price in USD of the given token counts.
+     */
+    public double costUsd(long promptTokens, long completionTokens) {
+        return (promptTokens * config.getInputUsdPerMillionTokens()
+                + completionTokens * config.getOutputUsdPerMillionTokens()) / 1_000_000d;
+    }
+}
@@ -0,0 +1,141 @@
+package com.aissummarizer.jennet.summarization.token;
+
+import com.aissummarizer.jennet.config.AiSummarizerConfig;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingResult;
+import com.knuddels.jtokkit.api.EncodingType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Counts prompt tokens locally, before anything is sent to the model.
+ * <p>
+ * Text is tokenized with the BPE encoding of the configured model (bundled with jtokkit,
+ * no network access). Models the library does not know yet fall back to {@code o200k_base},
+ * the encoding of the GPT-4o and GPT-5 families. Images are priced with the tile formula
+ * for high-detail inputs; only the image header is read to get the dimensions.
+ */
+@Component
+public class TokenCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenCounter.class);
+
+    /** Role markers and reply priming of a single user message. */
+    static final int MESSAGE_OVERHEAD_TOKENS = 7;
+
+    /** Cost of an image whose dimensions cannot be read (a 1024x1024 high-detail image). */
+    static final int DEFAULT_IMAGE_TOKENS = 765;
+
+    private static final int IMAGE_BASE_TOKENS = 85;
+    private static final int IMAGE_TILE_TOKENS = 170;
+    private static final int IMAGE_TILE_SIZE = 512;
+    private static final int IMAGE_MAX_SIDE = 2048;
+    private static final int IMAGE_SHORT_SIDE = 768;
+
+    private final Encoding encoding;
+
+    public TokenCounter(AiSummarizerConfig config) {
+        this(config.getModel());
+    }
+
+    TokenCounter(String model) {
+        EncodingRegistry registry = Encodings.newLazyEncodingRegistry();
+        this.encoding = registry.getEncodingForModel(model)
+                .orElseGet(() -> registry.getEncoding(EncodingType.O200K_BASE));
+        logger.info("Counting tokens for model {} with encoding {}", model, encoding.getName());
+    }
+
+    /**
+     * Tokens of plain text. Special-token markers in user content are counted as ordinary text.
+     */
+    public int count(String text) {
+        return text == null || text.isEmpty() ? 0 : encoding.countTokensOrdinary(text);
+    }
+
+    /**
+     * Tokens of one user message with the given text and images.
+     */
+    public int countMessage(String prompt, List<ImageData> images) {
+        return MESSAGE_OVERHEAD_TOKENS + count(prompt) + countImages(images);
+    }
+
+    public int countImages(List<ImageData> images) {
+        int tokens = 0;
+        for (ImageData image : images) {
+            tokens += countImage(image);
+        }
+        return tokens;
+    }
+
+    /**
+     * High-detail image cost: the image is scaled to fit 2048x2048, then its shorter side to
+     * 768 pixels, and every 512x512 tile costs 170 tokens on top of a base of 85.
+     */
+    public int countImage(ImageData image) {
+        int[] size = readSize(image.getData());
+        if (size == null) {
+            return DEFAULT_IMAGE_TOKENS;
+        }
+        return imageTokens(size[0], size[1]);
+    }
+
+    /**
+     * Cuts {@code text} to at most {@code maxTokens} tokens on a token boundary.
+     */
+    public String truncate(String text, int maxTokens) {
+        if (text == null || maxTokens <= 0) {
+            return "";
+        }
+        EncodingResult result = encoding.encodeOrdinary(text, maxTokens);
+        return result.isTruncated() ? encoding.decode(result.getTokens()) : text;
+    }
+
+    static int imageTokens(int width, int height) {
+        double w = width;
+        double h = height;
+
+        double fit = Math.min(1.0, IMAGE_MAX_SIDE / Math.max(w, h));
+        w *= fit;
+        h *= fit;
+
+        double shorten = Math.min(1.0, IMAGE_SHORT_SIDE / Math.min(w, h));
+        w *= shorten;
+        h *= shorten;
+
+        int tiles = (int) (Math.ceil(w / IMAGE_TILE_SIZE) * Math.ceil(h / IMAGE_TILE_SIZE));
+        return IMAGE_BASE_TOKENS + IMAGE_TILE_TOKENS * tiles;
+    }
+
+    private static int[] readSize(byte[] data) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return new int[]{reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
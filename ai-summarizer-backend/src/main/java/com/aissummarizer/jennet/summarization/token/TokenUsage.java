@@ -0,0 +1,21 @@
+package com.aissummarizer.jennet.summarization.token;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Running token totals of all model calls made for one summary. Thread-safe, since the map
+ * step of chunked summarization calls the model in parallel.
+ */
+public final class TokenUsage {
+
+    private final AtomicInteger promptTokens = new AtomicInteger();
+    private final AtomicInteger completionTokens = new AtomicInteger();
+
+    public void record(int prompt, int completion) {
+        promptTokens.addAndGet(prompt);
+        completionTokens.addAndGet(completion);
+    }
+
+    public int getPromptTokens() { return promptTokens.get(); }
+    public int getCompletionTokens() { return completionTokens.get(); }
+}
@@ -49,6 +49,29 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("Success"));
     }
 
+    /**
+     * Returns one page of the authenticated user's summarization history, newest first.
+     * Items contain a summary preview; pass {@code nextCursor} back as {@code cursor} for the next page.
+     */
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<SummarizationHistoryPage>> getHistory(
+            Authentication authentication,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                userService.userSummarizationHistory(authentication.getName(), cursor, limit)));
+    }
+
+    /**
+     * Returns a single history item of the authenticated user with the full summary text.
+     */
+    @GetMapping("/history/{summaryId}")
+    public ResponseEntity<ApiResponse<UserSummarizationHistoryResponse>> getHistoryItem(
+            Authentication authentication,
+            @PathVariable String summaryId) {
+        return ResponseEntity.ok(ApiResponse.success(userService.getSummarization(authentication.getName(), summaryId)));
+    }
+
     @GetMapping("/get-users")
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponse<List<UserProfileDto>>> getAllUsers() {
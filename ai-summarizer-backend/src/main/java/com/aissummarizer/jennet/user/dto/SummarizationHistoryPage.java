@@ -0,0 +1,18 @@
+package com.aissummarizer.jennet.user.dto;
+
+import java.util.List;
+
+/**
+ * One page of a user's summarization history, newest first.
+ *
+ * <p>Returned by:
+ *  - GET /api/user/history
+ *
+ * <p>Items carry a preview of the summary; the full text is loaded per item
+ * through GET /api/user/history/{id}. {@code nextCursor} is null on the last page.
+ */
+public record SummarizationHistoryPage(
+        List<UserSummarizationHistoryResponse> items,
+        String nextCursor
+) {
+}
@@ -63,10 +63,4 @@ public class UserEntity {
     @JsonFormat(pattern = "MMM dd, yyyy 'on' HH:mm", locale = "en")
     private LocalDateTime updatedAt;
 
-    @Column(name = "refresh_token", length = 512)
-    private String refreshToken;
-
-    @Column(name = "refresh_token_expires_at")
-    private LocalDateTime refreshTokenExpiresAt;
-
 }
\ No newline at end of file
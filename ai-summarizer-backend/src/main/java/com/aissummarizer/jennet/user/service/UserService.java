@@ -1,6 +1,7 @@
 package com.aissummarizer.jennet.user.service;
 
 import com.aissummarizer.jennet.auth.dto.RegisterRequest;
+import com.aissummarizer.jennet.user.dto.SummarizationHistoryPage;
 import com.aissummarizer.jennet.user.dto.UpdateDto;
 import com.aissummarizer.jennet.user.dto.UserProfileDto;
 import com.aissummarizer.jennet.user.dto.UserProfileResponse;
@@ -8,7 +9,6 @@ import com.aissummarizer.jennet.user.dto.UserSummarizationHistoryResponse;
 import com.aissummarizer.jennet.user.entity.UserEntity;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Defines the business operations related to users.
@@ -65,11 +65,25 @@ public interface UserService {
      */
     String updateProfile(UpdateDto userProfileDto);
 
-    void saveRefreshToken(String userId, String refreshToken);
-
-    Optional<UserEntity> findByRefreshToken(String refreshToken);
+    /**
+     * Returns one keyset page of the user's summarization history, newest first.
+     * Items contain a summary preview only.
+     *
+     * @param userName owner of the history
+     * @param cursor   {@code nextCursor} of the previous page, or null for the first page
+     * @param limit    page size (1-100)
+     * @return the page and the cursor of the next one
+     */
+    SummarizationHistoryPage userSummarizationHistory(String userName, String cursor, int limit);
 
-    List<UserSummarizationHistoryResponse> userSummarizationHistory(String userId);
+    /**
+     * Returns a single history item of the user, including the full summary text.
+     *
+     * @param userName  owner of the history
+     * @param summaryId summarization id
+     * @return the history item
+     */
+    UserSummarizationHistoryResponse getSummarization(String userName, String summaryId);
 
     void deleteSummary(String summaryId);
 
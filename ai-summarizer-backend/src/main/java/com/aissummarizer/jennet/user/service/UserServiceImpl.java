@@ -1,11 +1,15 @@
 package com.aissummarizer.jennet.user.service;
 
 import com.aissummarizer.jennet.auth.dto.RegisterRequest;
+import com.aissummarizer.jennet.auth.service.RefreshTokenService;
 import com.aissummarizer.jennet.common.enums.Role;
 import com.aissummarizer.jennet.common.exception.BadRequestException;
 import com.aissummarizer.jennet.common.exception.NotFoundException;
-import com.aissummarizer.jennet.summarization.entity.SummarizationEntity;
+import com.aissummarizer.jennet.security.PrincipalCache;
+import com.aissummarizer.jennet.summarization.dto.HistoryCursor;
+import com.aissummarizer.jennet.summarization.dto.SummarizationHistoryRow;
 import com.aissummarizer.jennet.summarization.service.SummarizationService;
+import com.aissummarizer.jennet.user.dto.SummarizationHistoryPage;
 import com.aissummarizer.jennet.user.dto.UpdateDto;
 import com.aissummarizer.jennet.user.dto.UserProfileDto;
 import com.aissummarizer.jennet.user.dto.UserProfileResponse;
@@ -18,10 +22,10 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the UserService interface.
@@ -36,6 +40,11 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder encoder;
     private final SummarizationService summarizationService;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
+
+    private static final int PROFILE_HISTORY_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
 
     /**
@@ -51,30 +60,10 @@ public class UserServiceImpl implements UserService {
         // Fetch user
         UserEntity user = getByUserName(userName);
 
-        // Fetch summarization history belonging to this user
-        List<SummarizationEntity> history =
-                summarizationService.findByUserId(user.getId());
-
-        System.out.println("SUMMARIZATION HISTORY:");
-        System.out.println(history.toString());
-
-        // Convert each entity → DTO (never expose entities directly)
-        List<UserSummarizationHistoryResponse> historyDtos = history.stream()
-                .map(h -> new UserSummarizationHistoryResponse(
-                        h.getId(),
-                        h.getCreatedAt(),
-                        h.getResult().getSummary(),
-                        h.getSummaryType().toString(),
-                        h.getDocumentType().getExtension(),
-                        h.getDocumentUpload().getOriginalFilename(),
-                        h.getMetadata().getImageCount(),
-                        h.getMetadata().getParagraphCount(),
-                        h.getMetadata().getSlideCount(),
-                        h.getMetadata().getProcessingTime(),
-                        h.getMetadata().getTableCount(),
-                        h.getMetadata().getWordCount(),
-                        h.getDocumentUpload().getFileSize()
-                        ))
+        // Only the newest page of history previews; older pages come from /api/user/history
+        List<UserSummarizationHistoryResponse> historyDtos = summarizationService
+                .findHistoryPage(user.getId(), null, PROFILE_HISTORY_SIZE).stream()
+                .map(UserServiceImpl::toHistoryResponse)
                 .toList();
 
         // Build final profile response
@@ -134,6 +123,9 @@ public class UserServiceImpl implements UserService {
         UserEntity user = getByUserName(userName);
         user.setPassword(encoder.encode(rawNewPassword));
         userRepository.save(user);
+        principalCache.invalidate(userName);
+        // Sessions opened with the old password end at their next refresh
+        refreshTokenService.revokeAll(user.getId());
     }
 
     @Override
@@ -154,44 +146,35 @@ public class UserServiceImpl implements UserService {
             user.setEmail(dto.email());
         }
         userRepository.save(user);
+        principalCache.invalidate(user.getUserName());
         return "Success";
     }
 
     @Override
-    public void saveRefreshToken(String userId, String refreshToken) {
-        UserEntity user = getById(userId);
-        user.setRefreshToken(refreshToken);
-        user.setRefreshTokenExpiresAt(LocalDateTime.now().plusDays(7));
-        userRepository.save(user);
-    }
+    public SummarizationHistoryPage userSummarizationHistory(String userName, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_PAGE_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        UserEntity user = getByUserName(userName);
+        HistoryCursor after = cursor == null || cursor.isBlank() ? null : HistoryCursor.decode(cursor);
 
-    @Override
-    public Optional<UserEntity> findByRefreshToken(String refreshToken) {
-        return userRepository.findAll().stream()
-                .filter(u -> refreshToken.equals(u.getRefreshToken()))
-                .findFirst();
+        // Fetch one extra row to learn whether another page exists
+        List<SummarizationHistoryRow> rows = summarizationService.findHistoryPage(user.getId(), after, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<SummarizationHistoryRow> page = hasMore ? rows.subList(0, limit) : rows;
+
+        return new SummarizationHistoryPage(
+                page.stream().map(UserServiceImpl::toHistoryResponse).toList(),
+                hasMore ? HistoryCursor.of(page.get(page.size() - 1)).encode() : null
+        );
     }
 
     @Override
-    public List<UserSummarizationHistoryResponse> userSummarizationHistory(String userId) {
-        List<SummarizationEntity> summarizationEntities = summarizationService.findByUserId(userId);
-        return summarizationEntities.stream()
-                .map(h -> new UserSummarizationHistoryResponse(
-                        h.getId(),
-                        h.getCreatedAt(),
-                        h.getResult().getSummary(),
-                        h.getSummaryType().toString(),
-                        h.getDocumentType().getExtension(),
-                        h.getDocumentUpload().getOriginalFilename(),
-                        h.getMetadata().getImageCount(),
-                        h.getMetadata().getParagraphCount(),
-                        h.getMetadata().getSlideCount(),
-                        h.getMetadata().getProcessingTime(),
-                        h.getMetadata().getTableCount(),
-                        h.getMetadata().getWordCount(),
-                        h.getDocumentUpload().getFileSize()
-                ))
-                .toList();
+    public UserSummarizationHistoryResponse getSummarization(String userName, String summaryId) {
+        UserEntity user = getByUserName(userName);
+        return summarizationService.findHistoryItem(user.getId(), summaryId)
+                .map(UserServiceImpl::toHistoryResponse)
+                .orElseThrow(() -> new NotFoundException("Summarization not found"));
     }
 
     @Override
@@ -202,28 +185,39 @@ public class UserServiceImpl implements UserService {
     @Override
     public List<UserProfileDto> getAllUsers() {
         List<UserEntity> users = userRepository.findAll();
-    return users.stream()
-        .map(user -> {
-            List<SummarizationEntity> history = summarizationService.findByUserId(user.getId());
-            List<UserSummarizationHistoryResponse> historyDtos = history.stream()
-                .map(h -> new UserSummarizationHistoryResponse(
-                        h.getId(),
-                        h.getCreatedAt(),
-                        h.getResult().getSummary(),
-                        h.getSummaryType().toString(),
-                        h.getDocumentType().getExtension(),
-                        h.getDocumentUpload().getOriginalFilename(),
-                        h.getMetadata().getImageCount(),
-                        h.getMetadata().getParagraphCount(),
-                        h.getMetadata().getSlideCount(),
-                        h.getMetadata().getProcessingTime(),
-                        h.getMetadata().getTableCount(),
-                        h.getMetadata().getWordCount(),
-                        h.getDocumentUpload().getFileSize()
-                ))
+
+        // One history query for all users instead of one (plus lazy loads) per user
+        Map<String, List<UserSummarizationHistoryResponse>> historyByUser = summarizationService
+                .findHistoryByUserIds(users.stream().map(UserEntity::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        SummarizationHistoryRow::userId,
+                        Collectors.mapping(UserServiceImpl::toHistoryResponse, Collectors.toList())));
+
+        return users.stream()
+                .map(user -> UserProfileDto.from(user, historyByUser.getOrDefault(user.getId(), List.of())))
                 .toList();
-            return UserProfileDto.from(user, historyDtos);
-        })
-        .toList();
     }
-}
\ No newline at end of file
+
+    private static UserSummarizationHistoryResponse toHistoryResponse(SummarizationHistoryRow h) {
+        return new UserSummarizationHistoryResponse(
+                h.id(),
+                h.createdAt(),
+                h.summary(),
+                h.summaryType() == null ? null : h.summaryType().toString(),
+                h.documentType() == null ? null : h.documentType().getExtension(),
+                h.fileName(),
+                zeroIfNull(h.imageCount()),
+                zeroIfNull(h.paragraphCount()),
+                zeroIfNull(h.slideCount()),
+                h.processingTime() == null ? 0 : h.processingTime(),
+                zeroIfNull(h.tableCount()),
+                zeroIfNull(h.wordCount()),
+                h.fileSize() == null ? 0 : h.fileSize()
+        );
+    }
+
+    private static int zeroIfNull(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
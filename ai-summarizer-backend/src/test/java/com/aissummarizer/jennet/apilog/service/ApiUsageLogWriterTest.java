@@ -0,0 +1,119 @@
+package com.aissummarizer.jennet.apilog.service;
+
+import com.aissummarizer.jennet.apilog.dto.ApiUsageLogEvent;
+import com.aissummarizer.jennet.config.ApiUsageLogConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ApiUsageLogWriter}.
+ */
+class ApiUsageLogWriterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    @DisplayName("submit should drop events when the queue is full")
+    void submit_shouldDropWhenQueueFull() {
+        // Given
+        ApiUsageLogConfig config = config(2, 10);
+        ApiUsageLogWriter writer = new ApiUsageLogWriter(config, jdbcTemplate, registry);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            writer.submit(event(i));
+        }
+
+        // Then
+        assertEquals(2.0, counter("queued"));
+        assertEquals(3.0, counter("dropped"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("submit should write on the caller thread when the queue is full and policy is CALLER_RUNS")
+    void submit_shouldWriteInlineWithCallerRuns() {
+        // Given
+        ApiUsageLogConfig config = config(1, 10);
+        config.setOverflowPolicy(ApiUsageLogConfig.OverflowPolicy.CALLER_RUNS);
+        ApiUsageLogWriter writer = new ApiUsageLogWriter(config, jdbcTemplate, registry);
+
+        // When
+        writer.submit(event(1));
+        writer.submit(event(2));
+
+        // Then
+        assertEquals(1.0, counter("caller_runs"));
+        assertEquals(0.0, counter("dropped"));
+        verify(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("stop should flush queued events in batches no larger than the max batch size")
+    void stop_shouldFlushQueuedEventsInBatches() {
+        // Given
+        ApiUsageLogConfig config = config(100, 4);
+        ApiUsageLogWriter writer = new ApiUsageLogWriter(config, jdbcTemplate, registry);
+        for (int i = 0; i < 10; i++) {
+            writer.submit(event(i));
+        }
+
+        // When
+        writer.start();
+        writer.stop();
+
+        // Then
+        ArgumentCaptor<BatchPreparedStatementSetter> batches = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate, atLeast(3)).batchUpdate(anyString(), batches.capture());
+        List<Integer> sizes = batches.getAllValues().stream().map(BatchPreparedStatementSetter::getBatchSize).toList();
+        assertEquals(10, sizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(sizes.stream().allMatch(size -> size <= 4));
+        assertEquals(10.0, counter("written"));
+    }
+
+    @Test
+    @DisplayName("submit should write synchronously once the writer has stopped")
+    void submit_shouldWriteSynchronouslyAfterStop() {
+        // Given
+        ApiUsageLogConfig config = config(100, 4);
+        ApiUsageLogWriter writer = new ApiUsageLogWriter(config, jdbcTemplate, registry);
+        writer.start();
+        writer.stop();
+
+        // When
+        writer.submit(event(1));
+
+        // Then
+        assertEquals(0.0, counter("queued"));
+        assertEquals(1.0, counter("written"));
+        verify(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    private double counter(String result) {
+        return registry.get("api.usage.log.events").tag("result", result).counter().count();
+    }
+
+    private static ApiUsageLogConfig config(int queueCapacity, int maxBatchSize) {
+        ApiUsageLogConfig config = new ApiUsageLogConfig();
+        config.setQueueCapacity(queueCapacity);
+        config.setMaxBatchSize(maxBatchSize);
+        config.setFlushIntervalMs(50);
+        return config;
+    }
+
+    private static ApiUsageLogEvent event(int i) {
+        return new ApiUsageLogEvent("user" + i, "/api/documents/summarize", "POST", 100, 200, 5, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,106 @@
+package com.aissummarizer.jennet.apilog.service;
+
+import com.aissummarizer.jennet.apilog.enums.RollupGranularity;
+import com.aissummarizer.jennet.apilog.repository.ApiUsageRollupRepository;
+import com.aissummarizer.jennet.common.exception.BadRequestException;
+import com.aissummarizer.jennet.config.ApiUsageRollupConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ApiUsageRollupServiceImpl}.
+ */
+class ApiUsageRollupServiceImplTest {
+
+    private final ApiUsageRollupConfig config = new ApiUsageRollupConfig();
+    private final ApiUsageRollupRepository repository = mock(ApiUsageRollupRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ApiUsageRollupServiceImpl service = new ApiUsageRollupServiceImpl(config, repository, jdbcTemplate);
+
+    @Test
+    @DisplayName("rollUp should start after the watermark and stop at the last closed bucket")
+    void rollUp_shouldCoverClosedBucketsAfterWatermark() {
+        // Given
+        config.setLatenessMs(120_000);
+        when(repository.findLatestBucketStart(RollupGranularity.MINUTE))
+                .thenReturn(Optional.of(LocalDateTime.of(2025, 3, 1, 10, 0)));
+
+        // When
+        service.rollUp(RollupGranularity.MINUTE, LocalDateTime.of(2025, 3, 1, 10, 10, 30));
+
+        // Then
+        verify(jdbcTemplate).update(contains("DATE_TRUNC('minute'"), eq("MINUTE"),
+                eq(Timestamp.valueOf(LocalDateTime.of(2025, 3, 1, 10, 1))),
+                eq(Timestamp.valueOf(LocalDateTime.of(2025, 3, 1, 10, 8))));
+    }
+
+    @Test
+    @DisplayName("rollUp should start from the oldest raw row when nothing was rolled up yet")
+    void rollUp_shouldStartFromOldestRawRow() {
+        // Given
+        when(repository.findLatestBucketStart(RollupGranularity.HOUR)).thenReturn(Optional.empty());
+        when(jdbcTemplate.queryForObject(contains("MIN(created_at)"), eq(Timestamp.class)))
+                .thenReturn(Timestamp.valueOf(LocalDateTime.of(2025, 3, 1, 7, 42)));
+
+        // When
+        service.rollUp(RollupGranularity.HOUR, LocalDateTime.of(2025, 3, 1, 10, 30));
+
+        // Then
+        verify(jdbcTemplate).update(contains("DATE_TRUNC('hour'"), eq("HOUR"),
+                eq(Timestamp.valueOf(LocalDateTime.of(2025, 3, 1, 7, 0))),
+                eq(Timestamp.valueOf(LocalDateTime.of(2025, 3, 1, 10, 0))));
+    }
+
+    @Test
+    @DisplayName("rollUp should do nothing while the next bucket is still open")
+    void rollUp_shouldSkipOpenBucket() {
+        // Given
+        when(repository.findLatestBucketStart(RollupGranularity.DAY))
+                .thenReturn(Optional.of(LocalDateTime.of(2025, 2, 28, 0, 0)));
+
+        // When
+        int rows = service.rollUp(RollupGranularity.DAY, LocalDateTime.of(2025, 3, 1, 23, 0));
+
+        // Then
+        assertEquals(0, rows);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("applyRetention should keep raw rows that no day rollup covers")
+    void applyRetention_shouldNotDeleteUnrolledRawRows() {
+        // Given
+        config.setRawRetentionDays(2);
+        LocalDateTime now = LocalDateTime.of(2025, 3, 10, 12, 0);
+        when(repository.findLatestBucketStart(RollupGranularity.DAY))
+                .thenReturn(Optional.of(LocalDateTime.of(2025, 3, 5, 0, 0)));
+
+        // When
+        service.applyRetention(now);
+
+        // Then
+        verify(jdbcTemplate).update(contains("DELETE FROM api_usage_logs"),
+                eq(Timestamp.valueOf(LocalDateTime.of(2025, 3, 6, 0, 0))));
+    }
+
+    @Test
+    @DisplayName("getRollups should reject an empty time range")
+    void getRollups_shouldRejectEmptyRange() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+        // When / Then
+        assertThrows(BadRequestException.class,
+                () -> service.getRollups(RollupGranularity.HOUR, time, time, null, null, 0, 10));
+    }
+}
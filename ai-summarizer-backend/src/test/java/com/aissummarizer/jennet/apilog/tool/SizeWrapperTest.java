@@ -0,0 +1,136 @@
+package com.aissummarizer.jennet.apilog.tool;
+
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RequestSizeWrapper} and {@link ResponseSizeWrapper}.
+ */
+class SizeWrapperTest {
+
+    @Test
+    @DisplayName("request size should count bytes read by the application")
+    void requestSize_shouldCountBytesRead() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(new byte[1234]);
+        RequestSizeWrapper wrapper = new RequestSizeWrapper(request);
+
+        // When
+        try (InputStream in = wrapper.getInputStream()) {
+            in.readAllBytes();
+        }
+
+        // Then
+        assertEquals(1234, wrapper.getRequestSize());
+    }
+
+    @Test
+    @DisplayName("closing the counted request stream should close the underlying stream")
+    void requestStream_shouldDelegateClose() throws IOException {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        MockHttpServletRequest request = new MockHttpServletRequest() {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(new ByteArrayInputStream(new byte[10])) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                };
+            }
+        };
+        RequestSizeWrapper wrapper = new RequestSizeWrapper(request);
+
+        // When
+        wrapper.getInputStream().close();
+
+        // Then
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("request size should fall back to Content-Length when the body is not read")
+    void requestSize_shouldUseContentLengthWhenUnread() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(new byte[500]);
+
+        // When
+        RequestSizeWrapper wrapper = new RequestSizeWrapper(request);
+
+        // Then
+        assertEquals(500, wrapper.getRequestSize());
+    }
+
+    @Test
+    @DisplayName("response size should count bytes written to the output stream and pass them through")
+    void responseSize_shouldCountStreamBytes() throws IOException {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ResponseSizeWrapper wrapper = new ResponseSizeWrapper(response);
+
+        // When
+        wrapper.getOutputStream().write(new byte[300]);
+        wrapper.getOutputStream().write(7);
+
+        // Then
+        assertEquals(301, wrapper.getResponseSize());
+        assertEquals(301, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("response size should count encoded UTF-8 bytes written through the writer")
+    void responseSize_shouldCountUtf8WriterBytes() throws IOException {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        ResponseSizeWrapper wrapper = new ResponseSizeWrapper(response);
+        String body = "{\"summary\":\"Zusammenfassung für Ärzte\"}";
+
+        // When
+        PrintWriter writer = wrapper.getWriter();
+        writer.write(body);
+        writer.flush();
+
+        // Then
+        assertEquals(body.getBytes(StandardCharsets.UTF_8).length, wrapper.getResponseSize());
+        assertEquals(body, response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("response size should count line separators written by println")
+    void responseSize_shouldCountPrintlnNewlines() throws IOException {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        ResponseSizeWrapper wrapper = new ResponseSizeWrapper(response);
+
+        // When
+        PrintWriter writer = wrapper.getWriter();
+        writer.println("line one");
+        writer.println();
+        writer.print('x');
+        writer.flush();
+
+        // Then
+        String expected = "line one" + System.lineSeparator() + System.lineSeparator() + "x";
+        assertEquals(expected, response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(expected.length(), wrapper.getResponseSize());
+    }
+}
@@ -0,0 +1,33 @@
+package com.aissummarizer.jennet.document.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ImageData}.
+ */
+class ImageDataTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 1000, 100_000})
+    @DisplayName("getDataUrl should match standard base64 encoding for every padding case")
+    void getDataUrl_shouldMatchBase64Encoder(int size) {
+        // Given
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        ImageData image = new ImageData(data, "png");
+
+        // When
+        String url = image.getDataUrl();
+
+        // Then
+        assertEquals("data:image/png;base64," + Base64.getEncoder().encodeToString(data), url);
+        assertEquals(size, image.getSizeBytes());
+    }
+}
@@ -0,0 +1,168 @@
+package com.aissummarizer.jennet.document.extractor;
+
+import com.aissummarizer.jennet.config.PdfExtractionConfig;
+import com.aissummarizer.jennet.document.enums.ImageFormat;
+import com.aissummarizer.jennet.document.model.PdfDocumentContent;
+import com.aissummarizer.jennet.document.model.PdfPage;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PdfPageStream} and the incremental and parallel modes of {@link PdfDocumentExtractor}.
+ */
+class PdfPageStreamTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("stream should yield every page in order with its text")
+    void stream_shouldYieldPagesInOrder() throws IOException {
+        // Given
+        Path pdf = createPdf("first page", "second page", "third page");
+
+        // When
+        List<PdfPage> pages;
+        try (PdfPageStream stream = extractor(new PdfExtractionConfig()).openPages(pdf, false)) {
+            pages = stream.stream().toList();
+        }
+
+        // Then
+        assertEquals(3, pages.size());
+        assertEquals(1, pages.get(0).pageNumber());
+        assertEquals("first page", pages.get(0).text());
+        assertEquals("third page", pages.get(2).text());
+        assertNull(pages.get(0).image());
+        assertTrue(Files.exists(pdf));
+    }
+
+    @Test
+    @DisplayName("openPages from an input stream should delete its temp copy on close")
+    void openPages_shouldDeleteSpooledCopyOnClose() throws IOException {
+        // Given
+        Path pdf = createPdf("only page");
+        long tempFilesBefore;
+        try (var files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            tempFilesBefore = files.filter(p -> p.getFileName().toString().startsWith("jennet-pdf-")).count();
+        }
+
+        // When
+        try (InputStream in = Files.newInputStream(pdf);
+             PdfPageStream stream = extractor(new PdfExtractionConfig()).openPages(in, false)) {
+            assertEquals(1, stream.getPageCount());
+        }
+
+        // Then
+        try (var files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            assertEquals(tempFilesBefore,
+                    files.filter(p -> p.getFileName().toString().startsWith("jennet-pdf-")).count());
+        }
+    }
+
+    @Test
+    @DisplayName("stream should not render text-only pages that have enough text")
+    void stream_shouldSkipRenderingTextOnlyPages() throws IOException {
+        // Given
+        Path pdf = createPdf("first page", "second page");
+        PdfExtractionConfig config = new PdfExtractionConfig();
+        config.setMinTextChars(5);
+
+        // When
+        List<PdfPage> pages;
+        try (PdfPageStream stream = extractor(config).openPages(pdf, true)) {
+            pages = stream.stream().toList();
+        }
+
+        // Then
+        assertTrue(pages.stream().noneMatch(PdfPage::hasImageXObjects));
+        assertTrue(pages.stream().allMatch(page -> page.image() == null));
+    }
+
+    @Test
+    @DisplayName("stream should render text-poor pages up to the image budget")
+    void stream_shouldRenderTextPoorPagesWithinBudget() throws IOException {
+        // Given
+        Path pdf = createPdf("a", "b", "c");
+        PdfExtractionConfig config = new PdfExtractionConfig();
+        config.setMaxImages(2);
+        config.setImageFormat(ImageFormat.JPEG);
+
+        // When
+        List<PdfPage> pages;
+        try (PdfPageStream stream = extractor(config).openPages(pdf, true)) {
+            pages = stream.stream().toList();
+        }
+
+        // Then
+        assertNotNull(pages.get(0).image());
+        assertEquals("jpeg", pages.get(0).image().getFormat());
+        assertNotNull(pages.get(1).image());
+        assertNull(pages.get(2).image());
+    }
+
+    @Test
+    @DisplayName("extract should return the same content in parallel and sequential mode")
+    void extract_shouldMatchSequentialInParallelMode() throws Exception {
+        // Given
+        String[] texts = new String[40];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = "page number " + (i + 1);
+        }
+        Path pdf = createPdf(texts);
+
+        PdfExtractionConfig sequential = new PdfExtractionConfig();
+        sequential.setParallelEnabled(false);
+        sequential.setMinTextChars(5);
+        PdfExtractionConfig parallel = new PdfExtractionConfig();
+        parallel.setParallelMinPages(1);
+        parallel.setPagesPerTask(4);
+        parallel.setMinTextChars(5);
+
+        // When
+        PdfDocumentContent expected = extractor(sequential).extract(pdf);
+        PdfDocumentContent actual = extractor(parallel).extract(pdf);
+
+        // Then
+        assertEquals(40, actual.getTotalPages());
+        assertEquals(expected.getTextPages(), actual.getTextPages());
+        assertEquals("page number 40", actual.getTextPages().get(39));
+    }
+
+    private static PdfDocumentExtractor extractor(PdfExtractionConfig config) {
+        return new PdfDocumentExtractor(config, ForkJoinPool.commonPool());
+    }
+
+    private Path createPdf(String... pageTexts) throws IOException {
+        Path file = tempDir.resolve("sample.pdf");
+        try (PDDocument document = new PDDocument()) {
+            for (String text : pageTexts) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText(text);
+                    content.endText();
+                }
+            }
+            document.save(file.toFile());
+        }
+        return file;
+    }
+}
@@ -0,0 +1,132 @@
+package com.aissummarizer.jennet.document.tools;
+
+import com.aissummarizer.jennet.config.ImageProcessingConfig;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.model.PdfDocumentContent;
+import com.aissummarizer.jennet.document.model.PdfPage;
+import com.aissummarizer.jennet.document.service.DocumentContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ImagePreprocessor}.
+ */
+class ImagePreprocessorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("process should drop images with identical bytes")
+    void process_shouldDropDuplicates() throws IOException {
+        // Given
+        ImageData logo = png(100, 50, Color.RED);
+        DocumentContent content = pdf(logo, logo, png(100, 50, Color.BLUE));
+
+        // When
+        DocumentContent result = preprocessor(new ImageProcessingConfig()).process(content);
+
+        // Then
+        assertEquals(2, result.getImages().size());
+        assertEquals(1.0, registry.get("document.images.processed").tag("outcome", "duplicate").counter().count());
+    }
+
+    @Test
+    @DisplayName("process should downscale images larger than the max edge")
+    void process_shouldDownscaleLargeImages() throws IOException {
+        // Given
+        ImageProcessingConfig config = new ImageProcessingConfig();
+        config.setMaxEdgePx(256);
+        DocumentContent content = pdf(png(1024, 512, Color.GREEN));
+
+        // When
+        ImageData result = preprocessor(config).process(content).getImages().get(0);
+
+        // Then
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(result.getData()));
+        assertEquals(256, decoded.getWidth());
+        assertEquals(128, decoded.getHeight());
+        assertEquals("jpeg", result.getFormat());
+    }
+
+    @Test
+    @DisplayName("process should stop adding images once the count budget is spent")
+    void process_shouldEnforceImageBudget() throws IOException {
+        // Given
+        ImageProcessingConfig config = new ImageProcessingConfig();
+        config.setMaxImagesPerRequest(2);
+        DocumentContent content = pdf(png(10, 10, Color.RED), png(10, 10, Color.GREEN), png(10, 10, Color.BLUE));
+
+        // When
+        DocumentContent result = preprocessor(config).process(content);
+
+        // Then
+        assertEquals(2, result.getImages().size());
+        assertEquals(1.0, registry.get("document.images.processed").tag("outcome", "over_budget").counter().count());
+    }
+
+    @Test
+    @DisplayName("process should drop images that cannot be decoded")
+    void process_shouldDropUndecodableImages() {
+        // Given
+        DocumentContent content = pdf(new ImageData(new byte[]{1, 2, 3, 4}, "emf"));
+
+        // When
+        DocumentContent result = preprocessor(new ImageProcessingConfig()).process(content);
+
+        // Then
+        assertTrue(result.getImages().isEmpty());
+    }
+
+    @Test
+    @DisplayName("process should return content unchanged when disabled")
+    void process_shouldSkipWhenDisabled() throws IOException {
+        // Given
+        ImageProcessingConfig config = new ImageProcessingConfig();
+        config.setEnabled(false);
+        ImageData logo = png(100, 50, Color.RED);
+        DocumentContent content = pdf(logo, logo);
+
+        // When
+        DocumentContent result = preprocessor(config).process(content);
+
+        // Then
+        assertSame(content, result);
+    }
+
+    private ImagePreprocessor preprocessor(ImageProcessingConfig config) {
+        return new ImagePreprocessor(config, registry);
+    }
+
+    private static DocumentContent pdf(ImageData... images) {
+        List<PdfPage> pages = new ArrayList<>();
+        for (int i = 0; i < images.length; i++) {
+            pages.add(new PdfPage(i + 1, "page text", true, images[i]));
+        }
+        return new PdfDocumentContent(pages, images.length);
+    }
+
+    private static ImageData png(int width, int height, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new ImageData(out.toByteArray(), "png");
+    }
+}
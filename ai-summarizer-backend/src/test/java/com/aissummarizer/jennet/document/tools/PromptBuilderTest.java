@@ -0,0 +1,97 @@
+package com.aissummarizer.jennet.document.tools;
+
+import com.aissummarizer.jennet.document.model.PdfDocumentContent;
+import com.aissummarizer.jennet.document.model.PdfPage;
+import com.aissummarizer.jennet.document.model.TxtDocumentContent;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PromptBuilder} and {@link PromptTemplate}.
+ */
+class PromptBuilderTest {
+
+    private final PromptBuilder promptBuilder = new PromptBuilder();
+
+    @Test
+    @DisplayName("buildPrompt should render the document type and full text")
+    void buildPrompt_shouldRenderDocument() {
+        // Given
+        PdfDocumentContent content = new PdfDocumentContent(List.of(
+                new PdfPage(1, "first page", false, null),
+                new PdfPage(2, "second page", false, null)), 2);
+        SummaryOptions options = SummaryOptions.builder().type(SummaryType.BRIEF).build();
+
+        // When
+        String prompt = promptBuilder.buildPrompt(content, options);
+
+        // Then
+        assertEquals("""
+                Summarize this PDF Document in 2-3 sentences.
+                Focus only on the most important information.
+
+                Content:
+                === PAGE 1 ===
+                first page
+
+                === PAGE 2 ===
+                second page
+
+
+                """, prompt);
+    }
+
+    @Test
+    @DisplayName("buildPrompt should use the custom instructions and call custom text 'text'")
+    void buildPrompt_shouldRenderCustomText() {
+        // Given
+        SummaryOptions custom = SummaryOptions.builder().type(SummaryType.CUSTOM).customPrompt("List all dates {as-is}.").build();
+        SummaryOptions keyPoints = SummaryOptions.builder().type(SummaryType.KEY_POINTS).build();
+
+        // Then
+        assertEquals("List all dates {as-is}.\n\nContent:\nbody\n", promptBuilder.buildPrompt("body", custom));
+        assertTrue(promptBuilder.buildPrompt("body", keyPoints).startsWith("Extract the key points from this text.\n"));
+    }
+
+    @Test
+    @DisplayName("every summary type should have a template")
+    void buildPrompt_shouldSupportEverySummaryType() {
+        TxtDocumentContent content = new TxtDocumentContent(List.of("a paragraph"));
+
+        for (SummaryType type : SummaryType.values()) {
+            SummaryOptions options = SummaryOptions.builder().type(type).customPrompt("instructions").build();
+            assertTrue(promptBuilder.buildPrompt(content, options).endsWith("Content:\na paragraph\n"), type.name());
+        }
+    }
+
+    @Test
+    @DisplayName("getAllText should build the document text once")
+    void getAllText_shouldBeMemoized() {
+        PdfDocumentContent content = new PdfDocumentContent(List.of(new PdfPage(1, "page", false, null)), 1);
+
+        assertSame(content.getAllText(), content.getAllText());
+    }
+
+    @Test
+    @DisplayName("PromptTemplate should render repeated and positional placeholders")
+    void template_shouldRenderPlaceholders() {
+        PromptTemplate template = PromptTemplate.compile("{b}-{a}-{b}", "a", "b");
+
+        assertEquals("2-1-2", template.render("1", "2"));
+        assertEquals("null-x-null", template.render("x", null));
+    }
+
+    @Test
+    @DisplayName("PromptTemplate should reject unknown placeholders and wrong arity")
+    void template_shouldValidate() {
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("{missing}", "a"));
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("{a", "a"));
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("{a}", "a").render("1", "2"));
+    }
+}
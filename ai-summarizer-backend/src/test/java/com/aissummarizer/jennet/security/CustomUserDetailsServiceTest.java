@@ -0,0 +1,115 @@
+package com.aissummarizer.jennet.security;
+
+import com.aissummarizer.jennet.common.enums.Role;
+import com.aissummarizer.jennet.config.PrincipalCacheConfig;
+import com.aissummarizer.jennet.user.entity.UserEntity;
+import com.aissummarizer.jennet.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CustomUserDetailsService} with {@link PrincipalCache}.
+ */
+class CustomUserDetailsServiceTest {
+
+    private final PrincipalCacheConfig config = new PrincipalCacheConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PrincipalCache principalCache = new PrincipalCache(config, registry);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CustomUserDetailsService service = new CustomUserDetailsService(userRepository, principalCache);
+
+    @Test
+    @DisplayName("repeated lookups should hit the database once")
+    void loadUserByUsername_shouldCachePrincipal() {
+        // Given
+        when(userRepository.findByUserName("alice")).thenReturn(Optional.of(user("alice", "hash-1")));
+
+        // When
+        UserDetails first = service.loadUserByUsername("alice");
+        UserDetails second = service.loadUserByUsername("alice");
+
+        // Then
+        verify(userRepository, times(1)).findByUserName("alice");
+        assertEquals("hash-1", second.getPassword());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        assertEquals(1.0, registry.get("principal.cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("erasing credentials of a returned principal should not affect the cache")
+    void loadUserByUsername_shouldReturnFreshInstances() {
+        // Given
+        when(userRepository.findByUserName("alice")).thenReturn(Optional.of(user("alice", "hash-1")));
+        ((User) service.loadUserByUsername("alice")).eraseCredentials();
+
+        // When
+        UserDetails cached = service.loadUserByUsername("alice");
+
+        // Then
+        assertEquals("hash-1", cached.getPassword());
+    }
+
+    @Test
+    @DisplayName("invalidate should make the next lookup read the database again")
+    void invalidate_shouldReload() {
+        // Given
+        when(userRepository.findByUserName("alice"))
+                .thenReturn(Optional.of(user("alice", "hash-1")))
+                .thenReturn(Optional.of(user("alice", "hash-2")));
+        service.loadUserByUsername("alice");
+
+        // When
+        principalCache.invalidate("alice");
+        UserDetails reloaded = service.loadUserByUsername("alice");
+
+        // Then
+        verify(userRepository, times(2)).findByUserName("alice");
+        assertEquals("hash-2", reloaded.getPassword());
+    }
+
+    @Test
+    @DisplayName("unknown users should not be cached")
+    void loadUserByUsername_shouldNotCacheMisses() {
+        // Given
+        when(userRepository.findByUserName("ghost")).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("ghost"));
+        verify(userRepository, times(2)).findByUserName("ghost");
+    }
+
+    @Test
+    @DisplayName("a disabled cache should always read the database")
+    void loadUserByUsername_shouldBypassDisabledCache() {
+        // Given
+        config.setEnabled(false);
+        when(userRepository.findByUserName("alice")).thenReturn(Optional.of(user("alice", "hash-1")));
+
+        // When
+        service.loadUserByUsername("alice");
+        service.loadUserByUsername("alice");
+
+        // Then
+        verify(userRepository, times(2)).findByUserName("alice");
+    }
+
+    private static UserEntity user(String userName, String password) {
+        return UserEntity.builder()
+                .id("id-" + userName)
+                .userName(userName)
+                .password(password)
+                .email(userName + "@example.com")
+                .role(Role.ROLE_USER)
+                .build();
+    }
+}
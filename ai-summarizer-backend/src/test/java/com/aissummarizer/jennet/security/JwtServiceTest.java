@@ -0,0 +1,145 @@
+package com.aissummarizer.jennet.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link JwtService}.
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private JwtService service(long expirationMs, boolean cacheEnabled) {
+        return new JwtService(SECRET, expirationMs, 604_800_000, cacheEnabled, 100, 300_000, registry);
+    }
+
+    @Test
+    @DisplayName("verify should return subject and expiration of a valid token")
+    void verify_shouldReturnClaims() {
+        // Given
+        JwtService jwtService = service(3_600_000, false);
+        String token = jwtService.generateAccessToken("alice");
+
+        // When
+        VerifiedToken verified = jwtService.verify(token);
+
+        // Then
+        assertEquals("alice", verified.username());
+        assertTrue(verified.expiresAt().isAfter(Instant.now()));
+        assertTrue(jwtService.isTokenValid(token, "alice"));
+        assertFalse(jwtService.isTokenValid(token, "bob"));
+    }
+
+    @Test
+    @DisplayName("verify should reject expired and tampered tokens")
+    void verify_shouldRejectInvalidTokens() {
+        // Given
+        JwtService expiring = service(-1_000, true);
+        String expired = expiring.generateAccessToken("alice");
+        String token = service(3_600_000, true).generateAccessToken("alice");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When / Then
+        assertThrows(ExpiredJwtException.class, () -> expiring.verify(expired));
+        assertTrue(expiring.isExpired(expired));
+        assertThrows(JwtException.class, () -> service(3_600_000, true).verify(tampered));
+    }
+
+    @Test
+    @DisplayName("a repeated token should be served from the verified-token cache")
+    void verify_shouldCacheVerifiedTokens() {
+        // Given
+        JwtService jwtService = service(3_600_000, true);
+        String token = jwtService.generateAccessToken("alice");
+
+        // When
+        VerifiedToken first = jwtService.verify(token);
+        VerifiedToken second = jwtService.verify(token);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1.0, registry.get("jwt.verified.cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("tokens signed with another secret should be rejected")
+    void verify_shouldRejectForeignSignature() {
+        // Given
+        JwtService other = new JwtService("other-secret-other-secret-other-secret-other",
+                3_600_000, 604_800_000, true, 100, 300_000, registry);
+        String foreign = other.generateAccessToken("alice");
+
+        // When / Then
+        assertThrows(JwtException.class, () -> service(3_600_000, true).verify(foreign));
+    }
+
+    @Test
+    @DisplayName("refresh tokens should be validated without touching the cache")
+    void validateRefreshToken_shouldReturnUsername() {
+        // Given
+        JwtService jwtService = service(3_600_000, true);
+        String refreshToken = jwtService.generateRefreshToken("alice");
+
+        // When / Then
+        assertEquals("alice", jwtService.validateAndExtractUsernameFromRefreshToken(refreshToken));
+        assertEquals(0.0, registry.get("jwt.verified.cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("verify should reject refresh tokens")
+    void verify_shouldRejectRefreshToken() {
+        // Given
+        JwtService jwtService = service(3_600_000, true);
+        String refreshToken = jwtService.generateRefreshToken("alice");
+
+        // When / Then
+        assertThrows(JwtException.class, () -> jwtService.verify(refreshToken));
+
+        // Rejected tokens are never cached, so a second attempt fails as well
+        assertThrows(JwtException.class, () -> jwtService.verify(refreshToken));
+        assertFalse(jwtService.isTokenValid(refreshToken, "alice"));
+    }
+
+    @Test
+    @DisplayName("verifyRefreshToken should reject access tokens")
+    void verifyRefreshToken_shouldRejectAccessToken() {
+        // Given
+        JwtService jwtService = service(3_600_000, true);
+        String accessToken = jwtService.generateAccessToken("alice");
+
+        // When / Then
+        assertThrows(JwtException.class, () -> jwtService.verifyRefreshToken(accessToken));
+        assertThrows(JwtException.class, () -> jwtService.validateAndExtractUsernameFromRefreshToken(accessToken));
+        assertEquals("alice", jwtService.verify(accessToken).username());
+    }
+
+    @Test
+    @DisplayName("tokens without a type claim should be rejected by both verify methods")
+    void verify_shouldRejectUntypedToken() {
+        // Given
+        JwtService jwtService = service(3_600_000, false);
+        String untyped = Jwts.builder()
+                .subject("alice")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // When / Then
+        assertThrows(JwtException.class, () -> jwtService.verify(untyped));
+        assertThrows(JwtException.class, () -> jwtService.verifyRefreshToken(untyped));
+    }
+}
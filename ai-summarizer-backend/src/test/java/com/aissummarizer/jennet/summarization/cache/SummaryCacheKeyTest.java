@@ -0,0 +1,73 @@
+package com.aissummarizer.jennet.summarization.cache;
+
+import com.aissummarizer.jennet.document.model.TxtDocumentContent;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SummaryCacheKey}.
+ */
+class SummaryCacheKeyTest {
+
+    private static final String MODEL = "gpt-5-mini";
+
+    @Test
+    @DisplayName("of should return the same key for identical content, options and model")
+    void of_shouldBeStableForIdenticalInputs() {
+        // Given
+        SummaryOptions options = SummaryOptions.builder().type(SummaryType.BRIEF).build();
+
+        // When
+        String first = SummaryCacheKey.of(content("Quarterly results"), options, MODEL);
+        String second = SummaryCacheKey.of(content("Quarterly results"), options, MODEL);
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(64, first.length());
+    }
+
+    @Test
+    @DisplayName("of should change the key when any option or the model changes")
+    void of_shouldDependOnOptionsAndModel() {
+        // Given
+        TxtDocumentContent content = content("Quarterly results");
+        SummaryOptions base = SummaryOptions.builder().type(SummaryType.BRIEF).build();
+        String baseKey = SummaryCacheKey.of(content, base, MODEL);
+
+        // When & Then
+        assertNotEquals(baseKey, SummaryCacheKey.of(content,
+                SummaryOptions.builder().type(SummaryType.COMPREHENSIVE).build(), MODEL));
+        assertNotEquals(baseKey, SummaryCacheKey.of(content,
+                SummaryOptions.builder().type(SummaryType.BRIEF).maxTokens(500).build(), MODEL));
+        assertNotEquals(baseKey, SummaryCacheKey.of(content,
+                SummaryOptions.builder().type(SummaryType.BRIEF).temperature(0.5).build(), MODEL));
+        assertNotEquals(baseKey, SummaryCacheKey.of(content,
+                SummaryOptions.builder().type(SummaryType.BRIEF).customPrompt("focus on risks").build(), MODEL));
+        assertNotEquals(baseKey, SummaryCacheKey.of(content, base, "gpt-5"));
+    }
+
+    @Test
+    @DisplayName("of should not collide when text moves between adjacent fields")
+    void of_shouldNotCollideAcrossFieldBoundaries() {
+        // Given
+        SummaryOptions withPrompt = SummaryOptions.builder().customPrompt("ab").build();
+        SummaryOptions withoutPrompt = SummaryOptions.builder().customPrompt("").build();
+
+        // When
+        String first = SummaryCacheKey.of(content("c"), withPrompt, MODEL);
+        String second = SummaryCacheKey.of(content("abc"), withoutPrompt, MODEL);
+
+        // Then
+        assertNotEquals(first, second);
+    }
+
+    private static TxtDocumentContent content(String text) {
+        return new TxtDocumentContent(List.of(text));
+    }
+}
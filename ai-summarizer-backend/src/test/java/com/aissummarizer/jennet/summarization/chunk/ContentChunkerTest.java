@@ -0,0 +1,136 @@
+package com.aissummarizer.jennet.summarization.chunk;
+
+import com.aissummarizer.jennet.config.AiSummarizerConfig;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.aissummarizer.jennet.document.model.PdfDocumentContent;
+import com.aissummarizer.jennet.document.model.PdfPage;
+import com.aissummarizer.jennet.document.model.PptxDocumentContent;
+import com.aissummarizer.jennet.document.model.SlideContent;
+import com.aissummarizer.jennet.summarization.token.TokenCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ContentChunker}.
+ */
+class ContentChunkerTest {
+
+    private final TokenCounter tokenCounter = new TokenCounter(new AiSummarizerConfig());
+    private final ContentChunker chunker = new ContentChunker(tokenCounter);
+
+    @Test
+    @DisplayName("chunk should pack consecutive pages into one chunk while they fit the budget")
+    void chunk_shouldPackPagesWithinBudget() {
+        // Given
+        String page = "word ".repeat(100).strip();
+        PdfDocumentContent content = pdf(page, page, page);
+        int budget = tokenCounter.count("[Page 1]\n" + page) + tokenCounter.count("[Page 2]\n" + page);
+
+        // When
+        List<ContentChunk> chunks = chunker.chunk(content, budget);
+
+        // Then
+        assertEquals(2, chunks.size());
+        assertEquals("Page 1 - Page 2", chunks.get(0).label());
+        assertEquals("Page 3", chunks.get(1).label());
+        assertEquals(budget, chunks.get(0).tokens());
+        assertEquals(tokenCounter.count(chunks.get(1).text()), chunks.get(1).tokens());
+    }
+
+    @Test
+    @DisplayName("chunk should split an oversized page on word boundaries")
+    void chunk_shouldSplitOversizedPage() {
+        // Given
+        String page = "word ".repeat(1000);
+        PdfDocumentContent content = pdf(page);
+
+        // When
+        List<ContentChunk> chunks = chunker.chunk(content, 300);
+
+        // Then
+        assertTrue(chunks.size() > 1);
+        assertTrue(chunks.stream().allMatch(chunk -> tokenCounter.count(chunk.text()) <= 300));
+        assertTrue(chunks.getFirst().label().startsWith("Page 1 (part 1/"));
+        for (ContentChunk chunk : chunks) {
+            String body = chunk.text().substring(chunk.text().indexOf('\n') + 1);
+            assertTrue(body.startsWith("word"));
+            assertTrue(body.endsWith("word"));
+        }
+        assertEquals(1000, chunks.stream()
+                .mapToInt(chunk -> chunk.text().split("word", -1).length - 1)
+                .sum());
+    }
+
+    @Test
+    @DisplayName("chunk should reject a non-positive budget")
+    void chunk_shouldRejectNonPositiveBudget() {
+        // Given
+        PdfDocumentContent content = pdf("text");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> chunker.chunk(content, 0));
+    }
+
+    @Test
+    @DisplayName("chunk should label pages with their source page numbers and keep images on their page")
+    void chunk_shouldKeepImagesOnSourcePage() {
+        // Given
+        ImageData chart = image(1);
+        String text = "word ".repeat(100).strip();
+        PdfDocumentContent content = new PdfDocumentContent(List.of(
+                new PdfPage(1, text, false, null),
+                new PdfPage(2, "", false, null),
+                new PdfPage(3, text, true, chart)), 3);
+        int budget = tokenCounter.count("[Page 3]\n" + text) + tokenCounter.countImage(chart);
+
+        // When
+        List<ContentChunk> chunks = chunker.chunk(content, budget);
+
+        // Then
+        assertEquals(2, chunks.size());
+        assertEquals("Page 1", chunks.get(0).label());
+        assertTrue(chunks.get(0).images().isEmpty());
+        assertEquals("Page 3", chunks.get(1).label());
+        assertEquals(List.of(chart), chunks.get(1).images());
+    }
+
+    @Test
+    @DisplayName("chunk should spread the images of an image-heavy section over budget-sized parts")
+    void chunk_shouldSpreadImagesAcrossParts() {
+        // Given
+        List<ImageData> images = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            images.add(image(i));
+        }
+        PptxDocumentContent content = new PptxDocumentContent(List.of(
+                new SlideContent(1, List.of("word ".repeat(200)), images)));
+
+        // When
+        List<ContentChunk> chunks = chunker.chunk(content, 4000);
+
+        // Then
+        assertEquals(20, chunks.stream().mapToInt(chunk -> chunk.images().size()).sum());
+        assertTrue(chunks.size() < 20);
+        assertTrue(chunks.getFirst().text().contains("word"));
+        for (ContentChunk chunk : chunks) {
+            assertTrue(chunk.tokens() <= 4000, chunk.label() + ": " + chunk.tokens());
+        }
+    }
+
+    private static PdfDocumentContent pdf(String... pages) {
+        List<PdfPage> extracted = new ArrayList<>();
+        for (int i = 0; i < pages.length; i++) {
+            extracted.add(new PdfPage(i + 1, pages[i], false, null));
+        }
+        return new PdfDocumentContent(extracted, pages.length);
+    }
+
+    private static ImageData image(int seed) {
+        return new ImageData(new byte[]{(byte) seed, 1, 2, 3}, "png");
+    }
+}
@@ -0,0 +1,36 @@
+package com.aissummarizer.jennet.summarization.dto;
+
+import com.aissummarizer.jennet.common.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HistoryCursor}.
+ */
+class HistoryCursorTest {
+
+    @Test
+    @DisplayName("encode and decode should round-trip the keyset with microsecond precision")
+    void encodeDecode_shouldRoundTrip() {
+        // Given
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2025, 5, 4, 13, 2, 9, 123_456_000), "0b6f-42|x");
+
+        // When
+        HistoryCursor decoded = HistoryCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("decode should reject malformed tokens")
+    void decode_shouldRejectMalformedToken() {
+        // When / Then
+        assertThrows(BadRequestException.class, () -> HistoryCursor.decode("not a cursor"));
+        assertThrows(BadRequestException.class, () -> HistoryCursor.decode("bm8tc2VwYXJhdG9y"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.aissummarizer.jennet.summarization.provider;
+
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.config.ChatModelProviderConfig;
+import com.aissummarizer.jennet.document.dto.ImageData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OpenAiCompatibleChatModelProvider}, against a local HTTP server
+ * that records the request and replays a canned response.
+ */
+class OpenAiCompatibleChatModelProviderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AtomicReference<String> requestPath = new AtomicReference<>();
+    private final AtomicReference<String> requestBody = new AtomicReference<>();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+
+    private HttpServer server;
+    private ChatModelProviderConfig config;
+    private int responseStatus;
+    private String responseBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requestPath.set(exchange.getRequestURI().getPath());
+            requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+
+            byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(responseStatus, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        config = new ChatModelProviderConfig();
+        config.getCompatible().setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/v1/");
+        config.getCompatible().setModel("llama-3.1-8b-instruct");
+        config.getCompatible().setApiKey("local-key");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("complete should post a chat completion body and return the message content")
+    void complete_shouldSendBodyAndReadMessage() throws IOException {
+        // Given
+        respond(200, """
+                {"choices":[{"index":0,"message":{"role":"assistant","content":"A short summary."}}]}
+                """);
+        OpenAiCompatibleChatModelProvider provider = new OpenAiCompatibleChatModelProvider(config);
+
+        // When
+        String text = provider.complete(new ChatModelRequest("Summarize this.", List.of(), 512, 0.3));
+
+        // Then
+        assertEquals("A short summary.", text);
+        assertEquals("/v1/chat/completions", requestPath.get());
+        assertEquals("Bearer local-key", authorization.get());
+
+        JsonNode body = MAPPER.readTree(requestBody.get());
+        assertEquals("llama-3.1-8b-instruct", body.path("model").asText());
+        assertEquals(512, body.path("max_tokens").asInt());
+        assertFalse(body.has("max_completion_tokens"));
+        assertEquals(0.3, body.path("temperature").asDouble(), 1e-9);
+        assertFalse(body.path("stream").asBoolean());
+        assertEquals(1, body.path("messages").size());
+        assertEquals("user", body.path("messages").get(0).path("role").asText());
+        assertEquals("Summarize this.", body.path("messages").get(0).path("content").asText());
+    }
+
+    @Test
+    @DisplayName("complete should send images as content parts only when the model supports them")
+    void complete_shouldSendImagePartsWhenSupported() throws IOException {
+        // Given
+        respond(200, "{\"choices\":[{\"message\":{\"content\":\"ok\"}}]}");
+        List<ImageData> images = List.of(new ImageData(new byte[]{1, 2, 3}, "png"));
+        ChatModelRequest request = new ChatModelRequest("Describe.", images, 256, 1.0);
+
+        // When
+        new OpenAiCompatibleChatModelProvider(config).complete(request);
+        JsonNode textOnly = MAPPER.readTree(requestBody.get()).path("messages").get(0).path("content");
+
+        config.getCompatible().setSupportsImages(true);
+        new OpenAiCompatibleChatModelProvider(config).complete(request);
+        JsonNode withImages = MAPPER.readTree(requestBody.get()).path("messages").get(0).path("content");
+
+        // Then
+        assertTrue(textOnly.isTextual());
+        assertTrue(withImages.isArray());
+        assertEquals(2, withImages.size());
+        assertEquals("text", withImages.get(0).path("type").asText());
+        assertEquals("image_url", withImages.get(1).path("type").asText());
+        assertTrue(withImages.get(1).path("image_url").path("url").asText().startsWith("data:"));
+    }
+
+    @Test
+    @DisplayName("stream should emit every SSE delta, skip other lines and stop at [DONE]")
+    void stream_shouldParseServerSentEvents() throws IOException {
+        // Given
+        respond(200, """
+                : keep-alive
+
+                data: {"choices":[{"delta":{"role":"assistant"}}]}
+
+                data: {"choices":[{"delta":{"content":"Hello"}}]}
+
+                event: message
+                data: {"choices":[{"delta":{"content":" world"}}]}
+
+                data: [DONE]
+
+                data: {"choices":[{"delta":{"content":" ignored"}}]}
+                """);
+        OpenAiCompatibleChatModelProvider provider = new OpenAiCompatibleChatModelProvider(config);
+        List<String> chunks = new ArrayList<>();
+
+        // When
+        String text = provider.stream(new ChatModelRequest("Stream it.", List.of(), 128, 1.0), chunks::add);
+
+        // Then
+        assertEquals("Hello world", text);
+        assertEquals(List.of("Hello", " world"), chunks);
+        assertTrue(MAPPER.readTree(requestBody.get()).path("stream").asBoolean());
+    }
+
+    @Test
+    @DisplayName("complete should fail with the status and error body on a non-2xx response")
+    void complete_shouldFailOnErrorStatus() {
+        // Given
+        respond(503, "{\"error\":\"model is loading\"}");
+        OpenAiCompatibleChatModelProvider provider = new OpenAiCompatibleChatModelProvider(config);
+        ChatModelRequest request = new ChatModelRequest("Summarize this.", List.of(), 512, 1.0);
+
+        // When
+        AiSummarizationException error = assertThrows(AiSummarizationException.class, () -> provider.complete(request));
+
+        // Then
+        assertTrue(error.getMessage().contains("HTTP 503"));
+        assertTrue(error.getMessage().contains("model is loading"));
+    }
+
+    private void respond(int status, String body) {
+        this.responseStatus = status;
+        this.responseBody = body;
+    }
+}
@@ -0,0 +1,135 @@
+package com.aissummarizer.jennet.summarization.provider;
+
+import com.aissummarizer.jennet.config.ChatModelProviderConfig;
+import com.aissummarizer.jennet.config.ChatModelProviderConfig.StubProfile;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StubChatModelProvider}.
+ */
+class StubChatModelProviderTest {
+
+    private ChatModelProviderConfig config;
+    private StubChatModelProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        config = new ChatModelProviderConfig();
+        config.getStub().setProfile("instant");
+        provider = new StubChatModelProvider(config);
+    }
+
+    @Test
+    @DisplayName("complete should return the same text for the same request")
+    void complete_shouldBeDeterministic() {
+        // Given
+        ChatModelRequest request = new ChatModelRequest("alpha beta gamma", List.of(), 1000, 1.0);
+
+        // When
+        String first = provider.complete(request);
+        String second = provider.complete(request);
+
+        // Then
+        assertEquals(first, second);
+        assertTrue(first.startsWith("alpha beta gamma alpha"));
+    }
+
+    @Test
+    @DisplayName("complete should cap the response at the completion budget")
+    void complete_shouldRespectMaxTokens() {
+        // Given
+        ChatModelRequest request = new ChatModelRequest("one two three", List.of(), 5, 1.0);
+
+        // When
+        String text = provider.complete(request);
+
+        // Then
+        assertEquals("one two three one two", text);
+    }
+
+    @Test
+    @DisplayName("stream should emit one chunk per token that join to the blocking result")
+    void stream_shouldMatchComplete() {
+        // Given
+        ChatModelRequest request = new ChatModelRequest("lorem ipsum dolor", List.of(), 7, 1.0);
+        List<String> chunks = new ArrayList<>();
+
+        // When
+        String streamed = provider.stream(request, chunks::add);
+
+        // Then
+        assertEquals(7, chunks.size());
+        assertEquals(streamed, String.join("", chunks));
+        assertEquals(provider.complete(request), streamed);
+    }
+
+    @Test
+    @DisplayName("complete should take at least the first-token latency plus generation time")
+    void complete_shouldFollowProfile() {
+        // Given: 100ms to first token, then 10 tokens at 200 tokens/s = 45ms more
+        config.getStub().getProfiles().put("test", new StubProfile(100, 200, 10, 0));
+        config.getStub().setProfile("test");
+        ChatModelRequest request = new ChatModelRequest("word", List.of(), 1000, 1.0);
+
+        // When
+        long start = System.nanoTime();
+        provider.complete(request);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertTrue(elapsedMs >= 145, "elapsed " + elapsedMs + "ms");
+    }
+
+    @Test
+    @DisplayName("jitter should stay within the profile bounds and be stable per prompt")
+    void jitter_shouldBeBoundedAndStable() {
+        StubProfile profile = new StubProfile(100, 0, 10, 20);
+
+        for (int i = 0; i < 1000; i++) {
+            double jitter = StubChatModelProvider.jitter("prompt " + i, profile);
+            assertTrue(jitter >= 0.8 && jitter <= 1.2, "jitter " + jitter);
+            assertEquals(jitter, StubChatModelProvider.jitter("prompt " + i, profile));
+        }
+    }
+
+    @Test
+    @DisplayName("an unknown profile should be rejected")
+    void activeProfile_shouldRejectUnknown() {
+        config.getStub().setProfile("missing");
+
+        assertThrows(IllegalStateException.class,
+                () -> provider.complete(new ChatModelRequest("x", List.of(), 10, 1.0)));
+    }
+
+    @Test
+    @DisplayName("the router should honour per-type routes and reject unknown providers")
+    void router_shouldRouteByType() {
+        // Given
+        config.setDefaultProvider(StubChatModelProvider.NAME);
+        ChatModelProvider brief = new StubChatModelProvider(config) {
+            @Override
+            public String getName() {
+                return "brief";
+            }
+        };
+        config.getRoutes().put(SummaryType.BRIEF, "brief");
+
+        // When
+        ChatModelRouter router = new ChatModelRouter(config, List.of(provider, brief));
+
+        // Then
+        assertSame(brief, router.forType(SummaryType.BRIEF));
+        assertSame(provider, router.forType(SummaryType.COMPREHENSIVE));
+
+        config.getRoutes().put(SummaryType.QUIZ, "missing");
+        assertThrows(IllegalStateException.class, () -> new ChatModelRouter(config, List.of(provider, brief)));
+    }
+}
@@ -0,0 +1,197 @@
+package com.aissummarizer.jennet.summarization.repository;
+
+import com.aissummarizer.jennet.common.enums.Role;
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.summarization.dto.SummarizationHistoryRow;
+import com.aissummarizer.jennet.summarization.entity.SummarizationEntity;
+import com.aissummarizer.jennet.summarization.entity.SummaryMetadataEntity;
+import com.aissummarizer.jennet.summarization.entity.SummaryResultEntity;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.user.entity.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-count and keyset paging tests for the history projections of {@link SummarizationRepository}.
+ * <p>
+ * Runs against an embedded H2 database with Hibernate statistics enabled.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SummarizationRepositoryQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SummarizationRepository summarizationRepository;
+
+    private Statistics statistics;
+    private UserEntity alice;
+    private UserEntity bob;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        alice = user("alice");
+        bob = user("bob");
+        for (int i = 0; i < 5; i++) {
+            summarization(alice, "alice summary " + i, true);
+            summarization(bob, "bob summary " + i, true);
+        }
+        summarization(alice, "alice summary without metadata", false);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findHistoryByUserId should load a full history page with one statement")
+    void findHistoryByUserId_shouldUseSingleQuery() {
+        // When
+        List<SummarizationHistoryRow> history = summarizationRepository.findHistoryByUserId(alice.getId());
+
+        // Then
+        assertEquals(6, history.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        SummarizationHistoryRow row = history.stream()
+                .filter(h -> "alice summary 0".equals(h.summary()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(alice.getId(), row.userId());
+        assertEquals(SummaryType.COMPREHENSIVE, row.summaryType());
+        assertEquals(DocumentType.PDF, row.documentType());
+        assertEquals("report.pdf", row.fileName());
+        assertEquals(2048L, row.fileSize());
+        assertEquals(120, row.wordCount());
+    }
+
+    @Test
+    @DisplayName("findHistoryByUserId should keep summarizations without metadata")
+    void findHistoryByUserId_shouldKeepRowsWithoutMetadata() {
+        // When
+        List<SummarizationHistoryRow> history = summarizationRepository.findHistoryByUserId(alice.getId());
+
+        // Then
+        SummarizationHistoryRow row = history.stream()
+                .filter(h -> "alice summary without metadata".equals(h.summary()))
+                .findFirst()
+                .orElseThrow();
+        assertNull(row.wordCount());
+    }
+
+    @Test
+    @DisplayName("findHistoryByUserIds should load every user's history with one statement")
+    void findHistoryByUserIds_shouldUseSingleQuery() {
+        // When
+        List<SummarizationHistoryRow> history =
+                summarizationRepository.findHistoryByUserIds(List.of(alice.getId(), bob.getId()));
+
+        // Then
+        assertEquals(11, history.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("keyset pages should cover the history exactly once, one statement per page")
+    void findHistoryPage_shouldWalkHistoryWithoutGapsOrDuplicates() {
+        // When
+        List<SummarizationHistoryRow> first = summarizationRepository.findHistoryPage(alice.getId(), PageRequest.of(0, 4));
+        SummarizationHistoryRow last = first.get(first.size() - 1);
+        List<SummarizationHistoryRow> second = summarizationRepository.findHistoryPageAfter(
+                alice.getId(), last.createdAt(), last.id(), PageRequest.of(0, 4));
+
+        // Then
+        assertEquals(4, first.size());
+        assertEquals(2, second.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        Set<String> ids = new HashSet<>();
+        first.forEach(row -> ids.add(row.id()));
+        second.forEach(row -> ids.add(row.id()));
+        assertEquals(6, ids.size());
+    }
+
+    @Test
+    @DisplayName("history pages should carry a summary preview and the item query the full text")
+    void findHistoryItem_shouldReturnFullSummary() {
+        // Given
+        String longSummary = "x".repeat(5000);
+        SummarizationEntity summarization = summarization(bob, longSummary, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        SummarizationHistoryRow preview = summarizationRepository.findHistoryPage(bob.getId(), PageRequest.of(0, 1)).get(0);
+        SummarizationHistoryRow item = summarizationRepository.findHistoryItem(bob.getId(), summarization.getId()).orElseThrow();
+
+        // Then
+        assertEquals(200, preview.summary().length());
+        assertEquals(longSummary, item.summary());
+        assertTrue(summarizationRepository.findHistoryItem(alice.getId(), summarization.getId()).isEmpty());
+    }
+
+    private UserEntity user(String name) {
+        return entityManager.persist(UserEntity.builder()
+                .userName(name)
+                .password("secret")
+                .email(name + "@example.com")
+                .role(Role.ROLE_USER)
+                .build());
+    }
+
+    private SummarizationEntity summarization(UserEntity user, String summary, boolean withMetadata) {
+        DocumentUploadEntity upload = entityManager.persist(DocumentUploadEntity.builder()
+                .user(user)
+                .documentType(DocumentType.PDF)
+                .originalFilename("report.pdf")
+                .fileExtension("pdf")
+                .fileSize(2048)
+                .build());
+
+        SummarizationEntity summarization = entityManager.persist(SummarizationEntity.builder()
+                .user(user)
+                .inputText("input")
+                .summaryType(SummaryType.COMPREHENSIVE)
+                .documentType(DocumentType.PDF)
+                .documentUpload(upload)
+                .build());
+
+        SummaryResultEntity result = entityManager.persist(SummaryResultEntity.builder()
+                .summarization(summarization)
+                .summary(summary)
+                .build());
+
+        if (withMetadata) {
+            entityManager.persist(SummaryMetadataEntity.builder()
+                    .summarization(summarization)
+                    .summaryResult(result)
+                    .wordCount(120)
+                    .build());
+        }
+        return summarization;
+    }
+}
@@ -0,0 +1,54 @@
+package com.aissummarizer.jennet.summarization.repository;
+
+import com.aissummarizer.jennet.summarization.entity.SummaryCacheEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Expiry cleanup of the persistent summary cache tier.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class SummaryCacheRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SummaryCacheRepository repository;
+
+    @Test
+    @DisplayName("deleteExpired should remove only entries that expired before now")
+    void deleteExpired_shouldKeepLiveEntries() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(entry("expired", now.minusHours(1)));
+        entityManager.persist(entry("live", now.plusHours(1)));
+        entityManager.flush();
+
+        // When
+        int deleted = repository.deleteExpired(now);
+        entityManager.clear();
+
+        // Then
+        assertEquals(1, deleted);
+        assertTrue(repository.findById("expired").isEmpty());
+        assertTrue(repository.findById("live").isPresent());
+    }
+
+    private static SummaryCacheEntity entry(String key, LocalDateTime expiresAt) {
+        return SummaryCacheEntity.builder()
+                .cacheKey(key)
+                .summary("summary of " + key)
+                .model("gpt-5-mini")
+                .createdAt(expiresAt.minusDays(7))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.enums.ErrorCode;
+import com.aissummarizer.jennet.common.exception.AiSummarizationException;
+import com.aissummarizer.jennet.common.exception.DocumentProcessingException;
+import com.aissummarizer.jennet.common.exception.NotFoundException;
+import com.aissummarizer.jennet.config.SummarizationJobConfig;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.document.service.DocumentSummarizerService;
+import com.aissummarizer.jennet.summarization.enums.JobStatus;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummarizationJob;
+import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import com.aissummarizer.jennet.summarization.model.SummaryResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SummarizationJobServiceImpl}.
+ */
+class SummarizationJobServiceImplTest {
+
+    private final DocumentSummarizerService summarizerService = mock(DocumentSummarizerService.class);
+    private final List<Runnable> queued = new ArrayList<>();
+    private final SummarizationJobServiceImpl service =
+            new SummarizationJobServiceImpl(summarizerService, queued::add, new SummarizationJobConfig());
+
+    private final SummaryOptions options = SummaryOptions.builder().type(SummaryType.BRIEF).build();
+    private final MockMultipartFile file = new MockMultipartFile(
+            "file", "notes.txt", "text/plain", "Some notes to summarize.".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("submit should queue the job and return it before the worker runs")
+    void submit_shouldQueueJob() throws Exception {
+        // When
+        SummarizationJob job = service.submit(file, options, "alice", null, "alice");
+
+        // Then
+        assertEquals(JobStatus.QUEUED, job.getStatus());
+        assertEquals("notes.txt", job.getFileName());
+        assertEquals(1, queued.size());
+        verifyNoInteractions(summarizerService);
+    }
+
+    @Test
+    @DisplayName("polling should return the result once the worker has finished")
+    void getJob_shouldReturnResultAfterCompletion() throws Exception {
+        // Given
+        SummaryResult result = new SummaryResult(
+                "Summary.", DocumentType.TXT, SummaryType.BRIEF, SummaryMetadata.builder().build());
+        when(summarizerService.summarizeDocument(any(), eq(options), eq("alice"), isNull())).thenReturn(result);
+        SummarizationJob submitted = service.submit(file, options, "alice", null, "alice");
+
+        // When
+        queued.get(0).run();
+        SummarizationJob polled = service.getJob(submitted.getId(), "alice");
+
+        // Then
+        assertEquals(JobStatus.SUCCEEDED, polled.getStatus());
+        assertSame(result, polled.getResult());
+    }
+
+    @Test
+    @DisplayName("a failing summarization should mark the job failed with an AI error code")
+    void getJob_shouldReportFailure() throws Exception {
+        // Given
+        when(summarizerService.summarizeDocument(any(), any(), any(), any()))
+                .thenThrow(new DocumentProcessingException("failed", new AiSummarizationException("down")));
+        SummarizationJob submitted = service.submit(file, options, "alice", null, "alice");
+
+        // When
+        queued.get(0).run();
+        SummarizationJob polled = service.getJob(submitted.getId(), "alice");
+
+        // Then
+        assertEquals(JobStatus.FAILED, polled.getStatus());
+        assertEquals(ErrorCode.AI_SERVICE_ERROR, polled.getErrorCode());
+        assertNull(polled.getResult());
+    }
+
+    @Test
+    @DisplayName("an unknown job id should be reported as not found")
+    void getJob_shouldRejectUnknownId() {
+        assertThrows(NotFoundException.class, () -> service.getJob("missing", "alice"));
+    }
+
+    @Test
+    @DisplayName("another user's job should be reported as not found")
+    void getJob_shouldRejectOtherOwner() throws Exception {
+        // Given
+        SummarizationJob submitted = service.submit(file, options, "alice", null, "alice");
+
+        // When / Then
+        assertThrows(NotFoundException.class, () -> service.getJob(submitted.getId(), "mallory"));
+    }
+}
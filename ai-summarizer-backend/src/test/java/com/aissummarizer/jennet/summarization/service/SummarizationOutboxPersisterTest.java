@@ -0,0 +1,173 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.enums.Role;
+import com.aissummarizer.jennet.config.SummarizationOutboxConfig;
+import com.aissummarizer.jennet.document.entity.DocumentUploadEntity;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.document.repository.DocumentUploadRepository;
+import com.aissummarizer.jennet.summarization.dto.SummarizationOutboxPayload;
+import com.aissummarizer.jennet.summarization.entity.SummarizationEntity;
+import com.aissummarizer.jennet.summarization.entity.SummarizationOutboxEntity;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
+import com.aissummarizer.jennet.summarization.repository.SummarizationOutboxRepository;
+import com.aissummarizer.jennet.summarization.repository.SummarizationRepository;
+import com.aissummarizer.jennet.user.entity.UserEntity;
+import com.aissummarizer.jennet.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SummarizationOutboxPersister}.
+ * <p>
+ * Runs without a surrounding test transaction so every outbox step commits on its own,
+ * as it does in production.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SummarizationOutboxServiceImpl.class, SummarizationServiceImpl.class, SummarizationOutboxConfig.class})
+class SummarizationOutboxPersisterTest {
+
+    private static final SummaryMetadata METADATA = SummaryMetadata.builder()
+            .wordCount(800)
+            .slideCount(12)
+            .processingTimeMs(1500)
+            .build();
+
+    @Autowired
+    private SummarizationOutboxConfig config;
+
+    @Autowired
+    private SummarizationOutboxService outboxService;
+
+    @Autowired
+    private SummarizationOutboxRepository outboxRepository;
+
+    @Autowired
+    private SummarizationRepository summarizationRepository;
+
+    @Autowired
+    private DocumentUploadRepository documentUploadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SummarizationOutboxPersister persister;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        config.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        persister = new SummarizationOutboxPersister(config, outboxService, meterRegistry);
+        user = userRepository.save(UserEntity.builder()
+                .userName("outbox-user")
+                .password("secret")
+                .email("outbox@example.com")
+                .role(Role.ROLE_USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        summarizationRepository.deleteAll();
+        documentUploadRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("drain should write upload and summarization and remove the outbox entry")
+    void drain_shouldPersistHistoryAndDeleteEntry() {
+        // Given
+        DocumentUploadEntity upload = DocumentUploadEntity.builder()
+                .user(user)
+                .originalFilename("deck.pptx")
+                .fileExtension("pptx")
+                .documentType(DocumentType.PPTX)
+                .fileSize(4096)
+                .build();
+        SummarizationOutboxPayload payload = SummarizationOutboxPayload.of(
+                user.getId(), upload, "prompt", "summary", DocumentType.PPTX, SummaryType.BRIEF, METADATA);
+        persister.submit(payload);
+
+        // When
+        int applied = persister.drain();
+
+        // Then
+        assertEquals(1, applied);
+        assertEquals(0, outboxRepository.count());
+        assertEquals(1, documentUploadRepository.count());
+        assertEquals(payload.createdAt(), documentUploadRepository.findAll().get(0).getUploadedAt());
+
+        List<SummarizationEntity> saved = summarizationRepository.findAll();
+        assertEquals(1, saved.size());
+        assertEquals(payload.createdAt(), saved.get(0).getCreatedAt());
+        assertEquals(1.0, meterRegistry.counter("summarization.outbox.events", "result", "persisted").count());
+    }
+
+    @Test
+    @DisplayName("drain should keep a failing entry and schedule a retry with backoff")
+    void drain_shouldRescheduleFailedEntry() {
+        // Given: the user no longer exists, so the foreign key check fails
+        persister.submit(SummarizationOutboxPayload.of(
+                "missing-user", null, "prompt", "summary", DocumentType.TXT, SummaryType.BRIEF, METADATA));
+
+        // When
+        int applied = persister.drain();
+
+        // Then
+        assertEquals(0, applied);
+        assertEquals(0, summarizationRepository.count());
+
+        SummarizationOutboxEntity entry = outboxRepository.findAll().get(0);
+        assertEquals(1, entry.getAttempts());
+        assertNotNull(entry.getLastError());
+        assertTrue(entry.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertTrue(outboxService.findDue(10).isEmpty());
+        assertEquals(1.0, meterRegistry.counter("summarization.outbox.events", "result", "retried").count());
+    }
+
+    @Test
+    @DisplayName("recordFailure should report an entry as exhausted after max attempts")
+    void recordFailure_shouldExhaustAfterMaxAttempts() {
+        // Given
+        Long id = outboxService.append(SummarizationOutboxPayload.of(
+                "missing-user", null, "prompt", "summary", DocumentType.TXT, SummaryType.BRIEF, METADATA));
+        RuntimeException error = new RuntimeException("boom");
+
+        // When / Then
+        assertFalse(outboxService.recordFailure(id, error));
+        assertFalse(outboxService.recordFailure(id, error));
+        assertTrue(outboxService.recordFailure(id, error));
+        assertEquals(1, outboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("backoff should double per attempt up to the configured maximum")
+    void backoff_shouldGrowExponentiallyAndCap() {
+        SummarizationOutboxConfig backoff = new SummarizationOutboxConfig();
+        backoff.setInitialBackoffMs(1000);
+        backoff.setMaxBackoffMs(10_000);
+
+        assertEquals(1000, backoff.backoffMs(1));
+        assertEquals(2000, backoff.backoffMs(2));
+        assertEquals(8000, backoff.backoffMs(4));
+        assertEquals(10_000, backoff.backoffMs(5));
+        assertEquals(10_000, backoff.backoffMs(100));
+    }
+}
@@ -0,0 +1,189 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.enums.Role;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.summarization.entity.SummarizationEntity;
+import com.aissummarizer.jennet.summarization.entity.SummaryMetadataEntity;
+import com.aissummarizer.jennet.summarization.entity.SummaryResultEntity;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
+import com.aissummarizer.jennet.summarization.repository.SummarizationRepository;
+import com.aissummarizer.jennet.summarization.repository.SummaryMetadataRepository;
+import com.aissummarizer.jennet.summarization.repository.SummaryResultRepository;
+import com.aissummarizer.jennet.user.entity.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trip tests for {@link SummarizationServiceImpl#saveSummarization}.
+ * <p>
+ * Statement counts come from Hibernate statistics and are compared with the previous write
+ * path (assigned ids, four separate repository saves, each in its own persistence context).
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import(SummarizationServiceImpl.class)
+class SummarizationPersistenceTest {
+
+    private static final SummaryMetadata METADATA = SummaryMetadata.builder()
+            .wordCount(1200)
+            .paragraphCount(30)
+            .processingTimeMs(2500)
+            .build();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SummarizationServiceImpl summarizationService;
+
+    @Autowired
+    private SummarizationRepository summarizationRepository;
+
+    @Autowired
+    private SummaryResultRepository summaryResultRepository;
+
+    @Autowired
+    private SummaryMetadataRepository metadataRepository;
+
+    private Statistics statistics;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = entityManager.persist(UserEntity.builder()
+                .userName("writer")
+                .password("secret")
+                .email("writer@example.com")
+                .role(Role.ROLE_USER)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("saveSummarization should insert summarization, result and metadata with three statements")
+    void saveSummarization_shouldUseThreeInserts() {
+        // When
+        SummarizationEntity saved = summarizationService.saveSummarization(
+                user, null, "prompt", "summary", DocumentType.PDF, SummaryType.BRIEF, METADATA, LocalDateTime.now());
+        entityManager.flush();
+
+        // Then
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getEntityInsertCount());
+
+        entityManager.clear();
+        SummaryResultEntity result = summaryResultRepository.findAll().get(0);
+        SummaryMetadataEntity metadata = metadataRepository.findAll().get(0);
+        assertEquals("summary", result.getSummary());
+        assertEquals(saved.getId(), result.getSummarization().getId());
+        assertEquals(result.getId(), metadata.getSummaryResult().getId());
+        assertEquals(1200, metadata.getWordCount());
+    }
+
+    @Test
+    @DisplayName("saveSummarization should keep the given creation time instead of stamping a new one")
+    void saveSummarization_shouldKeepGivenCreatedAt() {
+        // Given
+        LocalDateTime requestedAt = LocalDateTime.of(2025, 3, 14, 9, 26, 53);
+
+        // When
+        SummarizationEntity saved = summarizationService.saveSummarization(
+                user, null, "prompt", "summary", DocumentType.PDF, SummaryType.BRIEF, METADATA, requestedAt);
+        endTransaction();
+
+        // Then
+        assertEquals(requestedAt, summarizationRepository.findById(saved.getId()).orElseThrow().getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("saveSummarization should prepare fewer statements than separate repository saves")
+    void saveSummarization_shouldUseFewerStatementsThanSeparateSaves() {
+        // Given
+        int summaries = 10;
+
+        // When
+        for (int i = 0; i < summaries; i++) {
+            legacySave();
+        }
+        long legacyStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        for (int i = 0; i < summaries; i++) {
+            summarizationService.saveSummarization(
+                    user, null, "prompt", "summary", DocumentType.PDF, SummaryType.BRIEF, METADATA, LocalDateTime.now());
+            endTransaction();
+        }
+        long cascadedStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertEquals(3L * summaries, cascadedStatements);
+        assertEquals(3L * summaries, statistics.getEntityInsertCount());
+        assertTrue(legacyStatements > cascadedStatements,
+                "separate saves prepared " + legacyStatements + " statements");
+    }
+
+    /**
+     * The write sequence used before the cascaded path: assigned ids make every save a merge
+     * (select, then insert), and the final save merges the summarization once more.
+     */
+    private void legacySave() {
+        SummarizationEntity summarization = new SummarizationEntity();
+        summarization.setId(UUID.randomUUID().toString());
+        summarization.setUser(user);
+        summarization.setInputText("prompt");
+        summarization.setDocumentType(DocumentType.PDF);
+        summarization.setSummaryType(SummaryType.BRIEF);
+        summarization.setCreatedAt(LocalDateTime.now());
+        summarization = summarizationRepository.save(summarization);
+        endTransaction();
+
+        SummaryResultEntity result = new SummaryResultEntity();
+        result.setId(UUID.randomUUID().toString());
+        result.setSummarization(summarization);
+        result.setSummary("summary");
+        result = summaryResultRepository.save(result);
+        endTransaction();
+
+        SummaryMetadataEntity metadata = new SummaryMetadataEntity();
+        metadata.setId(UUID.randomUUID().toString());
+        metadata.setSummarization(summarization);
+        metadata.setSummaryResult(result);
+        metadata.setWordCount(METADATA.getWordCount());
+        metadata = metadataRepository.save(metadata);
+        endTransaction();
+
+        summarization.setMetadata(metadata);
+        summarization.setResult(result);
+        summarizationRepository.save(summarization);
+        endTransaction();
+    }
+
+    private void endTransaction() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,189 @@
+package com.aissummarizer.jennet.summarization.service;
+
+import com.aissummarizer.jennet.common.exception.DocumentProcessingException;
+import com.aissummarizer.jennet.config.SummarizationJobConfig;
+import com.aissummarizer.jennet.document.controller.DocumentController;
+import com.aissummarizer.jennet.document.enums.DocumentType;
+import com.aissummarizer.jennet.document.service.DocumentSummarizerService;
+import com.aissummarizer.jennet.document.service.DocumentUploadService;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import com.aissummarizer.jennet.summarization.model.SummaryMetadata;
+import com.aissummarizer.jennet.summarization.model.SummaryOptions;
+import com.aissummarizer.jennet.summarization.model.SummaryResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SummarizationStreamServiceImpl}, with the worker run inline and an
+ * emitter that records the events sent to the client.
+ */
+class SummarizationStreamServiceImplTest {
+
+    private final DocumentSummarizerService summarizerService = mock(DocumentSummarizerService.class);
+    private final CapturingEmitter emitter = new CapturingEmitter();
+
+    private final SummaryOptions options = SummaryOptions.builder().type(SummaryType.BRIEF).build();
+    private final MockMultipartFile file = new MockMultipartFile(
+            "file", "notes.txt", "text/plain", "Some notes to summarize.".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("chunk events should be sent in order before the done event")
+    void stream_shouldSendChunksBeforeDone() throws Exception {
+        // Given
+        streamChunks("Hello", " world");
+
+        // When
+        SseEmitter returned = service(Runnable::run).stream(file, options, "alice", null);
+
+        // Then
+        assertSame(emitter, returned);
+        assertEquals(List.of("chunk", "chunk", "done"), emitter.events);
+        assertTrue(emitter.payloads.get(0).contains("Hello"));
+        assertTrue(emitter.payloads.get(1).contains(" world"));
+        assertTrue(emitter.completed);
+        assertNull(emitter.completedWith);
+    }
+
+    @Test
+    @DisplayName("a client disconnect should abort the upstream stream and complete without an error event")
+    void stream_shouldAbortOnClientDisconnect() throws Exception {
+        // Given
+        List<String> generated = streamChunks("Hello", " world", "!");
+        emitter.failAfter = 1;
+
+        // When
+        service(Runnable::run).stream(file, options, "alice", null);
+
+        // Then
+        assertEquals(List.of("Hello", " world"), generated);
+        assertEquals(List.of("chunk"), emitter.events);
+        assertTrue(emitter.completed);
+        assertNull(emitter.completedWith);
+    }
+
+    @Test
+    @DisplayName("a saturated pool should delete the spooled upload and answer 429")
+    void stream_shouldReleaseUploadWhenRejected() throws Exception {
+        // Given
+        TaskExecutor saturated = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        DocumentUploadService uploadService = mock(DocumentUploadService.class);
+        DocumentController controller = new DocumentController(
+                summarizerService, uploadService, mock(SummarizationJobService.class), service(saturated));
+        List<Path> spooledBefore = spooledUploads();
+
+        // When
+        ResponseEntity<?> response = controller.summarizeStream(file, "alice", SummaryType.BRIEF, null, null);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals(spooledBefore, spooledUploads());
+        assertTrue(emitter.events.isEmpty());
+        verifyNoInteractions(summarizerService);
+    }
+
+    private SummarizationStreamServiceImpl service(TaskExecutor executor) {
+        return new SummarizationStreamServiceImpl(summarizerService, executor, new SummarizationJobConfig()) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    /**
+     * Stubs the summarizer to generate the given chunks, wrapping a failing consumer the way
+     * {@link DocumentSummarizerService#streamDocument} does. Returns the chunks generated.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> streamChunks(String... chunks) throws Exception {
+        List<String> generated = new ArrayList<>();
+        when(summarizerService.streamDocument(any(), eq(options), eq("alice"), isNull(), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<String> onChunk = invocation.getArgument(4);
+                    try {
+                        for (String chunk : chunks) {
+                            generated.add(chunk);
+                            onChunk.accept(chunk);
+                        }
+                    } catch (RuntimeException e) {
+                        throw new DocumentProcessingException("Unexpected error: " + e.getMessage(), e);
+                    }
+                    return new SummaryResult(String.join("", chunks), DocumentType.TXT, SummaryType.BRIEF,
+                            SummaryMetadata.builder().processingTimeMs(5).build());
+                });
+        return generated;
+    }
+
+    private static List<Path> spooledUploads() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(path -> path.getFileName().toString().startsWith("jennet-upload-"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Records event names and payloads instead of writing them, and fails every send after
+     * {@code failAfter} events as a closed connection would.
+     */
+    private static class CapturingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private final List<String> payloads = new ArrayList<>();
+        private int failAfter = Integer.MAX_VALUE;
+        private boolean completed;
+        private Throwable completedWith;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (events.size() >= failAfter) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder raw = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                raw.append(part.getData());
+            }
+            String text = raw.toString();
+            String name = text.lines()
+                    .filter(line -> line.startsWith("event:"))
+                    .map(line -> line.substring("event:".length()))
+                    .findFirst()
+                    .orElse("message");
+            events.add(name);
+            payloads.add(text);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+            completedWith = ex;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.aissummarizer.jennet.summarization.token;
+
+import com.aissummarizer.jennet.config.TokenBudgetConfig;
+import com.aissummarizer.jennet.summarization.enums.SummaryType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TokenBudgeter}.
+ */
+class TokenBudgeterTest {
+
+    private static final String MODEL = "gpt-4o-mini";
+    private static final String REASONING_MODEL = "gpt-5-mini";
+
+    private TokenBudgetConfig config;
+    private TokenBudgeter budgeter;
+
+    @BeforeEach
+    void setUp() {
+        config = new TokenBudgetConfig();
+        config.setContextWindowTokens(20_000);
+        config.setReservedTokens(500);
+        config.setMinCompletionTokens(1_000);
+        config.setReasoningMinCompletionTokens(4_000);
+        config.setCompletionRatio(0.25);
+        budgeter = new TokenBudgeter(config);
+    }
+
+    @Test
+    @DisplayName("completionTokens should scale with the prompt between the minimum and the cap")
+    void completionTokens_shouldScaleWithPrompt() {
+        assertEquals(1_000, budgeter.completionTokens(100, SummaryType.COMPREHENSIVE, 10_000, MODEL));
+        assertEquals(2_500, budgeter.completionTokens(10_000, SummaryType.COMPREHENSIVE, 10_000, MODEL));
+        assertEquals(2_000, budgeter.completionTokens(10_000, SummaryType.COMPREHENSIVE, 2_000, MODEL));
+    }
+
+    @Test
+    @DisplayName("completionTokens should never exceed the room left in the context window")
+    void completionTokens_shouldFitContext() {
+        // 20000 - 500 reserved - 18000 prompt leaves 1500
+        assertEquals(1_500, budgeter.completionTokens(18_000, SummaryType.QUIZ, 10_000, MODEL));
+    }
+
+    @Test
+    @DisplayName("completionTokens should use per-type ratios and respect a cap below the minimum")
+    void completionTokens_shouldUseTypeOverrides() {
+        // Given
+        TokenBudgetConfig.TypeSettings brief = new TokenBudgetConfig.TypeSettings();
+        brief.setCompletionRatio(0.5);
+        config.getTypes().put(SummaryType.BRIEF, brief);
+
+        // Then
+        assertEquals(4_000, budgeter.completionTokens(8_000, SummaryType.BRIEF, 10_000, MODEL));
+        assertEquals(2_000, budgeter.completionTokens(8_000, SummaryType.COMPREHENSIVE, 10_000, MODEL));
+        assertEquals(300, budgeter.completionTokens(100, SummaryType.BRIEF, 300, MODEL));
+    }
+
+    @Test
+    @DisplayName("completionTokens should give reasoning models their floor even above the requested cap")
+    void completionTokens_shouldKeepReasoningFloor() {
+        assertEquals(4_000, budgeter.completionTokens(100, SummaryType.BRIEF, 300, REASONING_MODEL));
+        assertEquals(4_000, budgeter.completionTokens(10_000, SummaryType.QUIZ, 10_000, REASONING_MODEL));
+        assertEquals(300, budgeter.completionTokens(100, SummaryType.BRIEF, 300, MODEL));
+    }
+
+    @Test
+    @DisplayName("maxPromptTokens should leave room for the reserve and the model's minimum completion")
+    void maxPromptTokens_shouldLeaveRoom() {
+        assertEquals(18_500, budgeter.maxPromptTokens(MODEL));
+        assertEquals(15_500, budgeter.maxPromptTokens(REASONING_MODEL));
+    }
+
+    @Test
+    @DisplayName("isReasoningModel should match configured prefixes case-insensitively")
+    void isReasoningModel_shouldMatchPrefixes() {
+        assertTrue(config.isReasoningModel("gpt-5-mini"));
+        assertTrue(config.isReasoningModel("O3-mini"));
+        assertFalse(config.isReasoningModel("gpt-4o-mini"));
+        assertFalse(config.isReasoningModel("llama-3.1-8b-instruct"));
+        assertFalse(config.isReasoningModel(null));
+    }
+
+    @Test
+    @DisplayName("costUsd should apply the per-million-token prices")
+    void costUsd_shouldApplyPrices() {
+        config.setInputUsdPerMillionTokens(1.0);
+        config.setOutputUsdPerMillionTokens(4.0);
+
+        assertEquals(0.006, budgeter.costUsd(2_000, 1_000), 1e-9);
+    }
+}
@@ -0,0 +1,92 @@
+package com.aissummarizer.jennet.summarization.token;
+
+import com.aissummarizer.jennet.document.dto.ImageData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TokenCounter}.
+ */
+class TokenCounterTest {
+
+    private final TokenCounter counter = new TokenCounter("gpt-5-mini");
+
+    @Test
+    @DisplayName("count should tokenize text with the bundled BPE tables")
+    void count_shouldTokenizeText() {
+        assertEquals(0, counter.count(null));
+        assertEquals(0, counter.count(""));
+        assertEquals(2, counter.count("hello world"));
+    }
+
+    @Test
+    @DisplayName("count should treat special-token markers in user text as ordinary text")
+    void count_shouldNotFailOnSpecialTokens() {
+        assertTrue(counter.count("before <|endoftext|> after") > 3);
+    }
+
+    @Test
+    @DisplayName("truncate should cut text on a token boundary within the budget")
+    void truncate_shouldRespectBudget() {
+        // Given
+        String text = "word ".repeat(1000);
+
+        // When
+        String truncated = counter.truncate(text, 100);
+
+        // Then
+        assertTrue(counter.count(truncated) <= 100);
+        assertTrue(text.startsWith(truncated));
+        assertSame(text, counter.truncate(text, 10_000));
+        assertEquals("", counter.truncate(text, 0));
+    }
+
+    @ParameterizedTest(name = "{0}x{1} -> {2} tokens")
+    @CsvSource({
+            "512, 512, 255",
+            "1024, 1024, 765",
+            "2048, 4096, 1105",
+            "4096, 1024, 765",
+            "100, 100, 255"
+    })
+    @DisplayName("imageTokens should follow the high-detail tile formula")
+    void imageTokens_shouldFollowTileFormula(int width, int height, int expected) {
+        assertEquals(expected, TokenCounter.imageTokens(width, height));
+    }
+
+    @Test
+    @DisplayName("countImage should read dimensions from the image header")
+    void countImage_shouldReadDimensions() throws IOException {
+        // Given
+        ImageData image = new ImageData(png(512, 512), "png");
+
+        // Then
+        assertEquals(255, counter.countImage(image));
+        assertEquals(TokenCounter.MESSAGE_OVERHEAD_TOKENS + 2 + 255,
+                counter.countMessage("hello world", List.of(image)));
+    }
+
+    @Test
+    @DisplayName("countImage should fall back to a flat cost for unreadable data")
+    void countImage_shouldFallBackForUnreadableData() {
+        ImageData image = new ImageData(new byte[]{1, 2, 3, 4}, "png");
+
+        assertEquals(TokenCounter.DEFAULT_IMAGE_TOKENS, counter.countImage(image));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}